@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+import static com.google.errorprone.matchers.Matchers.anyOf;
+import static com.google.errorprone.matchers.Matchers.isSubtypeOf;
+import static com.google.errorprone.matchers.method.MethodMatchers.instanceMethod;
+import static com.google.errorprone.matchers.method.MethodMatchers.staticMethod;
+
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.fixes.SuggestedFix;
+import com.google.errorprone.fixes.SuggestedFixes;
+import com.google.errorprone.matchers.Description;
+import com.google.errorprone.matchers.Matcher;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.code.Symbol.VarSymbol;
+import javax.lang.model.element.ElementKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of the analysis APIs that checks are built on, by compiling the {@link Corpus}
+ * with a single probe check that exercises one API on every tree it visits.
+ *
+ * <p>Compare against the {@code none} result of {@link ScannerBenchmark} to isolate the API cost.
+ */
+@State(Scope.Benchmark)
+public class AnalysisBenchmark extends ErrorProneBenchmark {
+
+  @Param({"Matchers", "MethodMatchers", "DataFlow", "SuggestedFixes"})
+  public String api;
+
+  /** The number of generated packages in the corpus; see {@link CorpusGenerator}. */
+  @Param({"100"})
+  public int generatedPackages;
+
+  private Corpus corpus;
+  private CorpusCompiler compiler;
+
+  @Setup
+  public void setUp() {
+    corpus = Corpus.load(generatedPackages);
+    Class<? extends BugChecker> probe =
+        switch (api) {
+          case "Matchers" -> MatchersProbe.class;
+          case "MethodMatchers" -> MethodMatchersProbe.class;
+          case "DataFlow" -> DataFlowProbe.class;
+          case "SuggestedFixes" -> SuggestedFixesProbe.class;
+          default -> throw new IllegalArgumentException(api);
+        };
+    compiler = CorpusCompiler.errorProne(ScannerSupplier.fromBugCheckerClasses(probe));
+  }
+
+  @Benchmark
+  public int compile() {
+    return compiler.compile(corpus);
+  }
+
+  /** Evaluates a composite type matcher on every variable declaration. */
+  @BugPattern(summary = "Benchmark probe for Matchers", severity = WARNING)
+  public static final class MatchersProbe extends BugChecker implements VariableTreeMatcher {
+    private static final Matcher<Tree> MATCHER =
+        anyOf(
+            isSubtypeOf("java.util.Collection"),
+            isSubtypeOf("java.util.Map"),
+            isSubtypeOf("java.lang.CharSequence"),
+            isSubtypeOf("java.util.concurrent.atomic.AtomicLong"));
+
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      MATCHER.matches(tree, state);
+      return Description.NO_MATCH;
+    }
+  }
+
+  /** Evaluates a set of method matchers on every method invocation. */
+  @BugPattern(summary = "Benchmark probe for MethodMatchers", severity = WARNING)
+  public static final class MethodMatchersProbe extends BugChecker
+      implements MethodInvocationTreeMatcher {
+    private static final Matcher<ExpressionTree> MATCHER =
+        anyOf(
+            instanceMethod().onDescendantOf("java.util.Collection").named("add"),
+            instanceMethod().onDescendantOf("java.util.Map").namedAnyOf("get", "put", "merge"),
+            instanceMethod().onExactClass("java.lang.StringBuilder").named("append"),
+            staticMethod().onClass("java.util.Objects").named("requireNonNull"),
+            staticMethod().onClass("java.lang.String").named("format"),
+            instanceMethod().onDescendantOf("java.lang.Iterable").named("iterator"));
+
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      MATCHER.matches(tree, state);
+      return Description.NO_MATCH;
+    }
+  }
+
+  /** Runs the nullness dataflow analysis on the receiver of every method invocation. */
+  @BugPattern(summary = "Benchmark probe for DataFlow", severity = WARNING)
+  public static final class DataFlowProbe extends BugChecker
+      implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      ExpressionTree receiver = ASTHelpers.getReceiver(tree);
+      if (receiver != null) {
+        state
+            .getNullnessAnalysis()
+            .getNullness(new TreePath(state.getPath(), receiver), state.context);
+      }
+      return Description.NO_MATCH;
+    }
+  }
+
+  /** Builds, but doesn't report, a rename and a qualified type for every local variable. */
+  @BugPattern(summary = "Benchmark probe for SuggestedFixes", severity = WARNING)
+  public static final class SuggestedFixesProbe extends BugChecker implements VariableTreeMatcher {
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      VarSymbol symbol = ASTHelpers.getSymbol(tree);
+      if (symbol.getKind() != ElementKind.LOCAL_VARIABLE || tree.getType() == null) {
+        return Description.NO_MATCH;
+      }
+      SuggestedFix.Builder fix = SuggestedFix.builder();
+      SuggestedFixes.qualifyType(state, fix, symbol.type);
+      fix.merge(SuggestedFixes.renameVariable(tree, tree.getName() + "Renamed", state));
+      fix.build();
+      return Description.NO_MATCH;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * A set of Java sources that the benchmarks compile.
+ *
+ * <p>The corpus consists of a few checked-in sources, and of application-style packages from
+ * {@link CorpusGenerator}, which bring it to a representative size. The sources are held in memory,
+ * so that benchmark iterations don't measure disk I/O.
+ */
+final class Corpus {
+
+  private static final String CORPUS_DIRECTORY = "corpus/";
+
+  /** Returns the default corpus. */
+  static Corpus load() {
+    return load(CorpusGenerator.DEFAULT_PACKAGES);
+  }
+
+  /**
+   * Returns the checked-in sources listed in {@code corpus.txt}, and {@code generatedPackages}
+   * generated packages.
+   */
+  static Corpus load(int generatedPackages) {
+    ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+    Splitter.on('\n')
+        .omitEmptyStrings()
+        .trimResults()
+        .splitToStream(read("corpus.txt"))
+        .forEach(fileName -> sources.add(new Source(fileName, read(CORPUS_DIRECTORY + fileName))));
+    CorpusGenerator.generate(generatedPackages)
+        .forEach((fileName, content) -> sources.add(new Source(fileName, content)));
+    return new Corpus(sources.build());
+  }
+
+  /** Returns a corpus containing a single source file. */
+  static Corpus of(String fileName, String content) {
+    return new Corpus(ImmutableList.of(new Source(fileName, content)));
+  }
+
+  private final ImmutableList<JavaFileObject> sources;
+
+  private Corpus(ImmutableList<JavaFileObject> sources) {
+    this.sources = sources;
+  }
+
+  ImmutableList<JavaFileObject> sources() {
+    return sources;
+  }
+
+  private static String read(String resourceName) {
+    try {
+      return Resources.toString(Resources.getResource(Corpus.class, resourceName), UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class Source extends SimpleJavaFileObject {
+    private final String content;
+
+    Source(String fileName, String content) {
+      super(URI.create("string:///corpus/" + fileName), Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.errorprone.BaseErrorProneJavaCompiler;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.tools.javac.api.JavacTool;
+import java.io.OutputStream;
+import java.net.URI;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * Compiles a {@link Corpus}, discarding the generated class files.
+ *
+ * <p>The file manager is created once and reused for every compilation, as a build tool would.
+ */
+final class CorpusCompiler {
+
+  /** Options passed to every compilation. */
+  private static final ImmutableList<String> JAVAC_OPTIONS =
+      ImmutableList.of("-proc:none", "-Xlint:none", "-XDcompilePolicy=simple");
+
+  /** Returns a compiler that runs the checks supplied by {@code scannerSupplier}. */
+  static CorpusCompiler errorProne(ScannerSupplier scannerSupplier) {
+    return new CorpusCompiler(
+        new BaseErrorProneJavaCompiler(scannerSupplier),
+        ImmutableList.<String>builder()
+            .addAll(JAVAC_OPTIONS)
+            // Keep going after a finding, so every iteration runs the whole pipeline.
+            .add("-XepAllErrorsAsWarnings")
+            .build());
+  }
+
+  /** Returns a compiler that runs plain javac, as a baseline. */
+  static CorpusCompiler javac() {
+    return new CorpusCompiler(JavacTool.create(), JAVAC_OPTIONS);
+  }
+
+  private final JavaCompiler compiler;
+  private final ImmutableList<String> options;
+  private final JavaFileManager fileManager;
+
+  private CorpusCompiler(JavaCompiler compiler, ImmutableList<String> options) {
+    this.compiler = compiler;
+    this.options = options;
+    this.fileManager =
+        new DiscardingFileManager(compiler.getStandardFileManager(null, null, null));
+  }
+
+  /**
+   * Compiles {@code corpus} and returns the number of diagnostics that were reported.
+   *
+   * @throws IllegalStateException if the corpus didn't compile
+   */
+  int compile(Corpus corpus) {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    boolean success =
+        compiler
+            .getTask(
+                /* out= */ null,
+                fileManager,
+                diagnostics,
+                options,
+                /* classes= */ null,
+                corpus.sources())
+            .call();
+    if (!success) {
+      StringBuilder message = new StringBuilder("Compilation failed:\n");
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        message.append(diagnostic).append('\n');
+      }
+      throw new IllegalStateException(message.toString());
+    }
+    return diagnostics.getDiagnostics().size();
+  }
+
+  /** A file manager that drops class file output instead of writing it to disk. */
+  private static final class DiscardingFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    DiscardingFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+      return new SimpleJavaFileObject(
+          URI.create("discard:///" + className.replace('.', '/') + kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return ByteStreams.nullOutputStream();
+        }
+      };
+    }
+  }
+}
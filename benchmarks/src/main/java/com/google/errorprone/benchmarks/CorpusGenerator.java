@@ -0,0 +1,621 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+
+/**
+ * Generates a corpus of application-style Java sources, so that the benchmarks compile a codebase
+ * of a representative size without checking one in.
+ *
+ * <p>Each generated package is a small module: a record, an enum, a repository interface with an
+ * in-memory implementation, a service, a text parser, and a class that wires the service to the
+ * previous module's service. The modules use the JDK's collections, streams, locks, regular
+ * expressions and formatting, and vary in the number and shape of their methods, so that checks
+ * see a mix of the constructs they match on. The output is deterministic, so results are
+ * comparable across runs.
+ */
+final class CorpusGenerator {
+
+  /** The number of packages in the default corpus, about 600 files and 60k lines. */
+  static final int DEFAULT_PACKAGES = 100;
+
+  /** Returns the generated files for {@code packages} modules, keyed by their relative path. */
+  static ImmutableMap<String, String> generate(int packages) {
+    ImmutableMap.Builder<String, String> files = ImmutableMap.builder();
+    for (int i = 0; i < packages; i++) {
+      Module module = new Module(i);
+      for (Map.Entry<String, String> template : TEMPLATES.entrySet()) {
+        files.put(
+            "gen/m" + i + "/" + template.getKey() + i + ".java",
+            module.expand(template.getValue()));
+      }
+    }
+    return files.buildOrThrow();
+  }
+
+  /** The placeholders for one generated package. */
+  private static final class Module {
+    private final int index;
+
+    Module(int index) {
+      this.index = index;
+    }
+
+    String expand(String template) {
+      return HEADER
+          + template
+              .replace("$EXTRA_METHODS", extraMethods())
+              .replace("$UPSTREAM_IMPORT", upstreamImport())
+              .replace("$UPSTREAM_PARAM", upstreamParam())
+              .replace("$UPSTREAM_FN", upstreamFunction())
+              .replace("$BATCH", Integer.toString(8 << (index % 4)))
+              .replace("$P", Integer.toString(index - 1))
+              .replace("$I", Integer.toString(index));
+    }
+
+    private String upstreamImport() {
+      return index == 0 ? "" : "import corpus.gen.m$P.Service$P;\n";
+    }
+
+    private String upstreamParam() {
+      return index == 0 ? "" : "Service$P upstream";
+    }
+
+    private String upstreamFunction() {
+      return index == 0 ? "id -> \"none\"" : "upstream::describe";
+    }
+
+    /** Between two and six scoring methods, whose bodies differ by module. */
+    private String extraMethods() {
+      StringBuilder methods = new StringBuilder();
+      int count = 2 + index % 5;
+      for (int k = 0; k < count; k++) {
+        methods.append(
+            SCORE_METHOD
+                .replace("$K", Integer.toString(k))
+                .replace("$MAGIC", Long.toString(0x9E3779B97F4A7C15L ^ (index * 31L + k)) + "L")
+                .replace("$MASK", Integer.toString((1 << (k + 2)) - 1)));
+      }
+      return methods.toString();
+    }
+  }
+
+  private static final String HEADER = "// Generated by CorpusGenerator.\n\n";
+
+  private static final String SCORE_METHOD =
+      """
+
+        public long score$K(long seed) {
+          long h = seed ^ $MAGIC;
+          for (Entity$I entity : repository.all()) {
+            h = h * 31 + entity.weight();
+            if ((h & $MASK) == 0) {
+              h = Long.rotateLeft(h, $K + 1);
+            } else if (entity.hasTag("score$K")) {
+              h -= entity.amount().longValue();
+            }
+          }
+          return h;
+        }
+      """;
+
+  private static final ImmutableMap<String, String> TEMPLATES =
+      ImmutableMap.<String, String>builder()
+          .put(
+              "Status",
+              """
+              package corpus.gen.m$I;
+
+              /** The lifecycle of an {@link Entity$I}. */
+              public enum Status$I {
+                NEW("new"),
+                ACTIVE("active"),
+                SUSPENDED("suspended"),
+                CLOSED("closed");
+
+                private final String label;
+
+                Status$I(String label) {
+                  this.label = label;
+                }
+
+                public String label() {
+                  return label;
+                }
+
+                public boolean canTransitionTo(Status$I next) {
+                  return switch (this) {
+                    case NEW -> next == ACTIVE || next == CLOSED;
+                    case ACTIVE -> next == SUSPENDED || next == CLOSED;
+                    case SUSPENDED -> next == ACTIVE || next == CLOSED;
+                    case CLOSED -> false;
+                  };
+                }
+
+                public static Status$I parse(String label) {
+                  for (Status$I status : values()) {
+                    if (status.label.equals(label)) {
+                      return status;
+                    }
+                  }
+                  throw new IllegalArgumentException("Unknown status: " + label);
+                }
+              }
+              """)
+          .put(
+              "Entity",
+              """
+              package corpus.gen.m$I;
+
+              import java.math.BigDecimal;
+              import java.time.Instant;
+              import java.util.ArrayList;
+              import java.util.Collections;
+              import java.util.List;
+              import java.util.Objects;
+
+              /** An entity stored by {@link Repository$I}. */
+              public record Entity$I(
+                  long id,
+                  String name,
+                  List<String> tags,
+                  BigDecimal amount,
+                  Status$I status,
+                  Instant created) {
+
+                public Entity$I {
+                  Objects.requireNonNull(name, "name");
+                  Objects.requireNonNull(status, "status");
+                  if (id < 0) {
+                    throw new IllegalArgumentException("negative id: " + id);
+                  }
+                  tags = Collections.unmodifiableList(new ArrayList<>(tags));
+                  amount = amount == null ? BigDecimal.ZERO : amount;
+                }
+
+                public Entity$I withName(String newName) {
+                  return new Entity$I(id, newName, tags, amount, status, created);
+                }
+
+                public Entity$I withStatus(Status$I newStatus) {
+                  if (!status.canTransitionTo(newStatus)) {
+                    throw new IllegalStateException(status + " -> " + newStatus);
+                  }
+                  return new Entity$I(id, name, tags, amount, newStatus, created);
+                }
+
+                public boolean hasTag(String tag) {
+                  for (String t : tags) {
+                    if (t.equalsIgnoreCase(tag)) {
+                      return true;
+                    }
+                  }
+                  return false;
+                }
+
+                public int weight() {
+                  int weight = name.length();
+                  for (int i = 0; i < tags.size(); i++) {
+                    weight = 31 * weight + tags.get(i).hashCode();
+                  }
+                  return weight ^ (int) (id >>> 32) ^ (int) id;
+                }
+              }
+              """)
+          .put(
+              "Repository",
+              """
+              package corpus.gen.m$I;
+
+              import java.util.Collection;
+              import java.util.List;
+              import java.util.Optional;
+              import java.util.function.Predicate;
+
+              /** Stores {@link Entity$I}s by id. */
+              public interface Repository$I {
+                Optional<Entity$I> find(long id);
+
+                Collection<Entity$I> all();
+
+                Entity$I save(Entity$I entity);
+
+                boolean delete(long id);
+
+                default List<Entity$I> findAll(Predicate<? super Entity$I> predicate) {
+                  return all().stream().filter(predicate).toList();
+                }
+
+                default Entity$I require(long id) {
+                  return find(id).orElseThrow(() -> new NotFoundException(id));
+                }
+
+                /** Thrown when an entity doesn't exist. */
+                final class NotFoundException extends RuntimeException {
+                  private static final long serialVersionUID = 1L;
+
+                  NotFoundException(long id) {
+                    super("No entity with id " + id);
+                  }
+                }
+              }
+              """)
+          .put(
+              "InMemoryRepository",
+              """
+              package corpus.gen.m$I;
+
+              import java.util.ArrayList;
+              import java.util.Collection;
+              import java.util.Collections;
+              import java.util.Iterator;
+              import java.util.LinkedHashMap;
+              import java.util.Map;
+              import java.util.NoSuchElementException;
+              import java.util.Optional;
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              /** A {@link Repository$I} backed by a map. */
+              public final class InMemoryRepository$I implements Repository$I, Iterable<Entity$I> {
+
+                private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                private final Map<Long, Entity$I> entities = new LinkedHashMap<>();
+                private int modifications;
+
+                @Override
+                public Optional<Entity$I> find(long id) {
+                  lock.readLock().lock();
+                  try {
+                    return Optional.ofNullable(entities.get(id));
+                  } finally {
+                    lock.readLock().unlock();
+                  }
+                }
+
+                @Override
+                public Collection<Entity$I> all() {
+                  lock.readLock().lock();
+                  try {
+                    return Collections.unmodifiableList(new ArrayList<>(entities.values()));
+                  } finally {
+                    lock.readLock().unlock();
+                  }
+                }
+
+                @Override
+                public Entity$I save(Entity$I entity) {
+                  lock.writeLock().lock();
+                  try {
+                    modifications++;
+                    entities.put(entity.id(), entity);
+                    return entity;
+                  } finally {
+                    lock.writeLock().unlock();
+                  }
+                }
+
+                @Override
+                public boolean delete(long id) {
+                  lock.writeLock().lock();
+                  try {
+                    boolean removed = entities.remove(id) != null;
+                    if (removed) {
+                      modifications++;
+                    }
+                    return removed;
+                  } finally {
+                    lock.writeLock().unlock();
+                  }
+                }
+
+                public int modifications() {
+                  lock.readLock().lock();
+                  try {
+                    return modifications;
+                  } finally {
+                    lock.readLock().unlock();
+                  }
+                }
+
+                @Override
+                public Iterator<Entity$I> iterator() {
+                  return new SnapshotIterator(all());
+                }
+
+                private static final class SnapshotIterator implements Iterator<Entity$I> {
+                  private final Entity$I[] snapshot;
+                  private int next;
+
+                  SnapshotIterator(Collection<Entity$I> entities) {
+                    this.snapshot = entities.toArray(new Entity$I[0]);
+                  }
+
+                  @Override
+                  public boolean hasNext() {
+                    return next < snapshot.length;
+                  }
+
+                  @Override
+                  public Entity$I next() {
+                    if (!hasNext()) {
+                      throw new NoSuchElementException();
+                    }
+                    return snapshot[next++];
+                  }
+                }
+              }
+              """)
+          .put(
+              "Service",
+              """
+              package corpus.gen.m$I;
+
+              import java.math.BigDecimal;
+              import java.math.RoundingMode;
+              import java.time.Duration;
+              import java.time.Instant;
+              import java.util.ArrayList;
+              import java.util.Comparator;
+              import java.util.EnumMap;
+              import java.util.List;
+              import java.util.Map;
+              import java.util.Optional;
+              import java.util.function.LongFunction;
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+              import java.util.stream.Collectors;
+
+              /** Business operations over a {@link Repository$I}. */
+              public class Service$I {
+
+                private static final Logger logger = Logger.getLogger(Service$I.class.getName());
+                private static final int BATCH_SIZE = $BATCH;
+
+                private final Repository$I repository;
+                private final LongFunction<String> upstream;
+                private long nextId = $I * 1000L;
+
+                public Service$I(Repository$I repository, LongFunction<String> upstream) {
+                  this.repository = repository;
+                  this.upstream = upstream;
+                }
+
+                public Entity$I create(String name, BigDecimal amount, String... tags) {
+                  Instant now = Instant.now();
+                  Entity$I entity =
+                      new Entity$I(nextId++, name.trim(), List.of(tags), amount, Status$I.NEW, now);
+                  logger.log(Level.FINE, "Created {0}", entity);
+                  return repository.save(entity);
+                }
+
+                public Entity$I activate(long id) {
+                  return repository.save(repository.require(id).withStatus(Status$I.ACTIVE));
+                }
+
+                public Optional<Entity$I> rename(long id, String newName) {
+                  if (newName == null || newName.isBlank()) {
+                    return Optional.empty();
+                  }
+                  return repository.find(id).map(e -> repository.save(e.withName(newName)));
+                }
+
+                public Map<Status$I, List<Entity$I>> byStatus() {
+                  Map<Status$I, List<Entity$I>> result = new EnumMap<>(Status$I.class);
+                  for (Entity$I entity : repository.all()) {
+                    result.computeIfAbsent(entity.status(), s -> new ArrayList<>()).add(entity);
+                  }
+                  return result;
+                }
+
+                public Map<String, Long> tagCounts() {
+                  return repository.all().stream()
+                      .flatMap(e -> e.tags().stream())
+                      .collect(Collectors.groupingBy(String::toLowerCase, Collectors.counting()));
+                }
+
+                public BigDecimal total(Status$I status) {
+                  BigDecimal total = BigDecimal.ZERO;
+                  for (Entity$I entity : repository.findAll(e -> e.status() == status)) {
+                    total = total.add(entity.amount());
+                  }
+                  return total.setScale(2, RoundingMode.HALF_EVEN);
+                }
+
+                public BigDecimal average() {
+                  List<Entity$I> all = new ArrayList<>(repository.all());
+                  if (all.isEmpty()) {
+                    return BigDecimal.ZERO;
+                  }
+                  BigDecimal sum =
+                      all.stream().map(Entity$I::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+                  return sum.divide(BigDecimal.valueOf(all.size()), 2, RoundingMode.HALF_EVEN);
+                }
+
+                public List<Entity$I> top(int n) {
+                  return repository.all().stream()
+                      .sorted(
+                          Comparator.comparing(Entity$I::amount)
+                              .reversed()
+                              .thenComparing(Entity$I::name))
+                      .limit(n)
+                      .collect(Collectors.toList());
+                }
+
+                public int closeStale(Instant now, Duration maxAge) {
+                  int closed = 0;
+                  List<Entity$I> batch = new ArrayList<>(BATCH_SIZE);
+                  for (Entity$I entity : repository.all()) {
+                    if (entity.status() == Status$I.CLOSED) {
+                      continue;
+                    }
+                    if (Duration.between(entity.created(), now).compareTo(maxAge) > 0) {
+                      batch.add(entity.withStatus(Status$I.CLOSED));
+                    }
+                    if (batch.size() == BATCH_SIZE) {
+                      closed += flush(batch);
+                    }
+                  }
+                  return closed + flush(batch);
+                }
+
+                private int flush(List<Entity$I> batch) {
+                  int n = batch.size();
+                  batch.forEach(repository::save);
+                  batch.clear();
+                  return n;
+                }
+
+                public String describe(long id) {
+                  Optional<Entity$I> entity = repository.find(id);
+                  if (entity.isEmpty()) {
+                    return "missing " + id + " (upstream: " + upstream.apply(id) + ")";
+                  }
+                  Entity$I e = entity.get();
+                  StringBuilder sb = new StringBuilder();
+                  sb.append(e.name()).append(" [").append(e.status().label()).append(']');
+                  if (!e.tags().isEmpty()) {
+                    sb.append(" tags=").append(String.join(",", e.tags()));
+                  }
+                  return String.format("%s, amount %.2f, weight %d", sb, e.amount(), e.weight());
+                }
+              $EXTRA_METHODS}
+              """)
+          .put(
+              "Parser",
+              """
+              package corpus.gen.m$I;
+
+              import java.math.BigDecimal;
+              import java.time.Instant;
+              import java.util.ArrayList;
+              import java.util.List;
+              import java.util.regex.Matcher;
+              import java.util.regex.Pattern;
+
+              /** Parses {@link Entity$I}s from a line-based text format. */
+              public final class Parser$I {
+
+                private static final Pattern LINE =
+                    Pattern.compile("(\\\\d+);([^;]+);([0-9.]+);(\\\\w+)(?:;(.*))?");
+
+                public static final String EXAMPLE =
+                    \"""
+                    1;first;10.50;new;a,b
+                    2;second;3;active # a comment
+                    \""";
+
+                private Parser$I() {}
+
+                public static List<Entity$I> parse(String text) throws ParseException {
+                  List<Entity$I> result = new ArrayList<>();
+                  int lineNumber = 0;
+                  for (String line : text.split("\\n")) {
+                    lineNumber++;
+                    String trimmed = stripComment(line).trim();
+                    if (trimmed.isEmpty()) {
+                      continue;
+                    }
+                    Matcher m = LINE.matcher(trimmed);
+                    if (!m.matches()) {
+                      throw new ParseException(lineNumber, "malformed: " + trimmed);
+                    }
+                    try {
+                      result.add(
+                          new Entity$I(
+                              Long.parseLong(m.group(1)),
+                              m.group(2).trim(),
+                              splitTags(m.group(5)),
+                              new BigDecimal(m.group(3)),
+                              Status$I.parse(m.group(4)),
+                              Instant.EPOCH));
+                    } catch (IllegalArgumentException e) {
+                      throw new ParseException(lineNumber, e.getMessage());
+                    }
+                  }
+                  return result;
+                }
+
+                static String stripComment(String line) {
+                  boolean quoted = false;
+                  for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c == '"') {
+                      quoted = !quoted;
+                    } else if (c == '#' && !quoted) {
+                      return line.substring(0, i);
+                    }
+                  }
+                  return line;
+                }
+
+                static List<String> splitTags(String tags) {
+                  List<String> result = new ArrayList<>();
+                  if (tags == null) {
+                    return result;
+                  }
+                  int start = 0;
+                  for (int i = 0; i <= tags.length(); i++) {
+                    if (i == tags.length() || tags.charAt(i) == ',') {
+                      String tag = tags.substring(start, i).trim();
+                      if (!tag.isEmpty()) {
+                        result.add(tag);
+                      }
+                      start = i + 1;
+                    }
+                  }
+                  return result;
+                }
+
+                /** Thrown for malformed input. */
+                public static final class ParseException extends Exception {
+                  private static final long serialVersionUID = 1L;
+
+                  private final int line;
+
+                  ParseException(int line, String message) {
+                    super("line " + line + ": " + message);
+                    this.line = line;
+                  }
+
+                  public int line() {
+                    return line;
+                  }
+                }
+              }
+              """)
+          .put(
+              "Wiring",
+              """
+              package corpus.gen.m$I;
+
+              $UPSTREAM_IMPORT
+              /** Wires the service of this module to the service of the module it depends on. */
+              public final class Wiring$I {
+                private Wiring$I() {}
+
+                public static Service$I create($UPSTREAM_PARAM) {
+                  InMemoryRepository$I repository = new InMemoryRepository$I();
+                  return new Service$I(repository, $UPSTREAM_FN);
+                }
+              }
+              """)
+          .buildOrThrow();
+
+  private CorpusGenerator() {}
+}
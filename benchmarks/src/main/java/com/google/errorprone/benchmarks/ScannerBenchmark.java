@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BugCheckerInfo;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.google.errorprone.scanner.ScannerSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the time to compile the {@link Corpus} with plain javac, with the Error Prone pipeline
+ * but no checks, with all default checks, and with a selection of individual checks.
+ *
+ * <p>Subtracting the {@code javac} and {@code none} results isolates the cost of the scanner and of
+ * each check. Run with {@code -prof gc} to report allocation rates.
+ */
+@State(Scope.Benchmark)
+public class ScannerBenchmark extends ErrorProneBenchmark {
+
+  @Param({
+    "javac",
+    "none",
+    "default",
+    "FormatString",
+    "GuardedBy",
+    "MissingOverride",
+    "ReferenceEquality",
+    "ReturnValueIgnored",
+    "UnusedVariable",
+  })
+  public String checks;
+
+  /** The number of generated packages in the corpus; see {@link CorpusGenerator}. */
+  @Param({"100"})
+  public int generatedPackages;
+
+  private Corpus corpus;
+  private CorpusCompiler compiler;
+
+  @Setup
+  public void setUp() {
+    corpus = Corpus.load(generatedPackages);
+    compiler =
+        switch (checks) {
+          case "javac" -> CorpusCompiler.javac();
+          case "none" ->
+              CorpusCompiler.errorProne(ScannerSupplier.fromBugCheckerInfos(ImmutableList.of()));
+          case "default" -> CorpusCompiler.errorProne(BuiltInCheckerSuppliers.defaultChecks());
+          default -> CorpusCompiler.errorProne(singleCheck(checks));
+        };
+  }
+
+  private static ScannerSupplier singleCheck(String name) {
+    BugCheckerInfo info = BuiltInCheckerSuppliers.allChecks().getAllChecks().get(name);
+    if (info == null) {
+      throw new IllegalArgumentException("No built-in check named " + name);
+    }
+    return ScannerSupplier.fromBugCheckerInfos(ImmutableList.of(info));
+  }
+
+  @Benchmark
+  public int compile() {
+    return compiler.compile(corpus);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.google.errorprone.scanner.ScannerSupplier;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures Error Prone's startup cost: each fork runs a single cold invocation, so class loading,
+ * checker registration and JIT warm-up are included in the result.
+ *
+ * <p>Pass {@code -f <n>} to collect more than one cold sample.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark extends ErrorProneBenchmark {
+
+  private static final Corpus HELLO =
+      Corpus.of(
+          "Hello.java",
+          """
+          package corpus;
+
+          class Hello {
+            public static void main(String[] args) {
+              System.out.println("Hello " + String.join(" ", args));
+            }
+          }
+          """);
+
+  /** Loads and instantiates every default check, as happens before the first compilation. */
+  @Benchmark
+  public Object loadDefaultChecks() {
+    return BuiltInCheckerSuppliers.defaultChecks().get();
+  }
+
+  /** Compiles a single small file with the default checks in a fresh JVM. */
+  @Benchmark
+  public int firstCompilation() {
+    ScannerSupplier scannerSupplier = BuiltInCheckerSuppliers.defaultChecks();
+    return CorpusCompiler.errorProne(scannerSupplier).compile(HELLO);
+  }
+}
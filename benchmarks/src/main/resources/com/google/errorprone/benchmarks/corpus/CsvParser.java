@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package corpus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/** A small RFC 4180 style CSV reader with header support. */
+public final class CsvParser {
+
+  private static final Pattern NUMERIC = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+  /** A parsed row, addressable by column name. */
+  public record Row(int lineNumber, Map<String, String> values) {
+    public Optional<String> get(String column) {
+      return Optional.ofNullable(values.get(column));
+    }
+
+    public double getDouble(String column) {
+      String value = values.get(column);
+      if (value == null || !NUMERIC.matcher(value).matches()) {
+        throw new IllegalStateException(
+            String.format(Locale.ROOT, "line %d: column %s is not numeric: %s", lineNumber, column, value));
+      }
+      return Double.parseDouble(value);
+    }
+  }
+
+  private final char delimiter;
+  private final boolean trim;
+
+  public CsvParser(char delimiter, boolean trim) {
+    this.delimiter = delimiter;
+    this.trim = trim;
+  }
+
+  public static CsvParser standard() {
+    return new CsvParser(',', true);
+  }
+
+  public List<Row> parse(Reader input) {
+    List<Row> rows = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(input)) {
+      String headerLine = reader.readLine();
+      if (headerLine == null) {
+        return Collections.emptyList();
+      }
+      List<String> header = splitLine(headerLine);
+      String line;
+      int lineNumber = 1;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        List<String> cells = splitLine(line);
+        if (cells.size() != header.size()) {
+          throw new IllegalArgumentException(
+              "line " + lineNumber + ": expected " + header.size() + " cells, got " + cells.size());
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+          values.put(header.get(i), cells.get(i));
+        }
+        rows.add(new Row(lineNumber, Collections.unmodifiableMap(values)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return rows;
+  }
+
+  List<String> splitLine(String line) {
+    List<String> cells = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"') {
+          if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            current.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == delimiter) {
+        cells.add(finish(current));
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("unterminated quoted cell: " + line);
+    }
+    cells.add(finish(current));
+    return cells;
+  }
+
+  private String finish(StringBuilder cell) {
+    String value = cell.toString();
+    return trim ? value.strip() : value;
+  }
+
+  public static Map<String, Double> sumBy(List<Row> rows, String keyColumn, String valueColumn) {
+    return rows.stream()
+        .filter(row -> row.get(keyColumn).isPresent())
+        .collect(
+            Collectors.groupingBy(
+                row -> row.get(keyColumn).orElseThrow(),
+                LinkedHashMap::new,
+                Collectors.summingDouble(row -> row.getDouble(valueColumn))));
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package corpus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/** A bounded least-recently-used cache with hit and miss statistics. */
+public final class LruCache<K, V> implements Iterable<Map.Entry<K, V>> {
+
+  private static final class Node<K, V> implements Map.Entry<K, V> {
+    final K key;
+    V value;
+    Node<K, V> prev;
+    Node<K, V> next;
+
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public V setValue(V value) {
+      V old = this.value;
+      this.value = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry<?, ?> that)) {
+        return false;
+      }
+      return Objects.equals(key, that.getKey()) && Objects.equals(value, that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(key) ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  private final int capacity;
+  private final Map<K, Node<K, V>> index = new HashMap<>();
+  private final Node<K, V> head = new Node<>(null, null);
+  private long hits;
+  private long misses;
+
+  public LruCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    head.next = head;
+    head.prev = head;
+  }
+
+  public V get(K key) {
+    Node<K, V> node = index.get(key);
+    if (node == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    moveToFront(node);
+    return node.value;
+  }
+
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    value = Objects.requireNonNull(loader.apply(key), "loader returned null");
+    put(key, value);
+    return value;
+  }
+
+  public V put(K key, V value) {
+    Objects.requireNonNull(key);
+    Node<K, V> node = index.get(key);
+    if (node != null) {
+      V old = node.setValue(value);
+      moveToFront(node);
+      return old;
+    }
+    node = new Node<>(key, value);
+    index.put(key, node);
+    linkFirst(node);
+    if (index.size() > capacity) {
+      Node<K, V> eldest = head.prev;
+      unlink(eldest);
+      index.remove(eldest.key);
+    }
+    return null;
+  }
+
+  public boolean remove(K key) {
+    Node<K, V> node = index.remove(key);
+    if (node == null) {
+      return false;
+    }
+    unlink(node);
+    return true;
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  public double hitRate() {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  public List<K> keysByRecency() {
+    List<K> keys = new ArrayList<>(index.size());
+    for (Node<K, V> node = head.next; node != head; node = node.next) {
+      keys.add(node.key);
+    }
+    return keys;
+  }
+
+  @Override
+  public Iterator<Map.Entry<K, V>> iterator() {
+    return new Iterator<>() {
+      private Node<K, V> current = head.next;
+
+      @Override
+      public boolean hasNext() {
+        return current != head;
+      }
+
+      @Override
+      public Map.Entry<K, V> next() {
+        if (!hasNext()) {
+          throw new java.util.NoSuchElementException();
+        }
+        Node<K, V> result = current;
+        current = current.next;
+        return result;
+      }
+    };
+  }
+
+  private void moveToFront(Node<K, V> node) {
+    unlink(node);
+    linkFirst(node);
+  }
+
+  private void linkFirst(Node<K, V> node) {
+    node.next = head.next;
+    node.prev = head;
+    head.next.prev = node;
+    head.next = node;
+  }
+
+  private void unlink(Node<K, V> node) {
+    node.prev.next = node.next;
+    node.next.prev = node.prev;
+    node.prev = null;
+    node.next = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("LruCache[");
+    String separator = "";
+    for (Map.Entry<K, V> entry : this) {
+      sb.append(separator).append(entry);
+      separator = ", ";
+    }
+    return sb.append(']').toString();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package corpus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** An in-memory order book with status transitions and simple reporting. */
+public class OrderService {
+
+  private static final Logger logger = Logger.getLogger(OrderService.class.getName());
+
+  /** The lifecycle of an order. */
+  public enum Status {
+    PENDING,
+    PAID,
+    SHIPPED,
+    CANCELLED;
+
+    boolean canTransitionTo(Status next) {
+      return switch (this) {
+        case PENDING -> next == PAID || next == CANCELLED;
+        case PAID -> next == SHIPPED || next == CANCELLED;
+        case SHIPPED, CANCELLED -> false;
+      };
+    }
+  }
+
+  /** A line item in an order. */
+  public record Item(String sku, int quantity, BigDecimal unitPrice) {
+    public Item {
+      Objects.requireNonNull(sku, "sku");
+      if (quantity <= 0) {
+        throw new IllegalArgumentException("quantity must be positive");
+      }
+    }
+
+    BigDecimal total() {
+      return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+  }
+
+  /** An order and its mutable status. */
+  public static final class Order {
+    private final long id;
+    private final String customer;
+    private final List<Item> items;
+    private final Instant created;
+    private volatile Status status = Status.PENDING;
+
+    Order(long id, String customer, List<Item> items, Instant created) {
+      this.id = id;
+      this.customer = customer;
+      this.items = List.copyOf(items);
+      this.created = created;
+    }
+
+    public long id() {
+      return id;
+    }
+
+    public String customer() {
+      return customer;
+    }
+
+    public Status status() {
+      return status;
+    }
+
+    public Instant created() {
+      return created;
+    }
+
+    public BigDecimal total() {
+      BigDecimal sum = BigDecimal.ZERO;
+      for (Item item : items) {
+        sum = sum.add(item.total());
+      }
+      return sum.setScale(2, RoundingMode.HALF_EVEN);
+    }
+  }
+
+  private final Clock clock;
+  private final AtomicLong nextId = new AtomicLong(1);
+  private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+
+  public OrderService(Clock clock) {
+    this.clock = clock;
+  }
+
+  public Order place(String customer, List<Item> items) {
+    if (items.isEmpty()) {
+      throw new IllegalArgumentException("an order needs at least one item");
+    }
+    Order order = new Order(nextId.getAndIncrement(), customer, items, clock.instant());
+    orders.put(order.id(), order);
+    logger.log(Level.FINE, "placed order {0} for {1}", new Object[] {order.id(), customer});
+    return order;
+  }
+
+  public Optional<Order> find(long id) {
+    return Optional.ofNullable(orders.get(id));
+  }
+
+  public synchronized boolean transition(long id, Status next) {
+    Order order = orders.get(id);
+    if (order == null || !order.status.canTransitionTo(next)) {
+      return false;
+    }
+    order.status = next;
+    return true;
+  }
+
+  public Map<Status, Integer> countByStatus() {
+    Map<Status, Integer> counts = new EnumMap<>(Status.class);
+    for (Order order : orders.values()) {
+      counts.merge(order.status(), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  public List<Order> topCustomersOrders(int limit) {
+    List<Order> sorted = new ArrayList<>(orders.values());
+    sorted.sort(Comparator.comparing(Order::total).reversed().thenComparing(Order::id));
+    return sorted.subList(0, Math.min(limit, sorted.size()));
+  }
+
+  public String describe(long id) {
+    Order order = orders.get(id);
+    String customer = order != null ? order.customer() : null;
+    StringBuilder sb = new StringBuilder();
+    sb.append("order ").append(id);
+    if (customer != null) {
+      sb.append(" for ").append(customer.trim());
+    }
+    return sb.toString();
+  }
+}
@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.errorprone.scanner.ScannerSupplier;
 import com.sun.source.util.JavacTask;
 import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.api.JavacTaskPool;
 import com.sun.tools.javac.api.JavacTool;
 import com.sun.tools.javac.comp.CompileStates.CompileState;
 import com.sun.tools.javac.util.Context;
@@ -31,10 +32,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 import javax.lang.model.SourceVersion;
 import javax.tools.DiagnosticListener;
 import javax.tools.JavaCompiler;
@@ -68,19 +72,62 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
       Iterable<String> classes,
       Iterable<? extends JavaFileObject> compilationUnits) {
     ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(options);
-    ImmutableList<String> javacOpts = errorProneOptions.getRemainingArgs();
-    javacOpts = defaultToLatestSupportedLanguageLevel(javacOpts);
-    javacOpts = setCompilePolicyToByFile(javacOpts);
-    javacOpts = setShouldStopIfErrorPolicyToFlow(javacOpts);
-    javacOpts = setAddTypeAnnotationsToSymbol(javacOpts);
     JavacTask task =
         (JavacTask)
             javacTool.getTask(
-                out, fileManager, diagnosticListener, javacOpts, classes, compilationUnits);
+                out,
+                fileManager,
+                diagnosticListener,
+                javacOptions(errorProneOptions),
+                classes,
+                compilationUnits);
     addTaskListener(task, scannerSupplier, errorProneOptions);
     return task;
   }
 
+  /**
+   * Like {@link #getTask}, but creates the task in a compiler context taken from {@code pool}, and
+   * passes it to {@code worker}. The context, including the symbols it has already completed from
+   * the platform and the classpath, is returned to the pool for reuse once {@code worker} returns.
+   *
+   * <p>Error Prone's own per-compilation state is not shared between tasks: it either lives in a
+   * context that each analyzer creates on top of the compiler context, or is reset here.
+   */
+  <Z> Z runPooledTask(
+      JavacTaskPool pool,
+      Writer out,
+      JavaFileManager fileManager,
+      DiagnosticListener<? super JavaFileObject> diagnosticListener,
+      Iterable<String> options,
+      Iterable<String> classes,
+      Iterable<? extends JavaFileObject> compilationUnits,
+      Function<JavacTask, Z> worker) {
+    ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(options);
+    return pool.getTask(
+        out,
+        fileManager,
+        diagnosticListener,
+        javacOptions(errorProneOptions),
+        classes,
+        compilationUnits,
+        task -> {
+          // The timings are read from the context after a compilation, so discard the ones left
+          // over from the compilation that used the context before.
+          ErrorProneTimings.instance(((BasicJavacTask) task).getContext()).reset();
+          addTaskListener(task, scannerSupplier, errorProneOptions);
+          return worker.apply(task);
+        });
+  }
+
+  private static ImmutableList<String> javacOptions(ErrorProneOptions errorProneOptions) {
+    ImmutableList<String> javacOpts = errorProneOptions.getRemainingArgs();
+    javacOpts = defaultToLatestSupportedLanguageLevel(javacOpts);
+    javacOpts = setCompilePolicyToByFile(javacOpts);
+    javacOpts = setShouldStopIfErrorPolicyToFlow(javacOpts);
+    javacOpts = setAddTypeAnnotationsToSymbol(javacOpts);
+    return javacOpts;
+  }
+
   static void addTaskListener(
       JavacTask javacTask, ScannerSupplier scannerSupplier, ErrorProneOptions errorProneOptions) {
     Context context = ((BasicJavacTask) javacTask).getContext();
@@ -160,13 +207,20 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
 
   /**
    * Throws InvalidCommandLineOptionException if the {@code -XDcompilePolicy} flag is set to an
-   * unsupported value
+   * unsupported value.
+   *
+   * <p>Both supported policies attribute all classes in a file before any of them are lowered.
+   * Under {@code simple}, every file is attributed before any file is analyzed; under {@code
+   * byfile}, each file is analyzed as soon as it has been attributed and flowed, and Error Prone
+   * drops its references to the file afterwards, so peak memory use scales with the largest file
+   * rather than with the whole compilation. The default {@code bytodo} policy may lower a class
+   * before the other classes in its file have been attributed, and is not supported.
    */
   static void checkCompilePolicy(@Nullable String compilePolicy) {
     if (compilePolicy == null) {
       throw new InvalidCommandLineOptionException(
           "The default compilation policy (by-todo) is not supported by Error Prone,"
-              + " pass -XDcompilePolicy=simple instead");
+              + " pass -XDcompilePolicy=simple or -XDcompilePolicy=byfile instead");
     }
     switch (compilePolicy) {
       case "byfile", "simple" -> {}
@@ -174,7 +228,7 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
           throw new InvalidCommandLineOptionException(
               String.format(
                   "-XDcompilePolicy=%s is not supported by Error Prone,"
-                      + " pass -XDcompilePolicy=simple instead",
+                      + " pass -XDcompilePolicy=simple or -XDcompilePolicy=byfile instead",
                   compilePolicy));
     }
   }
@@ -182,7 +236,8 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
   /**
    * Sets javac's {@code -XDcompilePolicy} flag to ensure that all classes in a file are attributed
    * before any of them are lowered. Error Prone depends on this behavior when analyzing files that
-   * contain multiple top-level classes.
+   * contain multiple top-level classes. Defaults to {@code simple}; an explicit {@code byfile}
+   * policy is kept.
    */
   private static ImmutableList<String> setCompilePolicyToByFile(ImmutableList<String> args) {
     for (String arg : args) {
@@ -251,9 +306,21 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
     }
   }
 
+  /**
+   * The message tables that our bundle has been added to. Contexts can be reused across
+   * compilations, and javac may or may not replace their message table in between, so this tracks
+   * the tables rather than the contexts.
+   */
+  private static final Set<JavacMessages> messagesWithBundle =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
   /** Registers our message bundle. */
   public static void setupMessageBundle(Context context) {
+    JavacMessages messages = JavacMessages.instance(context);
+    if (!messagesWithBundle.add(messages)) {
+      return;
+    }
     ResourceBundle bundle = ResourceBundle.getBundle("com.google.errorprone.errors");
-    JavacMessages.instance(context).add(l -> bundle);
+    messages.add(l -> bundle);
   }
 }
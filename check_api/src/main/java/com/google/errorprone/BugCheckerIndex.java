@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Resources;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The checker metadata that the docgen annotation processor writes to {@value #RESOURCE} at build
+ * time, so that {@link BugCheckerInfo} doesn't have to read and validate each checker's {@code
+ * BugPattern} reflectively.
+ *
+ * <p>The format is documented in the processor's {@code BugCheckerIndexEntry}. Checkers that
+ * aren't in any index, e.g. because the processor didn't run, fall back to reflection.
+ */
+final class BugCheckerIndex {
+
+  static final String RESOURCE = "META-INF/errorprone/bugcheckers.index";
+
+  /** The metadata of one checker. */
+  record Entry(
+      String canonicalName,
+      ImmutableList<String> altNames,
+      String summary,
+      SeverityLevel severity,
+      Optional<String> linkUrl,
+      boolean supportsSuppressWarnings,
+      ImmutableList<String> customSuppressionAnnotations,
+      ImmutableList<String> tags,
+      boolean disableable) {}
+
+  private static final Splitter FIELD_SPLITTER = Splitter.on('\t');
+  private static final Splitter LIST_SPLITTER = Splitter.on(',').omitEmptyStrings();
+
+  private static final LoadingCache<ClassLoader, ImmutableMap<String, Entry>> INDEXES =
+      CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(BugCheckerIndex::load));
+
+  /** Returns the indexed metadata of the given checker class, if there is any. */
+  static Optional<Entry> lookup(Class<?> checker) {
+    return lookup(checker.getName(), checker.getClassLoader());
+  }
+
+  /** Returns the indexed metadata of the checker with the given binary name, if there is any. */
+  static Optional<Entry> lookup(String checkerClassName, @Nullable ClassLoader classLoader) {
+    if (classLoader == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(INDEXES.getUnchecked(classLoader).get(checkerClassName));
+  }
+
+  private static ImmutableMap<String, Entry> load(ClassLoader classLoader) {
+    Map<String, Entry> entries = new HashMap<>();
+    try {
+      for (URL url : Collections.list(classLoader.getResources(RESOURCE))) {
+        for (String line : Resources.readLines(url, UTF_8)) {
+          if (line.isEmpty()) {
+            continue;
+          }
+          List<String> fields = FIELD_SPLITTER.splitToList(line);
+          // The first index on the class path wins, like the classes themselves.
+          entries.putIfAbsent(
+              fields.get(0),
+              new Entry(
+                  fields.get(1),
+                  ImmutableList.copyOf(LIST_SPLITTER.split(fields.get(2))),
+                  unescape(fields.get(3)),
+                  SeverityLevel.valueOf(fields.get(4)),
+                  Optional.of(fields.get(5)).filter(s -> !s.isEmpty()),
+                  Boolean.parseBoolean(fields.get(6)),
+                  ImmutableList.copyOf(LIST_SPLITTER.split(fields.get(7))),
+                  ImmutableList.copyOf(LIST_SPLITTER.split(fields.get(8))),
+                  Boolean.parseBoolean(fields.get(9))));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read " + RESOURCE, e);
+    }
+    return ImmutableMap.copyOf(entries);
+  }
+
+  private static String unescape(String s) {
+    if (s.indexOf('\\') < 0) {
+      return s;
+    }
+    StringBuilder sb = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c != '\\' || i + 1 == s.length()) {
+        sb.append(c);
+        continue;
+      }
+      char next = s.charAt(++i);
+      sb.append(
+          switch (next) {
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            default -> next;
+          });
+    }
+    return sb.toString();
+  }
+
+  private BugCheckerIndex() {}
+}
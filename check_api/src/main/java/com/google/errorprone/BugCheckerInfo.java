@@ -19,14 +19,18 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.bugpatterns.BugChecker;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -37,8 +41,16 @@ import org.jspecify.annotations.Nullable;
  */
 public final class BugCheckerInfo implements Serializable {
 
-  /** The BugChecker class. */
-  private final Class<? extends BugChecker> checker;
+  /** The binary name of the BugChecker class. */
+  private final String checkerClassName;
+
+  /**
+   * The BugChecker class. If the info was read from an index, the class is only loaded from {@link
+   * #classLoader} when it's first needed, e.g. to instantiate the checker.
+   */
+  private @Nullable Class<? extends BugChecker> checker;
+
+  private final transient @Nullable ClassLoader classLoader;
 
   /**
    * The canonical name of this check. Corresponds to the {@code name} attribute from its {@code
@@ -85,6 +97,29 @@ public final class BugCheckerInfo implements Serializable {
   private final boolean disableable;
 
   public static BugCheckerInfo create(Class<? extends BugChecker> checker) {
+    Optional<BugCheckerIndex.Entry> indexed = BugCheckerIndex.lookup(checker);
+    if (indexed.isPresent()) {
+      return fromIndex(checker.getName(), checker, checker.getClassLoader(), indexed.get());
+    }
+    return createReflectively(checker);
+  }
+
+  /**
+   * Returns the info for the checker with the given binary name. If the checker is in an index on
+   * the class loader, its class isn't loaded until it's needed.
+   */
+  public static BugCheckerInfo create(String checkerClassName, ClassLoader classLoader) {
+    Optional<BugCheckerIndex.Entry> indexed =
+        BugCheckerIndex.lookup(checkerClassName, classLoader);
+    if (indexed.isPresent()) {
+      return fromIndex(checkerClassName, null, classLoader, indexed.get());
+    }
+    return createReflectively(loadChecker(checkerClassName, classLoader));
+  }
+
+  /** Creates the info by reading and validating the checker's annotation. */
+  @VisibleForTesting
+  static BugCheckerInfo createReflectively(Class<? extends BugChecker> checker) {
     BugPattern pattern =
         checkNotNull(
             checker.getAnnotation(BugPattern.class),
@@ -102,6 +137,46 @@ public final class BugCheckerInfo implements Serializable {
     return new BugCheckerInfo(checker, pattern);
   }
 
+  /** Creates the info from metadata that was read and validated when the checker was compiled. */
+  private static BugCheckerInfo fromIndex(
+      String checkerClassName,
+      @Nullable Class<? extends BugChecker> checker,
+      ClassLoader classLoader,
+      BugCheckerIndex.Entry entry) {
+    ImmutableSet.Builder<Class<? extends Annotation>> customSuppressionAnnotations =
+        ImmutableSet.builder();
+    for (String annotation : entry.customSuppressionAnnotations()) {
+      try {
+        customSuppressionAnnotations.add(
+            Class.forName(annotation, false, classLoader).asSubclass(Annotation.class));
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return new BugCheckerInfo(
+        checkerClassName,
+        checker,
+        classLoader,
+        entry.canonicalName(),
+        ImmutableSet.<String>builder().add(entry.canonicalName()).addAll(entry.altNames()).build(),
+        entry.summary(),
+        entry.severity(),
+        entry.linkUrl().orElse(null),
+        entry.supportsSuppressWarnings(),
+        customSuppressionAnnotations.build(),
+        ImmutableSet.copyOf(entry.tags()),
+        entry.disableable());
+  }
+
+  private static Class<? extends BugChecker> loadChecker(
+      String checkerClassName, @Nullable ClassLoader classLoader) {
+    try {
+      return Class.forName(checkerClassName, false, classLoader).asSubclass(BugChecker.class);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   private BugCheckerInfo(Class<? extends BugChecker> checker, BugPattern pattern) {
     this(canonicalName(checker.getSimpleName(), pattern), checker, pattern);
   }
@@ -109,7 +184,9 @@ public final class BugCheckerInfo implements Serializable {
   private BugCheckerInfo(
       String canonicalName, Class<? extends BugChecker> checker, BugPattern pattern) {
     this(
+        checker.getName(),
         checker,
+        checker.getClassLoader(),
         canonicalName,
         ImmutableSet.<String>builder().add(canonicalName).add(pattern.altNames()).build(),
         pattern.summary(),
@@ -124,7 +201,9 @@ public final class BugCheckerInfo implements Serializable {
   }
 
   private BugCheckerInfo(
-      Class<? extends BugChecker> checker,
+      String checkerClassName,
+      @Nullable Class<? extends BugChecker> checker,
+      @Nullable ClassLoader classLoader,
       String canonicalName,
       ImmutableSet<String> allNames,
       String message,
@@ -134,7 +213,9 @@ public final class BugCheckerInfo implements Serializable {
       Set<Class<? extends Annotation>> customSuppressionAnnotations,
       ImmutableSet<String> tags,
       boolean disableable) {
+    this.checkerClassName = checkerClassName;
     this.checker = checker;
+    this.classLoader = classLoader;
     this.canonicalName = canonicalName;
     this.allNames = allNames;
     this.message = message;
@@ -160,7 +241,9 @@ public final class BugCheckerInfo implements Serializable {
       return this;
     }
     return new BugCheckerInfo(
+        checkerClassName,
         checker,
+        classLoader,
         canonicalName,
         allNames,
         message,
@@ -235,18 +318,35 @@ public final class BugCheckerInfo implements Serializable {
     return tags;
   }
 
+  /** Returns the binary name of the checker class, without loading the class. */
+  public String checkerClassName() {
+    return checkerClassName;
+  }
+
   public Class<? extends BugChecker> checkerClass() {
-    return checker;
+    Class<? extends BugChecker> result = checker;
+    if (result == null) {
+      result = loadChecker(checkerClassName, classLoader);
+      checker = result;
+    }
+    return result;
   }
 
   @Override
   public int hashCode() {
-    return checker.hashCode();
+    return checkerClassName.hashCode();
   }
 
   @Override
   public boolean equals(Object o) {
-    return o instanceof BugCheckerInfo bugCheckerInfo && checker.equals(bugCheckerInfo.checker);
+    return o instanceof BugCheckerInfo bugCheckerInfo
+        && checkerClassName.equals(bugCheckerInfo.checkerClassName);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    // The class loader isn't serializable, so load the class while it's still available.
+    checkerClass();
+    out.defaultWriteObject();
   }
 
   @Override
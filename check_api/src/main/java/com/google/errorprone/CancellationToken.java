@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.JCDiagnostic;
+import com.sun.tools.javac.util.Log;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Tells long-running analyses, such as dataflow, that they should give up.
+ *
+ * <p>With {@code -XepOpt:AnalysisDeadlineMillis=N}, the analyses of each compilation unit are
+ * cancelled once N milliseconds have passed since Error Prone started analyzing it. Analyses poll
+ * {@link #isCancelled} at loop boundaries, and once it returns true, give up and return a
+ * conservative result: "unknown", or no finding. The checks themselves keep running, so a
+ * compilation unit that runs past its deadline still gets the findings that don't depend on the
+ * cancelled analyses, along with a note saying that its analyses were cut off.
+ *
+ * <p>Analyses that can't return a result from where they poll, e.g. because they're running in a
+ * library's loop, can call {@link #throwIfCancelled}, and turn the {@link CancellationException}
+ * into an unknown result further up.
+ */
+public final class CancellationToken {
+
+  /** The flag for the time the analyses of each compilation unit may take, in milliseconds. */
+  public static final String DEADLINE_FLAG = "AnalysisDeadlineMillis";
+
+  /** A token that is never cancelled. */
+  public static final CancellationToken NONE = new CancellationToken(Optional.empty());
+
+  /**
+   * Returns the token for the compilation unit currently being analyzed, or {@link #NONE} if
+   * analyses aren't cancelled in this context.
+   */
+  public static CancellationToken instance(Context context) {
+    CancellationToken token = context.get(CancellationToken.class);
+    return token == null ? NONE : token;
+  }
+
+  /** Creates a token for the deadline configured by the given flags. */
+  static CancellationToken create(ErrorProneFlags flags) {
+    Optional<Integer> millis = flags.getInteger(DEADLINE_FLAG);
+    if (millis.isEmpty()) {
+      return NONE;
+    }
+    checkArgument(millis.get() > 0, "%s must be positive, was %s", DEADLINE_FLAG, millis.get());
+    return new CancellationToken(millis.map(Duration::ofMillis));
+  }
+
+  private final boolean enabled;
+  private final long budgetNanos;
+  private long deadlineNanos;
+  private boolean cancelled;
+
+  private CancellationToken(Optional<Duration> budget) {
+    this.enabled = budget.isPresent();
+    this.budgetNanos = budget.map(Duration::toNanos).orElse(0L);
+    start();
+  }
+
+  /** Starts the deadline for a new compilation unit. */
+  void start() {
+    if (enabled) {
+      deadlineNanos = System.nanoTime() + budgetNanos;
+      cancelled = false;
+    }
+  }
+
+  /** Returns true if the analyses of the current compilation unit should give up. */
+  public boolean isCancelled() {
+    if (!enabled || cancelled) {
+      return cancelled;
+    }
+    cancelled = System.nanoTime() - deadlineNanos > 0;
+    return cancelled;
+  }
+
+  /** Throws a {@link CancellationException} if {@link #isCancelled}. */
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new CancellationException("The analysis deadline for this compilation unit passed");
+    }
+  }
+
+  /**
+   * Reports a note on the given compilation unit if any of its analyses gave up because the
+   * deadline passed.
+   */
+  void reportCancellation(CompilationUnitTree compilationUnit, Log log, Context context) {
+    if (!cancelled) {
+      return;
+    }
+    String message =
+        String.format(
+            "Analyses of %s were cut off after the -XepOpt:%s deadline of %dms; findings that"
+                + " depend on them may be missing",
+            compilationUnit.getSourceFile().getName(),
+            DEADLINE_FLAG,
+            Duration.ofNanos(budgetNanos).toMillis());
+    log.report(
+        JCDiagnostic.Factory.instance(context)
+            .create(
+                JCDiagnostic.DiagnosticType.NOTE,
+                /* lintCategory */ null,
+                EnumSet.noneOf(JCDiagnostic.DiagnosticFlag.class),
+                log.currentSource(),
+                new JCDiagnostic.SimpleDiagnosticPosition(
+                    ((JCTree) compilationUnit).getStartPosition()),
+                "error.prone",
+                message));
+  }
+}
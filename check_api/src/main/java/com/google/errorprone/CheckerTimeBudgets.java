@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.matchers.Suppressible;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.JCDiagnostic;
+import com.sun.tools.javac.util.Log;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Time budgets for individual checks, which stop running a check once it has taken too long.
+ *
+ * <p>Budgets are off unless one of the following flags is set:
+ *
+ * <ul>
+ *   <li>{@code -XepOpt:CheckerTimeBudgetPerFileMillis=N} limits the time each check may spend on
+ *       one compilation unit. A check that exceeds it is skipped for the rest of that compilation
+ *       unit.
+ *   <li>{@code -XepOpt:CheckerTimeBudgetMillis=N} limits the time each check may spend on the
+ *       whole compilation. A check that exceeds it is skipped for the rest of the compilation.
+ * </ul>
+ *
+ * <p>The time a check spends on a tree is only known once it has finished with that tree, so a
+ * check can overrun its budget by the time of one invocation. After each compilation unit, a note
+ * lists the checks that ran out of time on it, and the line where they did. Skipped checks can
+ * miss findings, so the note doesn't fail builds that treat warnings as errors.
+ */
+public final class CheckerTimeBudgets {
+
+  /** The flag for the time each check may spend on one compilation unit, in milliseconds. */
+  public static final String PER_FILE_FLAG = "CheckerTimeBudgetPerFileMillis";
+
+  /** The flag for the time each check may spend on the whole compilation, in milliseconds. */
+  public static final String TOTAL_FLAG = "CheckerTimeBudgetMillis";
+
+  private static final Context.Key<CheckerTimeBudgets> KEY = new Context.Key<>();
+
+  private static final CheckerTimeBudgets DISABLED =
+      new CheckerTimeBudgets(Optional.empty(), Optional.empty());
+
+  /**
+   * Returns the budgets for the given compilation. If the flags don't configure any budgets, the
+   * result never skips anything, and isn't stored in the context.
+   */
+  public static CheckerTimeBudgets instance(Context context, ErrorProneFlags flags) {
+    CheckerTimeBudgets instance = context.get(KEY);
+    if (instance != null) {
+      return instance;
+    }
+    Optional<Duration> perFile = budget(flags, PER_FILE_FLAG);
+    Optional<Duration> total = budget(flags, TOTAL_FLAG);
+    if (perFile.isEmpty() && total.isEmpty()) {
+      return DISABLED;
+    }
+    instance = new CheckerTimeBudgets(perFile, total);
+    context.put(KEY, instance);
+    return instance;
+  }
+
+  private static Optional<Duration> budget(ErrorProneFlags flags, String flag) {
+    Optional<Integer> millis = flags.getInteger(flag);
+    millis.ifPresent(m -> checkArgument(m > 0, "%s must be positive, was %s", flag, m));
+    return millis.map(Duration::ofMillis);
+  }
+
+  private final boolean enabled;
+  private final long perFileNanos;
+  private final long totalNanos;
+  private final Map<String, Account> accounts = new HashMap<>();
+  private final List<Degradation> degradations = new ArrayList<>();
+
+  @VisibleForTesting
+  CheckerTimeBudgets(Optional<Duration> perFile, Optional<Duration> total) {
+    this.enabled = perFile.isPresent() || total.isPresent();
+    this.perFileNanos = perFile.map(Duration::toNanos).orElse(Long.MAX_VALUE);
+    this.totalNanos = total.map(Duration::toNanos).orElse(Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns true if any budget is configured. Callers only need to time checks, and call {@link
+   * #charge}, if it is.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns true if the given check has used up its budget, and shouldn't be run again on the
+   * given compilation unit.
+   */
+  public boolean exhausted(Suppressible checker, CompilationUnitTree compilationUnit) {
+    if (!enabled) {
+      return false;
+    }
+    Account account = accounts.get(checker.canonicalName());
+    if (account == null) {
+      return false;
+    }
+    return account.exhaustedTotal
+        || (account.compilationUnit == compilationUnit && account.exhaustedInUnit);
+  }
+
+  /**
+   * Charges the given check for the time it spent on {@code tree}, and records where it ran out of
+   * time if that used up its budget.
+   */
+  public void charge(
+      Suppressible checker, CompilationUnitTree compilationUnit, Tree tree, long nanos) {
+    if (!enabled) {
+      return;
+    }
+    Account account = accounts.computeIfAbsent(checker.canonicalName(), k -> new Account());
+    if (account.compilationUnit != compilationUnit) {
+      account.compilationUnit = compilationUnit;
+      account.inUnitNanos = 0;
+      account.exhaustedInUnit = false;
+    }
+    account.inUnitNanos += nanos;
+    account.totalNanos += nanos;
+    if (account.exhaustedTotal || account.exhaustedInUnit) {
+      return;
+    }
+    if (account.totalNanos > totalNanos) {
+      account.exhaustedTotal = true;
+      degradations.add(
+          new Degradation(
+              checker.canonicalName(),
+              compilationUnit,
+              ((JCTree) tree).getStartPosition(),
+              Duration.ofNanos(account.totalNanos),
+              /* total= */ true));
+    } else if (account.inUnitNanos > perFileNanos) {
+      account.exhaustedInUnit = true;
+      degradations.add(
+          new Degradation(
+              checker.canonicalName(),
+              compilationUnit,
+              ((JCTree) tree).getStartPosition(),
+              Duration.ofNanos(account.inUnitNanos),
+              /* total= */ false));
+    }
+  }
+
+  /** Returns, and forgets, the checks that ran out of time on the given compilation unit. */
+  @VisibleForTesting
+  ImmutableList<Degradation> takeDegradations(CompilationUnitTree compilationUnit) {
+    ImmutableList<Degradation> result =
+        degradations.stream()
+            .filter(d -> d.compilationUnit() == compilationUnit)
+            .collect(toImmutableList());
+    degradations.removeIf(d -> d.compilationUnit() == compilationUnit);
+    return result;
+  }
+
+  /**
+   * Reports a note, at the position where the first of them ran out of time, listing the checks
+   * that ran out of time on the given compilation unit.
+   */
+  void reportDegradations(CompilationUnitTree compilationUnit, Log log, Context context) {
+    if (!enabled) {
+      return;
+    }
+    ImmutableList<Degradation> degradations = takeDegradations(compilationUnit);
+    if (degradations.isEmpty()) {
+      return;
+    }
+    String message =
+        degradations.stream()
+            .map(Degradation::describe)
+            .collect(
+                joining(
+                    "\n  ",
+                    "Some checks ran out of time, and were skipped for the rest of this file:\n  ",
+                    ""));
+    log.report(
+        JCDiagnostic.Factory.instance(context)
+            .create(
+                JCDiagnostic.DiagnosticType.NOTE,
+                /* lintCategory */ null,
+                EnumSet.noneOf(JCDiagnostic.DiagnosticFlag.class),
+                log.currentSource(),
+                new JCDiagnostic.SimpleDiagnosticPosition(degradations.get(0).position()),
+                "error.prone",
+                message));
+  }
+
+  /** The time a check has spent so far. */
+  private static final class Account {
+    @Nullable CompilationUnitTree compilationUnit;
+    long inUnitNanos;
+    long totalNanos;
+    boolean exhaustedInUnit;
+    boolean exhaustedTotal;
+  }
+
+  /** A check that ran out of time at the given position. */
+  @VisibleForTesting
+  record Degradation(
+      String checker,
+      CompilationUnitTree compilationUnit,
+      int position,
+      Duration spent,
+      boolean total) {
+
+    String describe() {
+      return String.format(
+          "%s, at line %d, after %d ms %s",
+          checker,
+          compilationUnit.getLineMap().getLineNumber(position),
+          spent.toMillis(),
+          total
+              ? "in this compilation; it is skipped for the rest of the compilation"
+              : "on this file");
+    }
+  }
+}
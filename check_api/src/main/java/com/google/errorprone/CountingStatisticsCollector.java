@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Multiset;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link StatisticsCollector} returned by {@link StatisticsCollector#createCollector}.
+ *
+ * <p>Typed counters and histograms are stored in arrays indexed by their handle's index, so
+ * updating them doesn't hash or allocate. Like the string counters, they aren't thread-safe: a
+ * collector is only updated by the thread that runs the compilation.
+ */
+final class CountingStatisticsCollector implements StatisticsCollector {
+
+  private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+  /** Returns the index of a new counter or histogram handle. */
+  static int nextIndex() {
+    return NEXT_INDEX.getAndIncrement();
+  }
+
+  private final Multiset<String> strings = HashMultiset.create();
+
+  // Typed counters and histograms share the index space, so these are sparse, but there are only
+  // as many indices as there are handles, which is a few per checker.
+  private long[] counts = new long[0];
+  private final List<Counter> counters = new ArrayList<>();
+  private HistogramValues[] histogramValues = new HistogramValues[0];
+  private final List<Histogram> histograms = new ArrayList<>();
+
+  @Override
+  public void incrementCounter(String key, int count) {
+    strings.add(key, count);
+  }
+
+  @Override
+  public void incrementCounter(Counter counter, long count) {
+    checkArgument(count >= 0, "negative count: %s", count);
+    if (count == 0) {
+      return;
+    }
+    int index = counter.index();
+    if (index >= counts.length) {
+      counts = Arrays.copyOf(counts, capacity(index));
+    }
+    if (counts[index] == 0) {
+      counters.add(counter);
+    }
+    counts[index] += count;
+  }
+
+  @Override
+  public void recordValue(Histogram histogram, long value) {
+    int index = histogram.index();
+    if (index >= histogramValues.length) {
+      histogramValues = Arrays.copyOf(histogramValues, capacity(index));
+    }
+    HistogramValues values = histogramValues[index];
+    if (values == null) {
+      values = histogramValues[index] = new HistogramValues();
+      histograms.add(histogram);
+    }
+    values.record(Math.max(value, 0));
+  }
+
+  private static int capacity(int index) {
+    return Math.max(index + 1, NEXT_INDEX.get());
+  }
+
+  @Override
+  public ImmutableMultiset<String> counters() {
+    if (counters.isEmpty()) {
+      return ImmutableMultiset.copyOf(strings);
+    }
+    Multiset<String> result = HashMultiset.create(strings);
+    for (Counter counter : counters) {
+      result.add(counter.name(), Ints.saturatedCast(counts[counter.index()]));
+    }
+    return ImmutableMultiset.copyOf(result);
+  }
+
+  @Override
+  public Snapshot snapshot() {
+    TreeMap<String, Long> counters = new TreeMap<>();
+    for (Multiset.Entry<String> entry : strings.entrySet()) {
+      counters.put(entry.getElement(), (long) entry.getCount());
+    }
+    for (Counter counter : this.counters) {
+      counters.merge(counter.name(), counts[counter.index()], Long::sum);
+    }
+    ImmutableSortedMap.Builder<String, HistogramSnapshot> histograms =
+        ImmutableSortedMap.naturalOrder();
+    for (Histogram histogram : this.histograms) {
+      histograms.put(histogram.name(), histogramValues[histogram.index()].snapshot());
+    }
+    return new Snapshot(ImmutableSortedMap.copyOfSorted(counters), histograms.buildOrThrow());
+  }
+
+  private static final class HistogramValues {
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private final long[] buckets = new long[HistogramSnapshot.BUCKETS];
+
+    void record(long value) {
+      count++;
+      sum += value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      buckets[64 - Long.numberOfLeadingZeros(value)]++;
+    }
+
+    HistogramSnapshot snapshot() {
+      return new HistogramSnapshot(
+          count, sum, min, max, ImmutableList.copyOf(Longs.asList(buckets.clone())));
+    }
+  }
+}
@@ -20,9 +20,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Throwables.getStackTraceAsString;
 import static com.google.common.base.Verify.verify;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.ErrorProneOptions.Severity;
 import com.google.errorprone.RefactoringCollection.RefactoringResult;
@@ -44,7 +46,10 @@ import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
 import com.sun.tools.javac.util.Log.WriterKind;
 import com.sun.tools.javac.util.PropagatedException;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.util.HashSet;
 import java.util.Set;
 import javax.tools.JavaFileObject;
@@ -54,12 +59,20 @@ import org.safere.Pattern;
 @Trusted
 public final class ErrorProneAnalyzer implements TaskListener {
 
-  // The set of trees that have already been scanned.
+  // The top-level declarations that have been attributed and flowed, in compilation units that
+  // haven't been fully analyzed yet. Declarations are removed once their compilation unit has been
+  // analyzed, so that under -XDcompilePolicy=byfile Error Prone doesn't keep every tree of the
+  // compilation reachable.
   private final Set<Tree> seen = new HashSet<>();
 
+  // The source files of the compilation units that have been fully analyzed, so that duplicate
+  // events are still detected after their declarations have been removed from seen.
+  private final Set<JavaFileObject> completed = Sets.newIdentityHashSet();
+
   private final Supplier<CodeTransformer> transformer;
   private final ErrorProneOptions errorProneOptions;
   private final Context context;
+  private final CancellationToken cancellationToken;
   private final DescriptionListener.Factory descriptionListenerFactory;
 
   public static ErrorProneAnalyzer createAnalyzer(
@@ -70,7 +83,8 @@ public final class ErrorProneAnalyzer implements TaskListener {
     if (!epOptions.patchingOptions().doRefactor()) {
       return createByScanningForPlugins(scannerSupplier, epOptions, context);
     }
-    refactoringCollection[0] = RefactoringCollection.refactor(epOptions.patchingOptions(), context);
+    refactoringCollection[0] =
+        RefactoringCollection.refactor(epOptions.patchingOptions(), epOptions.getFlags(), context);
 
     // Refaster refactorer or using builtin checks
     Supplier<CodeTransformer> codeTransformer =
@@ -115,6 +129,16 @@ public final class ErrorProneAnalyzer implements TaskListener {
 
     @Override
     public void finished(TaskEvent event) {
+      if (event.getKind() == Kind.COMPILATION) {
+        try {
+          refactoringCollection.awaitPendingChanges(this::report);
+        } catch (Exception e) {
+          PrintWriter out = Log.instance(context).getWriter(WriterKind.ERROR);
+          out.println(e.getMessage());
+          out.flush();
+        }
+        return;
+      }
       if (event.getKind() != Kind.GENERATE) {
         return;
       }
@@ -127,6 +151,10 @@ public final class ErrorProneAnalyzer implements TaskListener {
         out.flush();
         return;
       }
+      report(refactoringResult);
+    }
+
+    private void report(RefactoringResult refactoringResult) {
       if (refactoringResult.type() == RefactoringCollection.RefactoringResultType.CHANGED) {
         PrintWriter out = Log.instance(context).getWriter(WriterKind.NOTICE);
         out.println(refactoringResult.message());
@@ -141,7 +169,8 @@ public final class ErrorProneAnalyzer implements TaskListener {
         scansPlugins(scannerSupplier, errorProneOptions, context),
         errorProneOptions,
         context,
-        JavacErrorDescriptionListener.provider(context));
+        StructuredFindingsWriter.maybeWrap(
+            JavacErrorDescriptionListener.provider(context), errorProneOptions.getFlags()));
   }
 
   private static Supplier<CodeTransformer> scansPlugins(
@@ -151,6 +180,8 @@ public final class ErrorProneAnalyzer implements TaskListener {
           // we can't load plugins from the processorpath until the filemanager has been
           // initialized, so do it lazily
           ErrorProneTimings timings = ErrorProneTimings.instance(context);
+          ErrorProneEvents.Initialization event = new ErrorProneEvents.Initialization();
+          event.begin();
           try (AutoCloseable unused = timings.initializationTimeSpan()) {
             return ErrorProneScannerTransformer.create(
                 ErrorPronePlugins.loadPlugins(scannerSupplier, context)
@@ -161,6 +192,8 @@ public final class ErrorProneAnalyzer implements TaskListener {
           } catch (Exception e) {
             // for the timing span, should be impossible
             throw new AssertionError(e);
+          } finally {
+            event.commit();
           }
         });
   }
@@ -185,6 +218,8 @@ public final class ErrorProneAnalyzer implements TaskListener {
 
     Context errorProneContext = new SubContext(context);
     errorProneContext.put(ErrorProneOptions.class, errorProneOptions);
+    this.cancellationToken = CancellationToken.create(errorProneOptions.getFlags());
+    errorProneContext.put(CancellationToken.class, cancellationToken);
     this.context = errorProneContext;
   }
 
@@ -192,6 +227,15 @@ public final class ErrorProneAnalyzer implements TaskListener {
 
   @Override
   public void finished(TaskEvent taskEvent) {
+    if (taskEvent.getKind() == Kind.COMPILATION
+        && descriptionListenerFactory instanceof Closeable closeable) {
+      try {
+        closeable.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return;
+    }
     if (taskEvent.getKind() != Kind.ANALYZE) {
       return;
     }
@@ -202,10 +246,13 @@ public final class ErrorProneAnalyzer implements TaskListener {
     if (path == null) {
       path = new TreePath(taskEvent.getCompilationUnit());
     }
+    JCCompilationUnit compilation = (JCCompilationUnit) path.getCompilationUnit();
     // Assert that the event is unique and scan the current tree.
-    verify(seen.add(path.getLeaf()), "Duplicate FLOW event for: %s", taskEvent.getTypeElement());
+    verify(
+        !completed.contains(compilation.getSourceFile()) && seen.add(path.getLeaf()),
+        "Duplicate FLOW event for: %s",
+        taskEvent.getTypeElement());
     Log log = Log.instance(context);
-    JCCompilationUnit compilation = (JCCompilationUnit) path.getCompilationUnit();
     DescriptionListener descriptionListener =
         descriptionListenerFactory.getDescriptionListener(log, compilation);
     DescriptionListener countingDescriptionListener =
@@ -215,21 +262,29 @@ public final class ErrorProneAnalyzer implements TaskListener {
           }
           descriptionListener.onDescribed(d);
         };
+    // We only get TaskEvents for compilation units if they contain no package declarations
+    // (e.g. package-info.java files), in which case it's safe to analyze the CompilationUnitTree
+    // immediately. Otherwise this TaskEvent is for a ClassTree, and we can scan the whole
+    // CompilationUnitTree once we've seen all the enclosed classes.
+    boolean compilationUnitEvent = path.getLeaf() instanceof CompilationUnitTree;
+    boolean complete = compilationUnitEvent || finishedCompilation(compilation);
     JavaFileObject originalSource = log.useSource(compilation.getSourceFile());
+    ErrorProneEvents.CompilationUnit event = null;
     try {
-      if (shouldExcludeSourceFile(compilation)) {
+      if (!complete || shouldExcludeSourceFile(compilation)) {
         return;
       }
-      if (path.getLeaf() instanceof CompilationUnitTree) {
-        // We only get TaskEvents for compilation units if they contain no package declarations
-        // (e.g. package-info.java files).  In this case it's safe to analyze the
-        // CompilationUnitTree immediately.
-        transformer.get().apply(path, context, countingDescriptionListener);
-      } else if (finishedCompilation(path.getCompilationUnit())) {
-        // Otherwise this TaskEvent is for a ClassTree, and we can scan the whole
-        // CompilationUnitTree once we've seen all the enclosed classes.
-        transformer.get().apply(new TreePath(compilation), context, countingDescriptionListener);
-      }
+      event = new ErrorProneEvents.CompilationUnit();
+      event.begin();
+      CodeTransformer codeTransformer = transformer.get();
+      cancellationToken.start();
+      codeTransformer.apply(
+          compilationUnitEvent ? path : new TreePath(compilation),
+          context,
+          countingDescriptionListener);
+      cancellationToken.reportCancellation(compilation, log, context);
+      CheckerTimeBudgets.instance(context, errorProneOptions.getFlags())
+          .reportDegradations(compilation, log, context);
     } catch (ErrorProneError e) {
       e.logFatalError(log, context);
       // let the exception propagate to javac's main, where it will cause the compilation to
@@ -249,10 +304,29 @@ public final class ErrorProneAnalyzer implements TaskListener {
       // reported yet, but we don't want to crash javac.
       log.error("proc.cant.access", e.sym, e.getDetailValue(), getStackTraceAsString(e));
     } finally {
+      if (event != null) {
+        event.end();
+        if (event.shouldCommit()) {
+          event.file = ErrorProneEvents.fileName(compilation);
+          event.commit();
+        }
+      }
       log.useSource(originalSource);
+      if (complete) {
+        // Nothing in the compilation unit will be analyzed again.
+        seen.remove(path.getLeaf());
+        compilation.getTypeDecls().forEach(seen::remove);
+        completed.add(compilation.getSourceFile());
+      }
     }
   }
 
+  /** Returns the number of top-level declarations that are kept until their file is analyzed. */
+  @VisibleForTesting
+  int retainedDeclarations() {
+    return seen.size();
+  }
+
   /** Returns true if the given source file should be excluded from analysis. */
   private boolean shouldExcludeSourceFile(CompilationUnitTree tree) {
     Pattern excludedPattern = errorProneOptions.getExcludedPattern();
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import com.sun.source.tree.CompilationUnitTree;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder events for the phases of an Error Prone compilation.
+ *
+ * <p>The events are recorded when the compiler runs with a recording that enables them, e.g. with
+ * {@code -J-XX:StartFlightRecording:filename=build.jfr}, and can be read with the standard JFR
+ * tooling, e.g. {@code jfr print --categories "Error Prone" build.jfr}. Disabled events cost next
+ * to nothing, and their attributes are only computed when an event is committed, so callers
+ * should follow the pattern below. Note that {@link Event#shouldCommit} only takes the threshold
+ * into account once the event has {@linkplain Event#end ended}.
+ *
+ * <pre>{@code
+ * ErrorProneEvents.CompilationUnit event = new ErrorProneEvents.CompilationUnit();
+ * event.begin();
+ * ...
+ * event.end();
+ * if (event.shouldCommit()) {
+ *   event.file = ErrorProneEvents.fileName(compilationUnit);
+ *   event.commit();
+ * }
+ * }</pre>
+ */
+public final class ErrorProneEvents {
+
+  private static final String CATEGORY = "Error Prone";
+
+  /** Returns the name of the source file of the given compilation unit, for use as an attribute. */
+  public static @Nullable String fileName(@Nullable CompilationUnitTree compilationUnit) {
+    return compilationUnit == null || compilationUnit.getSourceFile() == null
+        ? null
+        : compilationUnit.getSourceFile().getName();
+  }
+
+  /** Loading plugins and instantiating the enabled checkers. */
+  @Name("com.google.errorprone.Initialization")
+  @Label("Initialization")
+  @Category(CATEGORY)
+  @Description("Loading plugins and instantiating the enabled checkers")
+  @StackTrace(false)
+  public static final class Initialization extends Event {}
+
+  /** Running all checkers over one compilation unit. */
+  @Name("com.google.errorprone.CompilationUnit")
+  @Label("Compilation Unit")
+  @Category(CATEGORY)
+  @Description("Running all checkers over one compilation unit")
+  @StackTrace(false)
+  public static final class CompilationUnit extends Event {
+    @Label("File")
+    public @Nullable String file;
+  }
+
+  /**
+   * One invocation of one checker on one tree. Only invocations that take longer than the
+   * threshold, 1 ms unless the recording's settings say otherwise, are recorded.
+   */
+  @Name("com.google.errorprone.Checker")
+  @Label("Checker Invocation")
+  @Category(CATEGORY)
+  @Description("An invocation of a checker on a tree that took longer than the threshold")
+  @Threshold("1 ms")
+  @StackTrace(false)
+  public static final class Checker extends Event {
+    @Label("File")
+    public @Nullable String file;
+
+    @Label("Checker")
+    public @Nullable String checker;
+
+    @Label("Tree Kind")
+    public @Nullable String treeKind;
+  }
+
+  /** Building the control flow graph of a method, lambda or initializer for dataflow. */
+  @Name("com.google.errorprone.ControlFlowGraph")
+  @Label("Control Flow Graph")
+  @Category({CATEGORY, "Dataflow"})
+  @Description("Building the control flow graph of a method, lambda or initializer")
+  @StackTrace(false)
+  public static final class ControlFlowGraph extends Event {
+    @Label("File")
+    public @Nullable String file;
+
+    @Label("Tree Kind")
+    public @Nullable String treeKind;
+  }
+
+  /** Running a dataflow analysis over a control flow graph to its fixpoint. */
+  @Name("com.google.errorprone.DataflowAnalysis")
+  @Label("Dataflow Analysis")
+  @Category({CATEGORY, "Dataflow"})
+  @Description("Running a dataflow analysis over a control flow graph to its fixpoint")
+  @StackTrace(false)
+  public static final class DataflowAnalysis extends Event {
+    @Label("File")
+    public @Nullable String file;
+
+    @Label("Tree Kind")
+    public @Nullable String treeKind;
+
+    @Label("Transfer Function")
+    public @Nullable String transferFunction;
+  }
+
+  /** Recompiling with a suggested fix applied, to check that the fix compiles. */
+  @Name("com.google.errorprone.FixCompile")
+  @Label("Fix Recompile")
+  @Category(CATEGORY)
+  @Description("Recompiling with a suggested fix applied, to check that the fix compiles")
+  public static final class FixCompile extends Event {
+    @Label("File")
+    public @Nullable String file;
+
+    @Label("Diagnostics")
+    public int diagnostics;
+  }
+
+  /** Applying the suggested fixes for a file, and writing the result or a patch. */
+  @Name("com.google.errorprone.PatchWrite")
+  @Label("Patch Write")
+  @Category(CATEGORY)
+  @Description("Applying the suggested fixes for a file, and writing the result or a patch")
+  @StackTrace(false)
+  public static final class PatchWrite extends Event {
+    @Label("File")
+    public @Nullable String file;
+  }
+
+  private ErrorProneEvents() {}
+}
@@ -70,4 +70,10 @@ public final class ErrorProneTimings {
   public Duration initializationTime() {
     return initializationTime.elapsed();
   }
+
+  /** Discards the timings so far, before the context is reused for another compilation. */
+  void reset() {
+    timers.clear();
+    initializationTime.reset();
+  }
 }
@@ -27,6 +27,7 @@ import com.google.errorprone.fixes.ErrorPronePosition;
 import com.google.errorprone.fixes.Fix;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LineMap;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.JCDiagnostic;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
@@ -70,6 +71,7 @@ public final class JavacErrorDescriptionListener implements DescriptionListener
   private JavacErrorDescriptionListener(
       Log log,
       ErrorProneEndPosTable endPositions,
+      LineMap lineMap,
       JavaFileObject sourceFile,
       Context context,
       boolean dontUseErrors) {
@@ -91,7 +93,7 @@ public final class JavacErrorDescriptionListener implements DescriptionListener
                   fix,
                   f -> {
                     try {
-                      return AppliedFix.apply(sourceFileContent, endPositions, f);
+                      return AppliedFix.apply(sourceFileContent, lineMap, endPositions, f);
                     } catch (SourcePositionException e) {
                       throw e.toErrorProneError(description.checkName, sourceFile);
                     }
@@ -103,8 +105,13 @@ public final class JavacErrorDescriptionListener implements DescriptionListener
 
   @Override
   public void onDescribed(Description description) {
+    // Lazy fixes are only suggested if there's no other fix, and then only the first is computed.
+    ImmutableList<Fix> fixes = description.eagerFixes();
+    if (fixes.isEmpty()) {
+      fixes = description.firstFix().map(ImmutableList::of).orElse(ImmutableList.of());
+    }
     ImmutableList<AppliedFix> appliedFixes =
-        description.fixes.stream()
+        fixes.stream()
             .filter(f -> !shouldSkipImportTreeFix(description.position, f))
             .map(f -> fixToAppliedFix.apply(description, f))
             .filter(Objects::nonNull)
@@ -181,6 +188,7 @@ public final class JavacErrorDescriptionListener implements DescriptionListener
         new JavacErrorDescriptionListener(
             log,
             ErrorProneEndPosTable.create(compilation),
+            compilation.getLineMap(),
             compilation.getSourceFile(),
             context,
             false);
@@ -191,6 +199,7 @@ public final class JavacErrorDescriptionListener implements DescriptionListener
         new JavacErrorDescriptionListener(
             log,
             ErrorProneEndPosTable.create(compilation),
+            compilation.getLineMap(),
             compilation.getSourceFile(),
             context,
             true);
@@ -16,13 +16,17 @@
 
 package com.google.errorprone;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.ErrorProneOptions.PatchingOptions;
 import com.google.errorprone.apply.DescriptionBasedDiff;
 import com.google.errorprone.apply.FileDestination;
@@ -42,11 +46,23 @@ import java.net.URI;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.jspecify.annotations.Nullable;
 
 /** A container of fixes that have been collected during a single compilation phase. */
 public final class RefactoringCollection implements DescriptionListener.Factory {
@@ -61,20 +77,83 @@ public final class RefactoringCollection implements DescriptionListener.Factory
   private final DescriptionListener.Factory descriptionsFactory;
   private final ImportOrganizer importOrganizer;
 
+  /**
+   * Applies and writes in-place changes off the compiler thread, or null to apply them
+   * synchronously.
+   */
+  private final @Nullable ExecutorService writeBehind;
+
+  private final List<PendingWrite> pendingWrites = new ArrayList<>();
+
+  /**
+   * The number of threads that write in-place changes; defaults to 0, which applies them on the
+   * compiler thread.
+   */
+  static final String WRITE_BEHIND_THREADS_FLAG = "PatchWriteBehindThreads";
+
+  /**
+   * The number of files that may be waiting to be written before the compiler thread writes them
+   * itself; defaults to 64.
+   */
+  static final String WRITE_BEHIND_QUEUE_SIZE_FLAG = "PatchWriteBehindQueueSize";
+
+  /**
+   * How long an idle writer thread is kept. The threads aren't daemons, so writes that are still
+   * queued when the compilation ends without waiting for them, e.g. because it crashed, are
+   * finished before the JVM exits; the threads then time out instead of keeping the JVM alive.
+   */
+  private static final long WRITE_BEHIND_KEEP_ALIVE_SECONDS = 1;
+
+  /** A file whose changes are being applied off the compiler thread. */
+  private record PendingWrite(URI uri, Future<Boolean> applied) {}
+
+  /**
+   * The file that changes are written to when patching to a directory; defaults to {@code
+   * error-prone.patch} in that directory. It must be an absolute path. Paths in the patch are still
+   * relative to the directory.
+   */
+  static final String PATCH_FILE_FLAG = "PatchFile";
+
   record RefactoringResult(String message, RefactoringResultType type) {}
 
   enum RefactoringResultType {
     NO_CHANGES,
     CHANGED,
+    /**
+     * The changes are being written off the compiler thread, and the result is reported once they
+     * have been written; see {@link RefactoringCollection#awaitPendingChanges}.
+     */
+    PENDING,
   }
 
-  static RefactoringCollection refactor(PatchingOptions patchingOptions, Context context) {
+  static RefactoringCollection refactor(
+      PatchingOptions patchingOptions, ErrorProneFlags flags, Context context) {
     Path rootPath = buildRootPath();
     FileDestination fileDestination;
     Function<URI, RefactoringResult> postProcess;
+    ExecutorService writeBehind = null;
 
     if (patchingOptions.inPlace()) {
       fileDestination = new FsFileDestination(rootPath);
+      int threads = flags.getInteger(WRITE_BEHIND_THREADS_FLAG).orElse(0);
+      if (threads > 0) {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(
+                threads,
+                threads,
+                WRITE_BEHIND_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(
+                    flags.getInteger(WRITE_BEHIND_QUEUE_SIZE_FLAG).orElse(64)),
+                new ThreadFactoryBuilder()
+                    .setDaemon(false)
+                    .setNameFormat("error-prone-patch-writer-%d")
+                    .build(),
+                // When the queue is full, the compiler thread applies the changes itself.
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        writeBehind = executor;
+      }
       postProcess =
           uri -> {
             String message =
@@ -86,7 +165,7 @@ public final class RefactoringCollection implements DescriptionListener.Factory
           };
     } else {
       Path baseDir = rootPath.resolve(patchingOptions.baseDirectory());
-      Path patchFilePath = baseDir.resolve("error-prone.patch");
+      Path patchFilePath = patchFile(patchingOptions, flags);
 
       PatchFileDestination patchFileDestination = new PatchFileDestination(baseDir, rootPath);
       postProcess =
@@ -113,7 +192,19 @@ public final class RefactoringCollection implements DescriptionListener.Factory
 
     ImportOrganizer importOrganizer = patchingOptions.importOrganizer();
     return new RefactoringCollection(
-        rootPath, fileDestination, postProcess, importOrganizer, context);
+        rootPath, fileDestination, postProcess, importOrganizer, writeBehind, context);
+  }
+
+  /** Returns the file that changes are written to when patching to a directory. */
+  static Path patchFile(PatchingOptions patchingOptions, ErrorProneFlags flags) {
+    Optional<String> patchFile = flags.get(PATCH_FILE_FLAG);
+    if (patchFile.isPresent()) {
+      Path path = Paths.get(patchFile.get());
+      checkArgument(
+          path.isAbsolute(), "-XepOpt:%s must be an absolute path: %s", PATCH_FILE_FLAG, path);
+      return path;
+    }
+    return buildRootPath().resolve(patchingOptions.baseDirectory()).resolve("error-prone.patch");
   }
 
   private RefactoringCollection(
@@ -121,12 +212,14 @@ public final class RefactoringCollection implements DescriptionListener.Factory
       FileDestination fileDestination,
       Function<URI, RefactoringResult> postProcess,
       ImportOrganizer importOrganizer,
+      @Nullable ExecutorService writeBehind,
       Context context) {
     this.rootPath = rootPath;
     this.fileDestination = fileDestination;
     this.postProcess = postProcess;
     this.descriptionsFactory = JavacErrorDescriptionListener.providerForRefactoring(context);
     this.importOrganizer = importOrganizer;
+    this.writeBehind = writeBehind;
   }
 
   private static Path buildRootPath() {
@@ -151,6 +244,21 @@ public final class RefactoringCollection implements DescriptionListener.Factory
 
   RefactoringResult applyChanges(URI uri) throws Exception {
     Collection<DelegatingDescriptionListener> listeners = foundSources.removeAll(uri);
+    if (writeBehind != null) {
+      ImmutableList<DelegatingDescriptionListener> changed =
+          listeners.stream().filter(l -> !l.base.isEmpty()).collect(toImmutableList());
+      if (changed.isEmpty()) {
+        return new RefactoringResult("", RefactoringResultType.NO_CHANGES);
+      }
+      // Javac is done with the compilation unit once it has been generated, so the diffs can be
+      // applied and written while the compiler moves on to the next file.
+      pendingWrites.add(
+          new PendingWrite(
+              uri,
+              writeBehind.submit(
+                  () -> doApplyProcess(fileDestination, new FsFileSource(rootPath), changed))));
+      return new RefactoringResult("", RefactoringResultType.PENDING);
+    }
     if (doApplyProcess(fileDestination, new FsFileSource(rootPath), listeners)) {
       return postProcess.apply(uri);
     }
@@ -158,11 +266,44 @@ public final class RefactoringCollection implements DescriptionListener.Factory
     return new RefactoringResult("", RefactoringResultType.NO_CHANGES);
   }
 
+  /**
+   * Waits for all changes that are being applied off the compiler thread to be written, and passes
+   * the result for each file that was changed to {@code onChanged}, in the order in which the files
+   * were generated. Called once at the end of the compilation.
+   */
+  void awaitPendingChanges(Consumer<RefactoringResult> onChanged) throws Exception {
+    if (writeBehind == null) {
+      return;
+    }
+    writeBehind.shutdown();
+    Exception failure = null;
+    for (PendingWrite pendingWrite : pendingWrites) {
+      try {
+        if (pendingWrite.applied().get()) {
+          onChanged.accept(postProcess.apply(pendingWrite.uri()));
+        }
+      } catch (ExecutionException e) {
+        Exception cause = e.getCause() instanceof Exception c ? c : e;
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    pendingWrites.clear();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
   private static void writePatchFile(
       AtomicBoolean first, URI uri, PatchFileDestination fileDestination, Path patchFilePatch)
       throws IOException {
     String patchFile = fileDestination.patchFile(uri);
     if (patchFile != null) {
+      ErrorProneEvents.PatchWrite event = new ErrorProneEvents.PatchWrite();
+      event.begin();
       if (first.compareAndSet(true, false)) {
         try {
           Files.deleteIfExists(patchFilePatch);
@@ -172,6 +313,11 @@ public final class RefactoringCollection implements DescriptionListener.Factory
       }
       Files.createDirectories(patchFilePatch.getParent());
       Files.write(patchFilePatch, patchFile.getBytes(UTF_8), APPEND, CREATE);
+      event.end();
+      if (event.shouldCommit()) {
+        event.file = uri.toString();
+        event.commit();
+      }
     }
   }
 
@@ -185,11 +331,18 @@ public final class RefactoringCollection implements DescriptionListener.Factory
         continue;
       }
 
+      ErrorProneEvents.PatchWrite event = new ErrorProneEvents.PatchWrite();
+      event.begin();
       try {
         SourceFile file = fileSource.readFile(listener.base.getRelevantFileName());
         listener.base.applyDifferences(file);
         fileDestination.writeFile(file);
         appliedDiff = true;
+        event.end();
+        if (event.shouldCommit()) {
+          event.file = listener.base.getRelevantFileName();
+          event.commit();
+        }
       } catch (IOException e) {
         logger.log(
             Level.WARNING,
@@ -16,11 +16,25 @@
 
 package com.google.errorprone;
 
-import com.google.common.collect.HashMultiset;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Multiset;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** A collector of counters keyed by strings. */
+/**
+ * A collector of counters keyed by strings.
+ *
+ * <p>Besides counters that are looked up by a string key on every call, a collector supports
+ * typed {@link Counter} and {@link Histogram} handles, which are created once, e.g. in a field of
+ * a checker, and are cheap enough to update in hot code.
+ */
 public interface StatisticsCollector {
 
   /** Adds 1 to the counter for {@code key}. */
@@ -31,24 +45,29 @@ public interface StatisticsCollector {
   /** Adds {@code count} to the counter for {@code key}. */
   void incrementCounter(String key, int count);
 
+  /** Adds {@code count} to the given counter. */
+  default void incrementCounter(Counter counter, long count) {
+    incrementCounter(counter.name(), Ints.saturatedCast(count));
+  }
+
+  /** Records a value in the given histogram. */
+  default void recordValue(Histogram histogram, long value) {}
+
   /** Returns a copy of the counters in this statistics collector. */
   ImmutableMultiset<String> counters();
 
+  /** Returns a copy of the counters and histograms in this statistics collector. */
+  default Snapshot snapshot() {
+    ImmutableSortedMap.Builder<String, Long> counters = ImmutableSortedMap.naturalOrder();
+    for (Multiset.Entry<String> entry : counters().entrySet()) {
+      counters.put(entry.getElement(), (long) entry.getCount());
+    }
+    return new Snapshot(counters.buildOrThrow(), ImmutableSortedMap.of());
+  }
+
   /** Returns a new statistics collector that will successfully count keys added to it. */
   static StatisticsCollector createCollector() {
-    return new StatisticsCollector() {
-      private final Multiset<String> strings = HashMultiset.create();
-
-      @Override
-      public void incrementCounter(String key, int count) {
-        strings.add(key, count);
-      }
-
-      @Override
-      public ImmutableMultiset<String> counters() {
-        return ImmutableMultiset.copyOf(strings);
-      }
-    };
+    return new CountingStatisticsCollector();
   }
 
   /**
@@ -60,10 +79,212 @@ public interface StatisticsCollector {
       @Override
       public void incrementCounter(String key, int count) {}
 
+      @Override
+      public void incrementCounter(Counter counter, long count) {}
+
       @Override
       public ImmutableMultiset<String> counters() {
         return ImmutableMultiset.of();
       }
     };
   }
+
+  /**
+   * A handle to a named counter. Handles are interned by name, and carry a dense index that
+   * collectors use to store their counts in an array rather than a map.
+   */
+  final class Counter {
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int index;
+    private final Counter suppressed;
+
+    /** Returns the counter with the given name. */
+    public static Counter named(String name) {
+      return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    private Counter(String name) {
+      this.name = name;
+      this.index = CountingStatisticsCollector.nextIndex();
+      this.suppressed = new Counter(this);
+    }
+
+    private Counter(Counter unsuppressed) {
+      this.name = unsuppressed.name + "-suppressed";
+      this.index = CountingStatisticsCollector.nextIndex();
+      this.suppressed = this;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    int index() {
+      return index;
+    }
+
+    /** Returns the counter for the occurrences in suppressed code. */
+    public Counter suppressed() {
+      return suppressed;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * A handle to a named histogram of non-negative values, interned by name like {@link Counter}.
+   * Values are counted in buckets whose bounds are powers of two.
+   */
+  final class Histogram {
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int index;
+    private final Histogram suppressed;
+
+    /** Returns the histogram with the given name. */
+    public static Histogram named(String name) {
+      return HISTOGRAMS.computeIfAbsent(name, Histogram::new);
+    }
+
+    private Histogram(String name) {
+      this.name = name;
+      this.index = CountingStatisticsCollector.nextIndex();
+      this.suppressed = new Histogram(this);
+    }
+
+    private Histogram(Histogram unsuppressed) {
+      this.name = unsuppressed.name + "-suppressed";
+      this.index = CountingStatisticsCollector.nextIndex();
+      this.suppressed = this;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    int index() {
+      return index;
+    }
+
+    /** Returns the histogram for the values recorded in suppressed code. */
+    public Histogram suppressed() {
+      return suppressed;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The values recorded in a {@link Histogram}. {@code buckets.get(i)} is the number of values
+   * {@code v} with {@code 64 - Long.numberOfLeadingZeros(v) == i}, i.e. bucket 0 counts the zeros
+   * and bucket {@code i > 0} the values in {@code [2^(i-1), 2^i)}.
+   */
+  record HistogramSnapshot(long count, long sum, long min, long max, ImmutableList<Long> buckets) {
+    /** The number of buckets. */
+    public static final int BUCKETS = 64;
+
+    public HistogramSnapshot {
+      checkArgument(buckets.size() == BUCKETS, "expected %s buckets: %s", BUCKETS, buckets);
+    }
+
+    /** Returns a histogram with the values of both this and {@code other}. */
+    public HistogramSnapshot plus(HistogramSnapshot other) {
+      if (count == 0) {
+        return other;
+      }
+      if (other.count == 0) {
+        return this;
+      }
+      long[] merged = Longs.toArray(buckets);
+      for (int i = 0; i < BUCKETS; i++) {
+        merged[i] += other.buckets.get(i);
+      }
+      return new HistogramSnapshot(
+          count + other.count,
+          sum + other.sum,
+          Math.min(min, other.min),
+          Math.max(max, other.max),
+          ImmutableList.copyOf(Longs.asList(merged)));
+    }
+  }
+
+  /**
+   * A copy of the statistics of a collector. Snapshots of the collectors of several compilations
+   * can be {@linkplain #plus merged}, and written as JSON.
+   */
+  record Snapshot(
+      ImmutableSortedMap<String, Long> counters,
+      ImmutableSortedMap<String, HistogramSnapshot> histograms) {
+
+    /** A snapshot without any statistics. */
+    public static final Snapshot EMPTY =
+        new Snapshot(ImmutableSortedMap.of(), ImmutableSortedMap.of());
+
+    /** Returns a snapshot with the sums of the statistics of this snapshot and {@code other}. */
+    public Snapshot plus(Snapshot other) {
+      TreeMap<String, Long> counters = new TreeMap<>(this.counters);
+      other.counters.forEach((k, v) -> counters.merge(k, v, Long::sum));
+      TreeMap<String, HistogramSnapshot> histograms = new TreeMap<>(this.histograms);
+      other.histograms.forEach((k, v) -> histograms.merge(k, v, HistogramSnapshot::plus));
+      return new Snapshot(
+          ImmutableSortedMap.copyOfSorted(counters), ImmutableSortedMap.copyOfSorted(histograms));
+    }
+
+    /**
+     * Returns the snapshot as a JSON object, with a {@code "counters"} object from names to counts
+     * and a {@code "histograms"} object from names to objects with the {@code "count"}, {@code
+     * "sum"}, {@code "min"} and {@code "max"} of the values, and {@code "buckets"} from the lower
+     * bound of each non-empty bucket to its count.
+     */
+    public String toJson() {
+      StringBuilder sb = new StringBuilder("{\"counters\":{");
+      String separator = "";
+      for (Map.Entry<String, Long> counter : counters.entrySet()) {
+        sb.append(separator);
+        StructuredFindingsWriter.quote(counter.getKey(), sb).append(':').append(counter.getValue());
+        separator = ",";
+      }
+      sb.append("},\"histograms\":{");
+      separator = "";
+      for (Map.Entry<String, HistogramSnapshot> entry : histograms.entrySet()) {
+        HistogramSnapshot histogram = entry.getValue();
+        sb.append(separator);
+        StructuredFindingsWriter.quote(entry.getKey(), sb)
+            .append(":{\"count\":")
+            .append(histogram.count())
+            .append(",\"sum\":")
+            .append(histogram.sum())
+            .append(",\"min\":")
+            .append(histogram.min())
+            .append(",\"max\":")
+            .append(histogram.max())
+            .append(",\"buckets\":{");
+        String bucketSeparator = "";
+        for (int i = 0; i < HistogramSnapshot.BUCKETS; i++) {
+          long bucket = histogram.buckets().get(i);
+          if (bucket != 0) {
+            long lowerBound = i == 0 ? 0 : 1L << (i - 1);
+            sb.append(bucketSeparator)
+                .append('"')
+                .append(lowerBound)
+                .append("\":")
+                .append(bucket);
+            bucketSeparator = ",";
+          }
+        }
+        sb.append("}}");
+        separator = ",";
+      }
+      return sb.append("}}").toString();
+    }
+  }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.fixes.ErrorProneEndPosTable;
+import com.google.errorprone.fixes.Fix;
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.LineMap;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Log;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A {@link DescriptionListener.Factory} that streams findings to a file in a machine-readable
+ * format, in addition to reporting them through a delegate factory.
+ *
+ * <p>Enabled by {@code -XepOpt:FindingsOutput=<file>}; the format is chosen by {@code
+ * -XepOpt:FindingsOutputFormat=NDJSON|SARIF}, and defaults to newline-delimited JSON with one
+ * object per finding. Each finding includes its position, check name, severity, message, and the
+ * replacements of its fixes as offsets into the original source, so that consumers don't need to
+ * parse compiler output. Fixes are not applied to the source.
+ */
+public final class StructuredFindingsWriter implements DescriptionListener.Factory, Closeable {
+
+  public static final String OUTPUT_FLAG = "FindingsOutput";
+  public static final String FORMAT_FLAG = "FindingsOutputFormat";
+
+  /** The supported output formats. */
+  public enum Format {
+    /** Newline-delimited JSON, with one object per finding. */
+    NDJSON,
+    /** A SARIF 2.1.0 log with a single run. */
+    SARIF,
+  }
+
+  /**
+   * Returns a factory that also writes findings to the file given by the flags, or {@code
+   * delegate} if no file was given.
+   */
+  static DescriptionListener.Factory maybeWrap(
+      DescriptionListener.Factory delegate, ErrorProneFlags flags) {
+    Optional<String> output = flags.get(OUTPUT_FLAG).filter(s -> !s.isEmpty());
+    if (output.isEmpty()) {
+      return delegate;
+    }
+    Format format = flags.getEnum(FORMAT_FLAG, Format.class).orElse(Format.NDJSON);
+    try {
+      return new StructuredFindingsWriter(
+          delegate, Files.newBufferedWriter(Paths.get(output.get()), UTF_8), format);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open findings output " + output.get(), e);
+    }
+  }
+
+  private final DescriptionListener.Factory delegate;
+  private final Writer writer;
+  private final Format format;
+  private boolean first = true;
+  private boolean closed = false;
+
+  StructuredFindingsWriter(DescriptionListener.Factory delegate, Writer writer, Format format) {
+    this.delegate = delegate;
+    this.writer = writer;
+    this.format = format;
+    if (format == Format.SARIF) {
+      write(
+          "{\"version\":\"2.1.0\","
+              + "\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+              + "\"runs\":[{\"tool\":{\"driver\":{\"name\":\"Error Prone\","
+              + "\"informationUri\":\"https://errorprone.info\"}},\"results\":[\n");
+    }
+  }
+
+  @Override
+  public DescriptionListener getDescriptionListener(Log log, JCCompilationUnit compilation) {
+    DescriptionListener listener = delegate.getDescriptionListener(log, compilation);
+    ErrorProneEndPosTable endPositions = ErrorProneEndPosTable.create(compilation);
+    LineMap lineMap = compilation.getLineMap();
+    String uri = compilation.getSourceFile().toUri().toString();
+    return description -> {
+      listener.onDescribed(description);
+      String finding =
+          switch (format) {
+            case NDJSON -> ndjson(description, uri, lineMap, endPositions);
+            case SARIF -> sarif(description, uri, lineMap, endPositions);
+          };
+      write(first || format == Format.NDJSON ? finding : ",\n" + finding);
+      first = false;
+    };
+  }
+
+  /** Finishes the output; called once the compilation is done. */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try (writer) {
+      if (format == Format.SARIF) {
+        writer.write("\n]}]}\n");
+      }
+    }
+  }
+
+  private void write(String s) {
+    try {
+      writer.write(s);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String ndjson(
+      Description description, String uri, LineMap lineMap, ErrorProneEndPosTable endPositions) {
+    int start = description.position.getStartPosition();
+    int end = Math.max(start, description.position.getEndPosition(endPositions));
+    JsonBuilder json =
+        new JsonBuilder()
+            .field("file", uri)
+            .field("line", lineMap.getLineNumber(start))
+            .field("column", lineMap.getColumnNumber(start))
+            .field("startPosition", start)
+            .field("endPosition", end)
+            .field("check", description.checkName)
+            .field("severity", description.severity().name())
+            .field("message", description.getRawMessage());
+    if (description.getLink() != null) {
+      json.field("link", description.getLink());
+    }
+    StringBuilder fixes = new StringBuilder("[");
+    for (Fix fix : nonEmptyFixes(description)) {
+      if (fixes.length() > 1) {
+        fixes.append(',');
+      }
+      StringBuilder replacements = new StringBuilder("[");
+      for (Replacement replacement : fix.getReplacements(endPositions)) {
+        if (replacements.length() > 1) {
+          replacements.append(',');
+        }
+        replacements.append(
+            new JsonBuilder()
+                .field("startPosition", replacement.startPosition())
+                .field("endPosition", replacement.endPosition())
+                .field("replacement", replacement.replaceWith())
+                .build());
+      }
+      fixes.append(
+          new JsonBuilder()
+              .field("description", fix.getShortDescription())
+              .rawField("replacements", replacements.append(']').toString())
+              .rawField("importsToAdd", stringArray(fix.getImportsToAdd()))
+              .rawField("importsToRemove", stringArray(fix.getImportsToRemove()))
+              .build());
+    }
+    return json.rawField("fixes", fixes.append(']').toString()).build() + "\n";
+  }
+
+  private static String sarif(
+      Description description, String uri, LineMap lineMap, ErrorProneEndPosTable endPositions) {
+    int start = description.position.getStartPosition();
+    int end = Math.max(start, description.position.getEndPosition(endPositions));
+    String artifactLocation = new JsonBuilder().field("uri", uri).build();
+    String region =
+        new JsonBuilder()
+            .field("startLine", lineMap.getLineNumber(start))
+            .field("startColumn", lineMap.getColumnNumber(start))
+            .field("charOffset", start)
+            .field("charLength", end - start)
+            .build();
+    String location =
+        "[{\"physicalLocation\":"
+            + new JsonBuilder()
+                .rawField("artifactLocation", artifactLocation)
+                .rawField("region", region)
+                .build()
+            + "}]";
+    JsonBuilder result =
+        new JsonBuilder()
+            .field("ruleId", description.checkName)
+            .field("level", sarifLevel(description.severity()))
+            .rawField(
+                "message", new JsonBuilder().field("text", description.getRawMessage()).build())
+            .rawField("locations", location);
+    StringBuilder fixes = new StringBuilder("[");
+    for (Fix fix : nonEmptyFixes(description)) {
+      if (fixes.length() > 1) {
+        fixes.append(',');
+      }
+      StringBuilder replacements = new StringBuilder("[");
+      for (Replacement replacement : fix.getReplacements(endPositions)) {
+        if (replacements.length() > 1) {
+          replacements.append(',');
+        }
+        replacements.append(
+            new JsonBuilder()
+                .rawField(
+                    "deletedRegion",
+                    new JsonBuilder()
+                        .field("charOffset", replacement.startPosition())
+                        .field("charLength", replacement.length())
+                        .build())
+                .rawField(
+                    "insertedContent",
+                    new JsonBuilder().field("text", replacement.replaceWith()).build())
+                .build());
+      }
+      String change =
+          new JsonBuilder()
+              .rawField("artifactLocation", artifactLocation)
+              .rawField("replacements", replacements.append(']').toString())
+              .build();
+      fixes.append(
+          new JsonBuilder()
+              .rawField(
+                  "description", new JsonBuilder().field("text", fix.getShortDescription()).build())
+              .rawField("artifactChanges", "[" + change + "]")
+              .rawField(
+                  "properties",
+                  new JsonBuilder()
+                      .rawField("importsToAdd", stringArray(fix.getImportsToAdd()))
+                      .rawField("importsToRemove", stringArray(fix.getImportsToRemove()))
+                      .build())
+              .build());
+    }
+    result.rawField("fixes", fixes.append(']').toString());
+    if (description.getLink() != null) {
+      result.rawField(
+          "properties", new JsonBuilder().field("helpUri", description.getLink()).build());
+    }
+    return result.build();
+  }
+
+  private static ImmutableList<Fix> nonEmptyFixes(Description description) {
+    return description.fixes().stream().filter(f -> !f.isEmpty()).collect(toImmutableList());
+  }
+
+  private static String sarifLevel(SeverityLevel severity) {
+    return switch (severity) {
+      case ERROR -> "error";
+      case WARNING -> "warning";
+      case SUGGESTION -> "note";
+    };
+  }
+
+  private static String stringArray(Iterable<String> values) {
+    StringBuilder sb = new StringBuilder("[");
+    for (String value : values) {
+      if (sb.length() > 1) {
+        sb.append(',');
+      }
+      quote(value, sb);
+    }
+    return sb.append(']').toString();
+  }
+
+  /** A minimal writer for a JSON object. */
+  private static final class JsonBuilder {
+    private final StringBuilder sb = new StringBuilder("{");
+
+    @CanIgnoreReturnValue
+    JsonBuilder field(String name, String value) {
+      return rawField(name, quote(value, new StringBuilder()).toString());
+    }
+
+    @CanIgnoreReturnValue
+    JsonBuilder field(String name, long value) {
+      return rawField(name, Long.toString(value));
+    }
+
+    @CanIgnoreReturnValue
+    JsonBuilder rawField(String name, String json) {
+      if (sb.length() > 1) {
+        sb.append(',');
+      }
+      quote(name, sb).append(':').append(json);
+      return this;
+    }
+
+    String build() {
+      return sb + "}";
+    }
+  }
+
+  static StringBuilder quote(String s, StringBuilder sb) {
+    sb.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+        }
+      }
+    }
+    return sb.append('"');
+  }
+}
@@ -273,6 +273,29 @@ public final class VisitorState {
         statsKey(bugChecker.canonicalName() + "-" + key), count);
   }
 
+  /**
+   * Increment the given counter by 1.
+   *
+   * <p>Unlike {@link #incrementCounter(BugChecker, String)}, this doesn't build a key on every
+   * call, so it is cheap enough for hot code. Create the counter once with {@link
+   * BugChecker#counter}.
+   */
+  public void incrementCounter(StatisticsCollector.Counter counter) {
+    incrementCounter(counter, 1);
+  }
+
+  /** Increment the given counter by {@code count}. */
+  public void incrementCounter(StatisticsCollector.Counter counter, long count) {
+    sharedState.statisticsCollector.incrementCounter(
+        suppressedState == SuppressedState.SUPPRESSED ? counter.suppressed() : counter, count);
+  }
+
+  /** Records {@code value} in the given histogram, created with {@link BugChecker#histogram}. */
+  public void recordValue(StatisticsCollector.Histogram histogram, long value) {
+    sharedState.statisticsCollector.recordValue(
+        suppressedState == SuppressedState.SUPPRESSED ? histogram.suppressed() : histogram, value);
+  }
+
   /**
    * Returns a copy of all of the counters previously added to this VisitorState with {@link
    * #incrementCounter}.
@@ -281,6 +304,11 @@ public final class VisitorState {
     return sharedState.statisticsCollector.counters();
   }
 
+  /** Returns a copy of all of the counters and histograms previously added to this VisitorState. */
+  public StatisticsCollector.Snapshot statistics() {
+    return sharedState.statisticsCollector.snapshot();
+  }
+
   public Name getName(String nameStr) {
     return getNames().fromString(nameStr);
   }
@@ -606,6 +634,18 @@ public final class VisitorState {
     return sharedState.timings.span(suppressible);
   }
 
+  /** Returns the time budgets of the checks in this compilation. */
+  public CheckerTimeBudgets timeBudgets() {
+    return sharedState.timeBudgets;
+  }
+
+  /**
+   * Returns the token that tells long-running analyses of the current compilation unit to give up.
+   */
+  public CancellationToken cancellationToken() {
+    return sharedState.cancellationToken;
+  }
+
   private static final class Cache<T> implements Supplier<T> {
     private final Supplier<T> impl;
     /* Uses T instead of Optional<T> because we don't want to cache null results
@@ -675,6 +715,8 @@ public final class VisitorState {
     private final Names names;
     private final Symtab symtab;
     private final ErrorProneTimings timings;
+    private final CheckerTimeBudgets timeBudgets;
+    private final CancellationToken cancellationToken;
     private final Types types;
     private final TreeMaker treeMaker;
     private final JavacInvocationInstance javacInvocationInstance;
@@ -699,6 +741,8 @@ public final class VisitorState {
       this.names = Names.instance(context);
       this.symtab = Symtab.instance(context);
       this.timings = ErrorProneTimings.instance(context);
+      this.timeBudgets = CheckerTimeBudgets.instance(context, errorProneOptions.getFlags());
+      this.cancellationToken = CancellationToken.instance(context);
       this.types = Types.instance(context);
       this.treeMaker = TreeMaker.instance(context);
       this.javacInvocationInstance = JavacInvocationInstance.instance(context);
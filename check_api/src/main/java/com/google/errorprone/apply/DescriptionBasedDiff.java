@@ -90,8 +90,8 @@ public final class DescriptionBasedDiff implements DescriptionListener, Diff {
   @Override
   public void onDescribed(Description description) {
     // Use only first (most likely) suggested fix
-    if (description.fixes.size() > 0) {
-      handleFix(description, description.fixes.getFirst());
+    if (!description.fixes().isEmpty()) {
+      handleFix(description, description.fixes().getFirst());
     }
   }
 
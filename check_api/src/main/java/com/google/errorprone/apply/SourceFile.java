@@ -28,14 +28,19 @@ import com.google.errorprone.fixes.Replacements;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.StringReader;
-import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javax.tools.JavaFileObject;
 
 /**
  * Representation of a mutable Java source file.
  *
+ * <p>The content is stored as a list of pieces, each of which is a range of an immutable buffer:
+ * either the content as of the last time it was read, or the text of a replacement. Edits only
+ * update the list of pieces, and the content is rebuilt in a single pass the next time it's read,
+ * so a series of edits doesn't repeatedly copy the tail of the file.
+ *
  * <p>This class is not thread-safe.
  *
  * @author sjnickerson@google.com (Simon Nickerson)
@@ -43,8 +48,33 @@ import javax.tools.JavaFileObject;
  */
 public class SourceFile {
 
+  /** A range of an immutable buffer. */
+  private record Piece(CharSequence buffer, int start, int end) {
+    static Piece of(CharSequence buffer) {
+      return new Piece(buffer, 0, buffer.length());
+    }
+
+    int length() {
+      return end - start;
+    }
+
+    Piece slice(int from, int to) {
+      return new Piece(buffer, start + from, start + to);
+    }
+  }
+
   private final String path;
-  private final StringBuilder sourceBuilder;
+  private final List<Piece> pieces = new ArrayList<>();
+
+  /**
+   * The offsets at which the pieces start. Only the first {@code validStarts} entries are up to
+   * date; the rest are computed on demand, so an edit doesn't have to shift the offsets of every
+   * piece after it.
+   */
+  private int[] starts = new int[8];
+
+  private int validStarts;
+  private int length;
 
   public static SourceFile create(JavaFileObject fileObject) throws IOException {
     return new SourceFile(fileObject.toUri().getPath(), fileObject.getCharContent(false));
@@ -52,7 +82,7 @@ public class SourceFile {
 
   public SourceFile(String path, CharSequence source) {
     this.path = path;
-    sourceBuilder = new StringBuilder(source);
+    setSourceText(source);
   }
 
   /** Returns the path for this source file */
@@ -63,7 +93,7 @@ public class SourceFile {
   /** Returns a copy of code as a list of lines. */
   public List<String> getLines() {
     try {
-      return CharSource.wrap(sourceBuilder).readLines();
+      return CharSource.wrap(content()).readLines();
     } catch (IOException e) {
       throw new AssertionError("IOException not possible, as the string is in-memory", e);
     }
@@ -71,17 +101,43 @@ public class SourceFile {
 
   /** Returns a copy of the code as a string. */
   public String getSourceText() {
-    return sourceBuilder.toString();
+    return content();
   }
 
+  /** Returns a read-only view of the code, which reflects any later changes. */
   public CharSequence getAsSequence() {
-    return CharBuffer.wrap(sourceBuilder).asReadOnlyBuffer();
+    return new CharSequence() {
+      @Override
+      public int length() {
+        return length;
+      }
+
+      @Override
+      public char charAt(int index) {
+        return content().charAt(index);
+      }
+
+      @Override
+      public CharSequence subSequence(int start, int end) {
+        return content().subSequence(start, end);
+      }
+
+      @Override
+      public String toString() {
+        return content();
+      }
+    };
   }
 
   /** Clears the current source test for this SourceFile and resets it to the passed-in value. */
   public void setSourceText(CharSequence source) {
-    sourceBuilder.setLength(0); // clear StringBuilder
-    sourceBuilder.append(source);
+    pieces.clear();
+    validStarts = 0;
+    String text = source.toString();
+    if (!text.isEmpty()) {
+      pieces.add(Piece.of(text));
+    }
+    length = text.length();
   }
 
   /**
@@ -91,7 +147,7 @@ public class SourceFile {
    * and end parameters.
    */
   public String getFragmentByChars(int startPosition, int endPosition) {
-    return sourceBuilder.substring(startPosition, endPosition);
+    return content().substring(startPosition, endPosition);
   }
 
   /**
@@ -106,7 +162,7 @@ public class SourceFile {
   }
 
   private List<String> getLines(int startLine, int endLine) {
-    LineNumberReader reader = new LineNumberReader(new StringReader(sourceBuilder.toString()));
+    LineNumberReader reader = new LineNumberReader(new StringReader(content()));
     List<String> lines = new ArrayList<>(endLine - startLine + 1);
     String line;
     try {
@@ -126,7 +182,7 @@ public class SourceFile {
 
   /** Replace the source code with the new lines of code. */
   public void replaceLines(List<String> lines) {
-    sourceBuilder.replace(0, sourceBuilder.length(), Joiner.on("\n").join(lines) + "\n");
+    setSourceText(Joiner.on("\n").join(lines) + "\n");
   }
 
   /** Replace the source code between the start and end lines with some new lines of code. */
@@ -154,15 +210,61 @@ public class SourceFile {
    * and end parameters.
    */
   public void replaceChars(int startPosition, int endPosition, String replacement) {
-    try {
-      sourceBuilder.replace(startPosition, endPosition, replacement);
-    } catch (StringIndexOutOfBoundsException e) {
+    if (startPosition < 0 || startPosition > length || startPosition > endPosition) {
       throw new IndexOutOfBoundsException(
           String.format(
               "Replacement cannot be made. Source file %s has length %d, requested start "
                   + "position %d, requested end position %d, replacement %s",
-              path, sourceBuilder.length(), startPosition, endPosition, replacement));
+              path, length, startPosition, endPosition, replacement));
     }
+    // Like StringBuilder#replace, an end position past the end of the file is clamped.
+    endPosition = Math.min(endPosition, length);
+    // Only the pieces that contain the start and end positions, and those in between, change.
+    int first = findPiece(startPosition);
+    int last = endPosition > startPosition ? findPiece(endPosition - 1) : first;
+    List<Piece> newPieces = new ArrayList<>(3);
+    if (first < pieces.size() && starts[first] < startPosition) {
+      newPieces.add(pieces.get(first).slice(0, startPosition - starts[first]));
+    }
+    addIfNotEmpty(newPieces, replacement);
+    if (last < pieces.size()) {
+      Piece piece = pieces.get(last);
+      if (starts[last] + piece.length() > endPosition) {
+        newPieces.add(piece.slice(endPosition - starts[last], piece.length()));
+      }
+    }
+    List<Piece> affected = pieces.subList(first, Math.min(last + 1, pieces.size()));
+    affected.clear();
+    affected.addAll(newPieces);
+    validStarts = Math.min(validStarts, first);
+    length += replacement.length() - (endPosition - startPosition);
+  }
+
+  /**
+   * Returns the index of the piece that contains the given position, or the number of pieces if
+   * the position is the end of the file.
+   */
+  private int findPiece(int position) {
+    // Compute the offsets of the pieces up to the one that contains the position, if necessary.
+    while (validStarts < pieces.size()
+        && (validStarts == 0
+            || starts[validStarts - 1] + pieces.get(validStarts - 1).length() <= position)) {
+      if (validStarts == starts.length) {
+        starts = Arrays.copyOf(starts, 2 * starts.length);
+      }
+      starts[validStarts] =
+          validStarts == 0 ? 0 : starts[validStarts - 1] + pieces.get(validStarts - 1).length();
+      validStarts++;
+    }
+    if (validStarts == 0) {
+      return 0;
+    }
+    // Pieces are never empty, so the offsets are strictly increasing.
+    int index = Arrays.binarySearch(starts, 0, validStarts, position);
+    if (index < 0) {
+      index = -index - 2;
+    }
+    return position < starts[index] + pieces.get(index).length() ? index : pieces.size();
   }
 
   void makeReplacements(Replacements changes) {
@@ -182,32 +284,62 @@ public class SourceFile {
       default -> {}
     }
 
-    // Since we have many replacements to make all at once, it's better to start off with a clean
-    // slate, rather than make multiple separate replacements which each require shifting around
-    // the tail of our sourceBuilder. If we do them all at once, we can work forward from the
-    // beginning of the tile, so that each new replacement does not affect any previous
-    // replacements.
-    StringBuilder newContent = new StringBuilder();
+    // Since we have many replacements to make all at once, we work forward from the beginning of
+    // the file so that each new replacement does not affect any previous replacements. Only the
+    // list of pieces is rebuilt here; the text is copied once, when it's next read.
+    String original = content();
+    List<Piece> newPieces = new ArrayList<>(2 * replacements.size() + 1);
     int positionInOriginal = 0;
     for (Replacement repl : replacements) {
       checkArgument(
-          repl.endPosition() <= sourceBuilder.length(),
+          repl.endPosition() <= original.length(),
           "End [%s] should not exceed source length [%s]",
           repl.endPosition(),
-          sourceBuilder.length());
+          original.length());
 
-      // Write the unmodified content leading up to this change
-      newContent.append(sourceBuilder, positionInOriginal, repl.startPosition());
+      // The unmodified content leading up to this change
+      if (repl.startPosition() > positionInOriginal) {
+        newPieces.add(new Piece(original, positionInOriginal, repl.startPosition()));
+      }
       // And the modified content for this change
-      newContent.append(repl.replaceWith());
+      addIfNotEmpty(newPieces, repl.replaceWith());
       // Then skip everything from source between start and end
       positionInOriginal = repl.endPosition();
     }
-    // Flush out any remaining content after the final change
-    newContent.append(sourceBuilder, positionInOriginal, sourceBuilder.length());
-    // Overwrite the contents of our old buffer. Note we mutate the existing StringBuilder rather
-    // than replacing it, because other clients may have a view of the content via getAsSequence,
-    // and we want that view to reflect the new content.
-    setSourceText(newContent);
+    // Any remaining content after the final change
+    if (positionInOriginal < original.length()) {
+      newPieces.add(new Piece(original, positionInOriginal, original.length()));
+    }
+    pieces.clear();
+    pieces.addAll(newPieces);
+    validStarts = 0;
+    length = newPieces.stream().mapToInt(Piece::length).sum();
+  }
+
+  private static void addIfNotEmpty(List<Piece> pieces, String text) {
+    if (!text.isEmpty()) {
+      pieces.add(Piece.of(text));
+    }
+  }
+
+  /** Returns the current content, joining the pieces into a single buffer if necessary. */
+  private String content() {
+    if (pieces.isEmpty()) {
+      return "";
+    }
+    if (pieces.size() == 1
+        && pieces.get(0).buffer() instanceof String whole
+        && pieces.get(0).length() == whole.length()) {
+      return whole;
+    }
+    StringBuilder sb = new StringBuilder(length);
+    for (Piece piece : pieces) {
+      sb.append(piece.buffer(), piece.start(), piece.end());
+    }
+    String text = sb.toString();
+    pieces.clear();
+    pieces.add(Piece.of(text));
+    validStarts = 0;
+    return text;
   }
 }
@@ -28,6 +28,7 @@ import com.google.common.collect.TreeRangeSet;
 import com.google.errorprone.BugCheckerInfo;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.ErrorProneOptions;
+import com.google.errorprone.StatisticsCollector;
 import com.google.errorprone.SuppressionInfo;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.annotations.CheckReturnValue;
@@ -36,6 +37,7 @@ import com.google.errorprone.fixes.Fix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.suppliers.Supplier;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.sun.source.tree.AnnotatedTypeTree;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.ArrayAccessTree;
@@ -252,6 +254,24 @@ public abstract class BugChecker implements Suppressible, Serializable {
     return info.allNames();
   }
 
+  /**
+   * Returns the counter for {@code key}, which is reported as {@code FooChecker-key} like the
+   * counters of {@link VisitorState#incrementCounter(BugChecker, String)}. Create counters once,
+   * e.g. in a field, and increment them with {@link
+   * VisitorState#incrementCounter(StatisticsCollector.Counter)}.
+   */
+  protected final StatisticsCollector.Counter counter(String key) {
+    return StatisticsCollector.Counter.named(canonicalName() + "-" + key);
+  }
+
+  /**
+   * Returns the histogram for {@code key}, named like {@link #counter}. Record values in it with
+   * {@link VisitorState#recordValue}.
+   */
+  protected final StatisticsCollector.Histogram histogram(String key) {
+    return StatisticsCollector.Histogram.named(canonicalName() + "-" + key);
+  }
+
   public String message() {
     return info.message();
   }
@@ -403,6 +423,18 @@ public abstract class BugChecker implements Suppressible, Serializable {
     Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state);
   }
 
+  /**
+   * A matcher for the lexical structure of a compilation unit, for checks that inspect its tokens,
+   * comments or raw characters.
+   *
+   * <p>All checks implementing this interface are run together, and share a single {@link
+   * CompilationUnitTokens}, so the compilation unit is lexed once rather than once per check.
+   */
+  public interface CompilationUnitTokensMatcher extends Suppressible {
+    Description matchCompilationUnitTokens(
+        CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state);
+  }
+
   public interface CompoundAssignmentTreeMatcher extends Suppressible {
     Description matchCompoundAssignment(CompoundAssignmentTree tree, VisitorState state);
   }
@@ -17,17 +17,17 @@
 package com.google.errorprone.dataflow;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Sets.intersection;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import org.checkerframework.errorprone.dataflow.analysis.AbstractValue;
 import org.checkerframework.errorprone.dataflow.analysis.Store;
 import org.checkerframework.errorprone.dataflow.cfg.visualize.CFGVisualizer;
 import org.checkerframework.errorprone.dataflow.expression.JavaExpression;
 import org.jspecify.annotations.Nullable;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
 
 /**
  * Immutable map from local variables or heap access paths to their {@link AbstractValue}
@@ -35,20 +35,34 @@ import org.jspecify.annotations.Nullable;
  * <p>To derive a new instance, {@linkplain #toBuilder() create a builder} from an old instance. To
  * start from scratch, call {@link #empty()}.
  *
+ * <p>The map is persistent, so deriving a new instance shares structure with the old one, and costs
+ * time proportional to the number of changed entries rather than the size of the map.
+ *
  * @author bennostein@google.com (Benno Stein)
  */
-public record AccessPathStore<V extends AbstractValue<V>>(ImmutableMap<AccessPath, V> heap)
+public final class AccessPathStore<V extends AbstractValue<V>>
     implements Store<AccessPathStore<V>>, AccessPathValues<V> {
   @SuppressWarnings({"unchecked", "rawtypes"}) // fully variant
-  private static final AccessPathStore<?> EMPTY = new AccessPathStore(ImmutableMap.of());
+  private static final AccessPathStore<?> EMPTY = new AccessPathStore(HashTreePMap.empty());
+
+  private final PMap<AccessPath, V> heap;
+
+  private AccessPathStore(PMap<AccessPath, V> heap) {
+    this.heap = heap;
+  }
 
   @SuppressWarnings("unchecked") // fully variant
   public static <V extends AbstractValue<V>> AccessPathStore<V> empty() {
     return (AccessPathStore<V>) EMPTY;
   }
 
+  /** Returns a copy of the map from access paths to their values. */
+  public ImmutableMap<AccessPath, V> heap() {
+    return ImmutableMap.copyOf(heap);
+  }
+
   private @Nullable V getInformation(AccessPath ap) {
-    return heap().get(checkNotNull(ap));
+    return heap.get(checkNotNull(ap));
   }
 
   public Builder<V> toBuilder() {
@@ -69,11 +83,23 @@ public record AccessPathStore<V extends AbstractValue<V>>(ImmutableMap<AccessPat
 
   @Override
   public AccessPathStore<V> leastUpperBound(AccessPathStore<V> other) {
-    ImmutableMap.Builder<AccessPath, V> resultHeap = ImmutableMap.builder();
-    for (AccessPath aPath : intersection(heap().keySet(), other.heap().keySet())) {
-      resultHeap.put(aPath, heap().get(aPath).leastUpperBound(other.heap().get(aPath)));
+    if (heap == other.heap) {
+      return this;
     }
-    return new AccessPathStore<>(resultHeap.buildOrThrow());
+    // Start from the smaller heap, and only update the entries whose value changes.
+    AccessPathStore<V> smaller = heap.size() <= other.heap.size() ? this : other;
+    AccessPathStore<V> larger = smaller == this ? other : this;
+    PMap<AccessPath, V> resultHeap = smaller.heap;
+    for (Map.Entry<AccessPath, V> entry : smaller.heap.entrySet()) {
+      V value = entry.getValue();
+      V otherValue = larger.heap.get(entry.getKey());
+      if (otherValue == null) {
+        resultHeap = resultHeap.minus(entry.getKey());
+      } else if (!otherValue.equals(value)) {
+        resultHeap = resultHeap.plus(entry.getKey(), value.leastUpperBound(otherValue));
+      }
+    }
+    return resultHeap == smaller.heap ? smaller : new AccessPathStore<>(resultHeap);
   }
 
   @Override
@@ -92,26 +118,41 @@ public record AccessPathStore<V extends AbstractValue<V>>(ImmutableMap<AccessPat
     throw new UnsupportedOperationException("DOT output not supported");
   }
 
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    return obj instanceof AccessPathStore<?> other && heap.equals(other.heap);
+  }
+
+  @Override
+  public int hashCode() {
+    return heap.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "AccessPathStore[heap=" + heap + "]";
+  }
+
   /**
    * Builder for {@link AccessPathStore} instances. To obtain an instance, obtain a {@link
    * AccessPathStore} (such as {@link AccessPathStore#empty()}), and call {@link
    * AccessPathStore#toBuilder() toBuilder()} on it.
    */
   public static final class Builder<V extends AbstractValue<V>> {
-    private final Map<AccessPath, V> heap;
+    private PMap<AccessPath, V> heap;
 
     Builder(AccessPathStore<V> prototype) {
-      this.heap = new LinkedHashMap<>(prototype.heap());
+      this.heap = prototype.heap;
     }
 
     @CanIgnoreReturnValue
     public Builder<V> setInformation(AccessPath aPath, V value) {
-      heap.put(checkNotNull(aPath), checkNotNull(value));
+      heap = heap.plus(checkNotNull(aPath), checkNotNull(value));
       return this;
     }
 
     public AccessPathStore<V> build() {
-      return new AccessPathStore<>(ImmutableMap.copyOf(heap));
+      return new AccessPathStore<>(heap);
     }
   }
 }
@@ -20,6 +20,8 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.auto.value.AutoValue;
 import com.google.common.base.Preconditions;
+import com.google.errorprone.CancellationToken;
+import com.google.errorprone.ErrorProneEvents;
 import com.sun.source.tree.BlockTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
@@ -31,6 +33,7 @@ import com.sun.source.tree.VariableTree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.util.Context;
+import java.util.concurrent.CancellationException;
 import javax.annotation.processing.ProcessingEnvironment;
 import org.checkerframework.errorprone.dataflow.analysis.AbstractValue;
 import org.checkerframework.errorprone.dataflow.analysis.Analysis;
@@ -40,6 +43,7 @@ import org.checkerframework.errorprone.dataflow.analysis.Store;
 import org.checkerframework.errorprone.dataflow.analysis.TransferFunction;
 import org.checkerframework.errorprone.dataflow.cfg.ControlFlowGraph;
 import org.checkerframework.errorprone.dataflow.cfg.UnderlyingAST;
+import org.checkerframework.errorprone.dataflow.cfg.block.Block;
 import org.checkerframework.errorprone.dataflow.cfg.builder.CFGBuilder;
 import org.jspecify.annotations.Nullable;
 
@@ -76,9 +80,19 @@ public final class DataFlow {
                 ControlFlowGraph cfg = key.cfg();
                 ForwardTransferFunction<?, ?> transfer = key.transferFunction();
 
+                ErrorProneEvents.DataflowAnalysis event = new ErrorProneEvents.DataflowAnalysis();
+                event.begin();
                 @SuppressWarnings({"unchecked", "rawtypes"})
-                Analysis<?, ?, ?> analysis = new ForwardAnalysisImpl(transfer);
+                Analysis<?, ?, ?> analysis =
+                    new CancellableForwardAnalysis(transfer, key.cancellationToken());
                 analysis.performAnalysis(cfg);
+                event.end();
+                if (event.shouldCommit()) {
+                  event.file = ErrorProneEvents.fileName(key.methodPath().getCompilationUnit());
+                  event.treeKind = key.methodPath().getLeaf().getKind().name();
+                  event.transferFunction = transfer.getClass().getName();
+                  event.commit();
+                }
                 return analysis;
               });
 
@@ -87,6 +101,8 @@ public final class DataFlow {
           .maximumSize(1)
           .build(
               (CfgParams key) -> {
+                ErrorProneEvents.ControlFlowGraph event = new ErrorProneEvents.ControlFlowGraph();
+                event.begin();
                 TreePath methodPath = key.methodPath();
                 UnderlyingAST ast;
                 ClassTree classTree = null;
@@ -114,7 +130,14 @@ public final class DataFlow {
                 analysisCache.invalidateAll();
                 CompilationUnitTree root = methodPath.getCompilationUnit();
                 // TODO(b/158869538): replace with faster build(bodyPath, env, ast, false, false);
-                return CFGBuilder.build(root, ast, false, false, env);
+                ControlFlowGraph cfg = CFGBuilder.build(root, ast, false, false, env);
+                event.end();
+                if (event.shouldCommit()) {
+                  event.file = ErrorProneEvents.fileName(root);
+                  event.treeKind = methodPath.getLeaf().getKind().name();
+                  event.commit();
+                }
+                return cfg;
               });
 
   private static @Nullable TreePath findEnclosingMethodOrLambdaOrInitializer(TreePath path) {
@@ -157,9 +180,12 @@ public final class DataFlow {
           A extends AbstractValue<A>, S extends Store<S>, T extends ForwardTransferFunction<A, S>>
       Result<A, S, T> methodDataflow(TreePath methodPath, Context context, T transfer) {
     ProcessingEnvironment env = JavacProcessingEnvironment.instance(context);
+    CancellationToken cancellationToken = CancellationToken.instance(context);
 
+    cancellationToken.throwIfCancelled();
     ControlFlowGraph cfg = cfgCache.get(CfgParams.create(methodPath, env));
-    AnalysisParams aparams = AnalysisParams.create(transfer, cfg, env);
+    AnalysisParams aparams =
+        AnalysisParams.create(transfer, cfg, methodPath, env, cancellationToken);
     @SuppressWarnings("unchecked")
     Analysis<A, S, T> analysis = (Analysis<A, S, T>) analysisCache.get(aparams);
 
@@ -187,6 +213,9 @@ public final class DataFlow {
    * <p>Note that for initializers, each inline field initializer or initializer block is treated
    * separately. I.e., we don't merge all initializers into one virtual block for dataflow.
    *
+   * <p>If the analyses of the current compilation unit have been {@linkplain CancellationToken
+   * cancelled}, the result is unknown, i.e. {@code null}.
+   *
    * @return dataflow result for the given expression or {@code null} if the expression is not part
    *     of a method, lambda or initializer
    */
@@ -214,7 +243,11 @@ public final class DataFlow {
       return null;
     }
 
-    return methodDataflow(enclosingMethodPath, context, transfer).getAnalysis().getValue(expr);
+    try {
+      return methodDataflow(enclosingMethodPath, context, transfer).getAnalysis().getValue(expr);
+    } catch (CancellationException e) {
+      return null;
+    }
   }
 
   @AutoValue
@@ -242,22 +275,61 @@ public final class DataFlow {
 
     abstract ControlFlowGraph cfg();
 
+    // Should not be used for hashCode or equals
+    private TreePath methodPath;
+
     // Should not be used for hashCode or equals
     private ProcessingEnvironment environment;
 
+    // Should not be used for hashCode or equals
+    private CancellationToken cancellationToken;
+
     private static AnalysisParams create(
         ForwardTransferFunction<?, ?> transferFunction,
         ControlFlowGraph cfg,
-        ProcessingEnvironment environment) {
+        TreePath methodPath,
+        ProcessingEnvironment environment,
+        CancellationToken cancellationToken) {
       AnalysisParams ap = new AutoValue_DataFlow_AnalysisParams(transferFunction, cfg);
+      ap.methodPath = methodPath;
       ap.environment = environment;
+      ap.cancellationToken = cancellationToken;
       return ap;
     }
 
+    TreePath methodPath() {
+      return methodPath;
+    }
+
+    CancellationToken cancellationToken() {
+      return cancellationToken;
+    }
+
     ProcessingEnvironment environment() {
       return environment;
     }
   }
 
+  /**
+   * A forward analysis that polls a {@link CancellationToken} before each block, and gives up by
+   * throwing a {@link CancellationException}. A cancelled analysis isn't cached.
+   */
+  private static final class CancellableForwardAnalysis<
+          A extends AbstractValue<A>, S extends Store<S>, T extends ForwardTransferFunction<A, S>>
+      extends ForwardAnalysisImpl<A, S, T> {
+    private final CancellationToken cancellationToken;
+
+    CancellableForwardAnalysis(T transferFunction, CancellationToken cancellationToken) {
+      super(transferFunction);
+      this.cancellationToken = cancellationToken;
+    }
+
+    @Override
+    public void performAnalysisBlock(Block b) {
+      cancellationToken.throwIfCancelled();
+      super.performAnalysisBlock(b);
+    }
+  }
+
   private DataFlow() {}
 }
@@ -36,6 +36,7 @@ import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.io.Files;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
+import com.google.errorprone.CancellationToken;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.dataflow.AccessPath;
 import com.google.errorprone.dataflow.AccessPathStore;
@@ -285,7 +286,8 @@ class NullnessPropagationTransfer extends AbstractNullnessPropagationTransfer
               checkNotNull(
                   procedureTree,
                   "Call `%s` is not contained in an lambda, initializer or method.",
-                  node));
+                  node),
+              CancellationToken.instance(context));
     }
     return inferenceResults.getExprNullness(node.getTree());
   }
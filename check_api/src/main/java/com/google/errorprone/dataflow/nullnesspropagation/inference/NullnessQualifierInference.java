@@ -19,12 +19,13 @@ package com.google.errorprone.dataflow.nullnesspropagation.inference;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Streams;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
+import com.google.errorprone.CancellationToken;
 import com.google.errorprone.dataflow.nullnesspropagation.Nullness;
 import com.google.errorprone.dataflow.nullnesspropagation.NullnessAnnotations;
 import com.sun.source.tree.ArrayAccessTree;
@@ -60,6 +61,7 @@ import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 import javax.lang.model.type.TypeVariable;
 import org.jspecify.annotations.Nullable;
@@ -73,18 +75,19 @@ import org.jspecify.annotations.Nullable;
  */
 public final class NullnessQualifierInference extends TreeScanner<Void, Void> {
 
-  private static final LoadingCache<Tree, InferredNullability> inferenceCache =
-      Caffeine.newBuilder()
-          .maximumSize(1)
-          .build(
-              (Tree methodOrInitializer) -> {
-                NullnessQualifierInference inferenceEngine =
-                    new NullnessQualifierInference(methodOrInitializer);
-                inferenceEngine.scan(methodOrInitializer, null);
-                return new InferredNullability(inferenceEngine.qualifierConstraints);
-              });
+  private static final Cache<Tree, InferredNullability> inferenceCache =
+      Caffeine.newBuilder().maximumSize(1).build();
 
   public static InferredNullability getInferredNullability(Tree methodOrInitializerOrLambda) {
+    return getInferredNullability(methodOrInitializerOrLambda, CancellationToken.NONE);
+  }
+
+  /**
+   * Like {@link #getInferredNullability(Tree)}, but gives up if the {@code cancellationToken} is
+   * cancelled before inference finishes, in which case no qualifiers are inferred.
+   */
+  public static InferredNullability getInferredNullability(
+      Tree methodOrInitializerOrLambda, CancellationToken cancellationToken) {
     checkArgument(
         methodOrInitializerOrLambda instanceof MethodTree
             || methodOrInitializerOrLambda instanceof LambdaExpressionTree
@@ -92,7 +95,18 @@ public final class NullnessQualifierInference extends TreeScanner<Void, Void> {
             || methodOrInitializerOrLambda instanceof VariableTree,
         "Tree `%s` is not a lambda, initializer, or method.",
         methodOrInitializerOrLambda);
-    return inferenceCache.get(methodOrInitializerOrLambda);
+    try {
+      return inferenceCache.get(
+          methodOrInitializerOrLambda,
+          methodOrInitializer -> {
+            NullnessQualifierInference inferenceEngine =
+                new NullnessQualifierInference(methodOrInitializer, cancellationToken);
+            inferenceEngine.scan(methodOrInitializer, null);
+            return new InferredNullability(inferenceEngine.qualifierConstraints);
+          });
+    } catch (CancellationException e) {
+      return new InferredNullability(GraphBuilder.directed().build());
+    }
   }
 
   /**
@@ -103,8 +117,12 @@ public final class NullnessQualifierInference extends TreeScanner<Void, Void> {
 
   private final Tree currentMethodOrInitializerOrLambda;
 
-  private NullnessQualifierInference(Tree currentMethodOrInitializerOrLambda) {
+  private final CancellationToken cancellationToken;
+
+  private NullnessQualifierInference(
+      Tree currentMethodOrInitializerOrLambda, CancellationToken cancellationToken) {
     this.currentMethodOrInitializerOrLambda = currentMethodOrInitializerOrLambda;
+    this.cancellationToken = cancellationToken;
     this.qualifierConstraints = GraphBuilder.directed().build();
 
     // Initialize graph with standard nullness lattice; see ASCII art diagram in
@@ -115,6 +133,12 @@ public final class NullnessQualifierInference extends TreeScanner<Void, Void> {
     qualifierConstraints.putEdge(ProperInferenceVar.NULL, ProperInferenceVar.NULLABLE);
   }
 
+  @Override
+  public Void scan(Tree tree, Void unused) {
+    cancellationToken.throwIfCancelled();
+    return super.scan(tree, unused);
+  }
+
   @Override
   public Void visitIdentifier(IdentifierTree node, Void unused) {
     Symbol sym = ((JCIdent) node).sym;
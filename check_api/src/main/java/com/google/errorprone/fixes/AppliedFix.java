@@ -19,10 +19,8 @@ package com.google.errorprone.fixes;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Range;
-import java.util.ArrayList;
+import com.sun.source.tree.LineMap;
 import java.util.Collection;
-import java.util.List;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
@@ -39,15 +37,25 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
    */
   public static @Nullable AppliedFix apply(
       CharSequence source, ErrorProneEndPosTable endPositions, Fix suggestedFix) {
-    // We apply the replacements in ascending order here. Descending is simpler, since applying a
-    // replacement can't change the index for future replacements, but it leads to quadratic
-    // copying behavior as we constantly shift the tail of the file around in our StringBuilder.
+    return apply(source, /* lineMap= */ null, endPositions, suggestedFix);
+  }
+
+  /**
+   * Applies the suggestedFix to the source, using the source's line map to find the start of the
+   * first edited line. Returns null if applying the fix results in no change to the source, or a
+   * change only to imports.
+   */
+  public static @Nullable AppliedFix apply(
+      CharSequence source,
+      @Nullable LineMap lineMap,
+      ErrorProneEndPosTable endPositions,
+      Fix suggestedFix) {
     ImmutableSet<Replacement> replacements = ascending(suggestedFix.getReplacements(endPositions));
     if (replacements.isEmpty()) {
       return null;
     }
 
-    String snippet = snippet(source, replacements);
+    String snippet = snippet(source, lineMap, replacements);
     if (snippet.isEmpty()) {
       return new AppliedFix("to remove this line", /* isRemoveLine= */ true);
     }
@@ -60,34 +68,86 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
    */
   public static final int MAX_LINE_LENGTH = 100;
 
+  /**
+   * Returns the first line that's changed by the replacements. In this case "line" means
+   * "bracketed by \n characters". We don't handle \r\n specially, because the strings that javac
+   * provides to Error Prone have already been transformed from platform line endings to newlines
+   * (and even if it didn't, the dangling \r characters would be handled by a trim() call).
+   *
+   * <p>Rather than applying the replacements to the source, this walks the pieces of the edited
+   * line (unchanged source and replacement text, in order) from the start of the line until the
+   * first newline, so the cost depends only on the length of the line and the replacements on it,
+   * not on the size of the file or the number of replacements.
+   */
   private static String snippet(
-      CharSequence sourceSequence, ImmutableSet<Replacement> replacements) {
+      CharSequence source, @Nullable LineMap lineMap, ImmutableSet<Replacement> replacements) {
     Replacement firstEdit = replacements.iterator().next();
-    // Find a subrange of the source that should contain the entire first line that fixes are
-    // applied to, and then only edit source and apply fixes in that range. This is a performance
-    // optimization to avoid applying all of the fixes in very large files just to produce a
-    // snippet.
-    int startOffset = Math.max(0, firstEdit.startPosition() - MAX_LINE_LENGTH);
-    int endOffset = Math.min(firstEdit.endPosition() + MAX_LINE_LENGTH, sourceSequence.length());
-    Range<Integer> trimmed = Range.closedOpen(startOffset, endOffset);
-    List<Replacement> shiftedReplacements = new ArrayList<>();
+    int start =
+        Math.max(
+            lineStart(source, lineMap, firstEdit.startPosition()),
+            firstEdit.startPosition() - MAX_LINE_LENGTH);
+    int limit = firstEdit.endPosition() + MAX_LINE_LENGTH;
+    StringBuilder line = new StringBuilder();
+    int positionInOriginal = start;
     for (Replacement replacement : replacements) {
-      if (!replacement.range().isConnected(trimmed)) {
-        continue;
+      if (replacement.startPosition() > limit) {
+        break;
+      }
+      if (replacement.endPosition() > source.length()) {
+        throw new StringIndexOutOfBoundsException(
+            String.format(
+                "End [%s] should not exceed source length [%s]",
+                replacement.endPosition(), source.length()));
+      }
+      if (appendUntilNewline(line, source, positionInOriginal, replacement.startPosition())
+          || appendUntilNewline(
+              line, replacement.replaceWith(), 0, replacement.replaceWith().length())) {
+        return trimSnippet(line);
       }
-      if (replacement.endPosition() > endOffset) {
-        endOffset = replacement.endPosition();
+      positionInOriginal = replacement.endPosition();
+      limit = Math.max(limit, positionInOriginal);
+    }
+    appendUntilNewline(line, source, positionInOriginal, Math.min(limit, source.length()));
+    return trimSnippet(line);
+  }
+
+  /** Returns the offset of the start of the line containing the given position. */
+  private static int lineStart(CharSequence source, @Nullable LineMap lineMap, int position) {
+    if (lineMap != null) {
+      // Javac's line maps are indexed by code unit, and binary search for the line.
+      return (int) lineMap.getStartPosition(lineMap.getLineNumber(position));
+    }
+    int lowerBound = Math.max(0, position - MAX_LINE_LENGTH);
+    for (int i = position - 1; i >= lowerBound; i--) {
+      if (source.charAt(i) == '\n') {
+        return i + 1;
       }
-      shiftedReplacements.add(
-          Replacement.create(
-              replacement.startPosition() - startOffset,
-              replacement.endPosition() - startOffset,
-              replacement.replaceWith()));
     }
-    String replaced =
-        applyReplacements(sourceSequence.subSequence(startOffset, endOffset), shiftedReplacements);
-    // Find the changed line containing the first edit
-    return firstEditedLine(replaced, shiftedReplacements.getFirst());
+    return lowerBound;
+  }
+
+  /**
+   * Appends {@code text[from, to)} to {@code line}, stopping at the first newline. Returns true if
+   * a newline was found.
+   */
+  private static boolean appendUntilNewline(
+      StringBuilder line, CharSequence text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      if (c == '\n') {
+        return true;
+      }
+      line.append(c);
+    }
+    return false;
+  }
+
+  private static String trimSnippet(CharSequence line) {
+    String snippet = line.toString().trim();
+    if (snippet.contains("//")) {
+      snippet = snippet.substring(0, snippet.indexOf("//")).trim();
+    }
+    return snippet;
   }
 
   public static String applyReplacements(
@@ -124,30 +184,4 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
     set.forEach(replacements::add);
     return replacements.ascending();
   }
-
-  /**
-   * Finds the full text of the first line that's changed. In this case "line" means "bracketed by
-   * \n characters". We don't handle \r\n specially, because the strings that javac provides to
-   * Error Prone have already been transformed from platform line endings to newlines (and even if
-   * it didn't, the dangling \r characters would be handled by a trim() call).
-   */
-  private static String firstEditedLine(String content, Replacement firstEdit) {
-    // We subtract 1 here because we want to find the first newline *before* the edit, not one
-    // at its beginning.
-    int startOfFirstEditedLine = content.lastIndexOf("\n", firstEdit.startPosition() - 1);
-    int endOfFirstEditedLine = content.indexOf("\n", firstEdit.startPosition());
-    if (startOfFirstEditedLine == -1) {
-      startOfFirstEditedLine = 0; // Change to start of file with no preceding newline
-    }
-    if (endOfFirstEditedLine == -1) {
-      // Change to last line of file
-      endOfFirstEditedLine = content.length();
-    }
-    String snippet = content.substring(startOfFirstEditedLine, endOfFirstEditedLine);
-    snippet = snippet.trim();
-    if (snippet.contains("//")) {
-      snippet = snippet.substring(0, snippet.indexOf("//")).trim();
-    }
-    return snippet;
-  }
 }
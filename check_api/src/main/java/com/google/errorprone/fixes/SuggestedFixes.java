@@ -52,6 +52,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
 import com.google.common.io.CharStreams;
+import com.google.errorprone.ErrorProneEvents;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.apply.DescriptionBasedDiff;
 import com.google.errorprone.apply.ImportOrganizer;
@@ -1471,6 +1472,8 @@ public final class SuggestedFixes {
     }
 
     public Result compile(ImmutableList<String> extraOptions) {
+      ErrorProneEvents.FixCompile event = new ErrorProneEvents.FixCompile();
+      event.begin();
       DiagnosticCollector<JavaFileObject> diagnosticListener = new DiagnosticCollector<>();
       Context context = createContext();
       Arguments arguments = Arguments.instance(javacTask.getContext());
@@ -1507,7 +1510,14 @@ public final class SuggestedFixes {
       } catch (IOException e) {
         throw new UncheckedIOException(e);
       }
-      return new Result(diagnosticListener.getDiagnostics());
+      Result result = new Result(diagnosticListener.getDiagnostics());
+      event.end();
+      if (event.shouldCommit()) {
+        event.file = ErrorProneEvents.fileName(state.getPath().getCompilationUnit());
+        event.diagnostics = result.diagnostics().size();
+        event.commit();
+      }
+      return result;
     }
 
     private Context createContext() {
@@ -21,6 +21,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.errorprone.BugPattern.SeverityLevel.SUGGESTION;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
@@ -34,6 +35,7 @@ import com.google.errorprone.fixes.Fix;
 import com.google.errorprone.fixes.SuggestedFix;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -50,7 +52,9 @@ public final class Description {
           "<no match>",
           "<no match>",
           "<no match>",
-          ImmutableList.<Fix>of(),
+          ImmutableList.of(),
+          ImmutableList.of(),
+          Suppliers.ofInstance(ImmutableList.of()),
           Optional.of(SUGGESTION));
 
   /** The position of the match. */
@@ -66,10 +70,19 @@ public final class Description {
   private final @Nullable String linkUrl;
 
   /**
-   * A list of fixes to suggest in an error message or use in automated refactoring. Fixes are in
-   * order of decreasing preference, from most preferred to least preferred.
+   * The fixes that were computed when this description was built, in order of decreasing
+   * preference.
+   *
+   * @deprecated use {@link #fixes()}, which also includes the fixes added with {@link
+   *     Builder#addLazyFix}
    */
-  public final ImmutableList<Fix> fixes;
+  @Deprecated public final ImmutableList<Fix> fixes;
+
+  /** Supplies each fix for this match, computing it on first use. */
+  private final ImmutableList<Supplier<? extends Fix>> fixSuppliers;
+
+  /** All fixes for this match, which are computed on first use. */
+  private final Supplier<ImmutableList<Fix>> allFixes;
 
   /** Is this a warning, error, etc.? */
   private final Optional<BugPattern.SeverityLevel> severity;
@@ -78,6 +91,40 @@ public final class Description {
     return severity.get();
   }
 
+  /**
+   * Returns a list of fixes to use in automated refactoring. Fixes are in order of decreasing
+   * preference, from most preferred to least preferred.
+   *
+   * <p>Fixes added with {@link Builder#addLazyFix} are computed by the first call to this method,
+   * so it may throw any exception thrown by their suppliers.
+   */
+  public ImmutableList<Fix> fixes() {
+    return allFixes.get();
+  }
+
+  /**
+   * Returns the fixes that were computed when this {@code Description} was built, i.e. {@link
+   * #fixes()} without the fixes added with {@link Builder#addLazyFix}. Reading them never computes
+   * a lazy fix.
+   */
+  public ImmutableList<Fix> eagerFixes() {
+    return fixes;
+  }
+
+  /**
+   * Returns the most preferred fix, or empty if there are no fixes. Unlike {@link #fixes()}, this
+   * only computes the lazy fixes up to the first one that isn't empty.
+   */
+  public Optional<Fix> firstFix() {
+    for (Supplier<? extends Fix> supplier : fixSuppliers) {
+      Fix fix = checkNotNull(supplier.get(), "fix must not be null");
+      if (!fix.isEmpty()) {
+        return Optional.of(fix);
+      }
+    }
+    return Optional.empty();
+  }
+
   /**
    * Returns the message to be printed by the compiler when a match is found in interactive use.
    * Includes the name of the check and a link for more information.
@@ -108,13 +155,17 @@ public final class Description {
       String checkName,
       String rawMessage,
       @Nullable String linkUrl,
-      List<Fix> fixes,
+      ImmutableList<Fix> eagerFixes,
+      ImmutableList<Supplier<? extends Fix>> fixSuppliers,
+      Supplier<ImmutableList<Fix>> allFixes,
       Optional<SeverityLevel> severity) {
     this.position = position;
     this.checkName = checkName;
     this.rawMessage = rawMessage;
     this.linkUrl = linkUrl;
-    this.fixes = ImmutableList.copyOf(fixes);
+    this.fixes = eagerFixes;
+    this.fixSuppliers = fixSuppliers;
+    this.allFixes = allFixes;
     this.severity = severity;
   }
 
@@ -127,6 +178,8 @@ public final class Description {
         rawMessage,
         linkUrl,
         fixes,
+        fixSuppliers,
+        allFixes,
         Optional.of(this.severity.orElse(severity)));
   }
 
@@ -156,7 +209,10 @@ public final class Description {
     private final String name;
     private String linkUrl;
     private Optional<SeverityLevel> severity = Optional.empty();
-    private final ImmutableList.Builder<Fix> fixListBuilder = ImmutableList.builder();
+    private final ImmutableList.Builder<Fix> eagerFixListBuilder = ImmutableList.builder();
+    private final ImmutableList.Builder<Supplier<? extends Fix>> fixListBuilder =
+        ImmutableList.builder();
+    private boolean hasLazyFixes = false;
     private String rawMessage;
 
     private Builder(
@@ -178,11 +234,34 @@ public final class Description {
     public Builder addFix(Fix fix) {
       checkNotNull(fix, "fix must not be null");
       if (!fix.isEmpty()) {
-        fixListBuilder.add(fix);
+        eagerFixListBuilder.add(fix);
+        fixListBuilder.add(Suppliers.ofInstance(fix));
       }
       return this;
     }
 
+    /**
+     * Adds a suggested fix for this {@code Description} that is only computed if the fixes are
+     * needed, for example to apply them as a patch. Fixes should be added in order of decreasing
+     * preference. If {@code fix} supplies an empty fix, it is dropped.
+     *
+     * <p>This is useful for fixes that are expensive to compute, since checks can produce many
+     * findings whose fixes are never used. A compiler diagnostic only suggests a lazy fix if the
+     * {@code Description} has no other fixes, in which case it computes the first one. {@code fix}
+     * is called at most once, but it may be called after the check that created this {@code
+     * Description} has returned, so it must not depend on mutable state.
+     *
+     * @param fix supplies a suggested fix for this problem
+     * @throws NullPointerException if {@code fix} is {@code null}
+     */
+    @CanIgnoreReturnValue
+    public Builder addLazyFix(Supplier<? extends Fix> fix) {
+      checkNotNull(fix, "fix must not be null");
+      fixListBuilder.add(Suppliers.memoize(fix::get));
+      hasLazyFixes = true;
+      return this;
+    }
+
     /**
      * Adds a suggested fix for this {@code Description} if {@code fix} is present. Fixes should be
      * added in order of decreasing preference. Adding an empty fix is a no-op.
@@ -272,7 +351,32 @@ public final class Description {
     }
 
     public Description build() {
-      return new Description(position, name, rawMessage, linkUrl, fixListBuilder.build(), severity);
+      ImmutableList<Supplier<? extends Fix>> fixSuppliers = fixListBuilder.build();
+      Supplier<ImmutableList<Fix>> fixes =
+          hasLazyFixes
+              ? Suppliers.memoize(() -> computeFixes(fixSuppliers))
+              : Suppliers.ofInstance(computeFixes(fixSuppliers));
+      return new Description(
+          position,
+          name,
+          rawMessage,
+          linkUrl,
+          eagerFixListBuilder.build(),
+          fixSuppliers,
+          fixes,
+          severity);
+    }
+
+    private static ImmutableList<Fix> computeFixes(
+        ImmutableList<Supplier<? extends Fix>> fixSuppliers) {
+      ImmutableList.Builder<Fix> fixes = ImmutableList.builder();
+      for (Supplier<? extends Fix> supplier : fixSuppliers) {
+        Fix fix = checkNotNull(supplier.get(), "fix must not be null");
+        if (!fix.isEmpty()) {
+          fixes.add(fix);
+        }
+      }
+      return fixes.build();
     }
   }
 }
@@ -20,7 +20,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.CheckerTimeBudgets;
 import com.google.errorprone.ErrorProneError;
+import com.google.errorprone.ErrorProneEvents;
 import com.google.errorprone.ErrorProneOptions;
 import com.google.errorprone.SourcePositionException;
 import com.google.errorprone.SuppressionInfo.SuppressedState;
@@ -39,6 +41,7 @@ import com.google.errorprone.bugpatterns.BugChecker.BreakTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CaseTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CatchTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CompoundAssignmentTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.ConditionalExpressionTreeMatcher;
@@ -94,6 +97,7 @@ import com.google.errorprone.bugpatterns.BugChecker.YieldTreeMatcher;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.util.ASTHelpers;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.sun.source.tree.AnnotatedTypeTree;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.ArrayAccessTree;
@@ -170,6 +174,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import javax.tools.JavaFileObject;
 
 /**
@@ -257,6 +262,8 @@ public class ErrorProneScanner extends Scanner {
   private final List<CaseTreeMatcher> caseMatchers = new ArrayList<>();
   private final List<CatchTreeMatcher> catchMatchers = new ArrayList<>();
   private final List<ClassTreeMatcher> classMatchers = new ArrayList<>();
+  private final List<CompilationUnitTokensMatcher> compilationUnitTokensMatchers =
+      new ArrayList<>();
   private final List<CompilationUnitTreeMatcher> compilationUnitMatchers = new ArrayList<>();
   private final List<CompoundAssignmentTreeMatcher> compoundAssignmentMatchers = new ArrayList<>();
   private final List<ConditionalExpressionTreeMatcher> conditionalExpressionMatchers =
@@ -360,6 +367,9 @@ public class ErrorProneScanner extends Scanner {
     if (checker instanceof ClassTreeMatcher classTreeMatcher) {
       classMatchers.add(classTreeMatcher);
     }
+    if (checker instanceof CompilationUnitTokensMatcher compilationUnitTokensMatcher) {
+      compilationUnitTokensMatchers.add(compilationUnitTokensMatcher);
+    }
     if (checker instanceof CompilationUnitTreeMatcher compilationUnitTreeMatcher) {
       compilationUnitMatchers.add(compilationUnitTreeMatcher);
     }
@@ -529,19 +539,44 @@ public class ErrorProneScanner extends Scanner {
     ErrorProneOptions errorProneOptions = oldState.errorProneOptions();
     // A VisitorState with our new path, but without mentioning the suppression of any matcher.
     VisitorState newState = oldState.withPath(getCurrentPath());
+    CheckerTimeBudgets budgets = oldState.timeBudgets();
+    CompilationUnitTree compilationUnit = newState.getPath().getCompilationUnit();
     for (M matcher : matchers) {
+      if (budgets.exhausted(matcher, compilationUnit)) {
+        continue;
+      }
       SuppressedState suppressed = isSuppressed(matcher, errorProneOptions, newState);
       // If the ErrorProneOptions say to visit suppressed code, we still visit it
       if (suppressed == SuppressedState.UNSUPPRESSED
           || errorProneOptions.isIgnoreSuppressionAnnotations()) {
+        ErrorProneEvents.Checker event = new ErrorProneEvents.Checker();
+        event.begin();
+        long start = budgets.enabled() ? System.nanoTime() : 0;
         try (AutoCloseable unused = oldState.timingSpan(matcher)) {
           // We create a new VisitorState with the suppression info specific to this matcher.
           VisitorState stateWithSuppressionInformation = newState.withSuppression(suppressed);
           reportMatch(
               processingFunction.process(matcher, tree, stateWithSuppressionInformation),
               stateWithSuppressionInformation);
+        } catch (CancellationException e) {
+          // An analysis that the check depends on ran past the deadline for this compilation unit,
+          // so the check's result is unknown, and it doesn't report anything.
+          if (!oldState.cancellationToken().isCancelled()) {
+            handleError(matcher, e);
+          }
         } catch (Exception | AssertionError t) {
           handleError(matcher, t);
+        } finally {
+          if (budgets.enabled()) {
+            budgets.charge(matcher, compilationUnit, tree, System.nanoTime() - start);
+          }
+          event.end();
+          if (event.shouldCommit()) {
+            event.file = ErrorProneEvents.fileName(compilationUnit);
+            event.checker = matcher.canonicalName();
+            event.treeKind = tree.getKind().name();
+            event.commit();
+          }
         }
       }
     }
@@ -660,6 +695,17 @@ public class ErrorProneScanner extends Scanner {
             tree,
             CompilationUnitTreeMatcher::matchCompilationUnit,
             visitorState);
+    if (!compilationUnitTokensMatchers.isEmpty()) {
+      // Lex the compilation unit once for all the checks that need its tokens.
+      CompilationUnitTokens tokens =
+          new CompilationUnitTokens(visitorState.getSourceCode().toString(), state.context);
+      state =
+          processMatchers(
+              compilationUnitTokensMatchers,
+              tree,
+              (matcher, unit, s) -> matcher.matchCompilationUnitTokens(unit, tokens, s),
+              visitorState);
+    }
     return super.visitCompilationUnit(tree, state);
   }
 
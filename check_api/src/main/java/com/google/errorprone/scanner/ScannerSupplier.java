@@ -257,12 +257,12 @@ public abstract class ScannerSupplier implements Supplier<Scanner> {
             (k, v) -> {
               BugCheckerInfo existing = combinedAllChecks.putIfAbsent(k, v);
               if (existing != null
-                  && !existing.checkerClass().getName().contentEquals(v.checkerClass().getName())) {
+                  && !existing.checkerClassName().equals(v.checkerClassName())) {
                 throw new IllegalArgumentException(
                     String.format(
                         "Cannot combine scanner suppliers with different implementations of"
                             + " '%s': %s, %s",
-                        k, v.checkerClass().getName(), existing.checkerClass().getName()));
+                        k, v.checkerClassName(), existing.checkerClassName()));
               }
             });
     HashMap<String, SeverityLevel> combinedSeverities = new LinkedHashMap<>(this.severities());
@@ -877,22 +877,25 @@ public final class ASTHelpers {
       return false;
     }
     // TODO(amalloy): unify with hasAnnotation(Symbol, Name, VisitorState)
-    // normalize to non-binary names
-    annotationClass = annotationClass.replace('$', '.');
-    Name annotationName = state.getName(annotationClass);
-    if (hasAttribute(sym, annotationName)) {
-      return true;
-    }
-    if (sym instanceof ClassSymbol cs && isInherited(state, annotationClass)) {
-      for (sym = cs.getSuperclass().tsym;
-          sym instanceof ClassSymbol cs2;
-          sym = cs2.getSuperclass().tsym) {
-        if (hasAttribute(sym, annotationName)) {
-          return true;
-        }
-      }
+    AnnotationIndex index = AnnotationIndex.instance(state);
+    return index.hasAnnotation(sym, index.id(annotationClass, state), state);
+  }
+
+  /**
+   * Determines whether a symbol has the given annotation. This includes annotations inherited from
+   * superclasses due to {@code @Inherited}.
+   *
+   * <p>This is equivalent to {@link #hasAnnotation(Symbol, String, VisitorState)}, but avoids
+   * resolving the annotation's name on every call.
+   *
+   * @return true if the symbol is annotated with given type.
+   */
+  public static boolean hasAnnotation(Symbol sym, AnnotationKey annotation, VisitorState state) {
+    if (sym == null) {
+      return false;
     }
-    return false;
+    AnnotationIndex index = AnnotationIndex.instance(state);
+    return index.hasAnnotation(sym, index.id(annotation, state), state);
   }
 
   /**
@@ -924,6 +927,16 @@ public final class ASTHelpers {
     return hasAnnotation(sym, annotationClass, state);
   }
 
+  /**
+   * Check for the presence of an annotation, considering annotation inheritance.
+   *
+   * @return true if the tree is annotated with given type.
+   */
+  public static boolean hasAnnotation(Tree tree, AnnotationKey annotation, VisitorState state) {
+    Symbol sym = getDeclaredSymbol(tree);
+    return hasAnnotation(sym, annotation, state);
+  }
+
   /**
    * Check for the presence of an annotation, considering annotation inheritance.
    *
@@ -969,19 +982,10 @@ public final class ASTHelpers {
             });
   }
 
-  private static boolean isInherited(VisitorState state, String annotationName) {
+  static boolean isInherited(VisitorState state, String annotationName) {
     return isInherited(state, state.binaryNameFromClassname(annotationName));
   }
 
-  private static boolean hasAttribute(Symbol sym, Name annotationName) {
-    for (Compound a : sym.getRawAttributes()) {
-      if (a.type.tsym.getQualifiedName().equals(annotationName)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   /**
    * Determines which of a set of annotations are present on a symbol.
    *
@@ -2163,9 +2167,11 @@ public final class ASTHelpers {
     return pos != Position.NOPOS && endPos != Position.NOPOS && pos != endPos;
   }
 
+  private static final AnnotationKey KOTLIN_METADATA = AnnotationKey.of("kotlin.Metadata");
+
   /** Returns {@code true} if this symbol was declared in Kotlin source. */
   public static boolean isKotlin(Symbol symbol, VisitorState state) {
-    return hasAnnotation(symbol.enclClass(), "kotlin.Metadata", state);
+    return hasAnnotation(symbol.enclClass(), KOTLIN_METADATA, state);
   }
 
   /**
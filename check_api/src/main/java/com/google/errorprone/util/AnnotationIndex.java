@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.errorprone.VisitorState;
+import com.sun.tools.javac.code.Attribute.Compound;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Log;
+import com.sun.tools.javac.util.Name;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaFileObject;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compilation-scoped index of the declaration annotations on symbols.
+ *
+ * <p>Annotation types are interned to small integer IDs, and the annotations directly present on
+ * each symbol are recorded as a set of IDs, so checking for an annotation is a single bit test
+ * once a symbol has been indexed.
+ *
+ * <p>The index is stored in the compilation's {@link Context}, and is the only place that IDs are
+ * kept, including the IDs of {@link AnnotationKey}s. The sets of annotations on symbols are only
+ * kept while a single compilation unit is analyzed, so they don't keep the symbols of the whole
+ * compilation alive.
+ */
+final class AnnotationIndex {
+
+  private static final Context.Key<AnnotationIndex> KEY = new Context.Key<>();
+
+  static AnnotationIndex instance(VisitorState state) {
+    return instance(state.context);
+  }
+
+  static AnnotationIndex instance(Context context) {
+    AnnotationIndex instance = context.get(KEY);
+    if (instance == null) {
+      instance = new AnnotationIndex(Log.instance(context));
+      context.put(KEY, instance);
+    }
+    return instance;
+  }
+
+  /** The shared result for symbols without annotations. Never modified. */
+  private static final BitSet NONE = new BitSet();
+
+  /** The IDs of annotation types, keyed by their qualified (not binary) names. */
+  private final Map<Name, Integer> ids = new HashMap<>();
+
+  /** The qualified names of annotation types, indexed by ID. */
+  private final List<Name> names = new ArrayList<>();
+
+  /** The IDs of annotation types, keyed by the binary class names passed to {@link #id}. */
+  private final Map<String, Integer> idsByClassName = new HashMap<>();
+
+  /** The IDs of the annotation types of {@link AnnotationKey}s. */
+  private final Map<AnnotationKey, Integer> idsByKey = new IdentityHashMap<>();
+
+  /** The IDs whose annotation types have been checked for {@code @Inherited}. */
+  private final BitSet inheritedKnown = new BitSet();
+
+  /** The IDs of {@code @Inherited} annotation types. */
+  private final BitSet inherited = new BitSet();
+
+  /**
+   * The IDs of the annotations directly present on each symbol indexed while analyzing {@link
+   * #currentSource}.
+   */
+  private final Map<Symbol, BitSet> directAnnotations = new HashMap<>();
+
+  /** The log, whose current source file is the compilation unit being analyzed. */
+  private final Log log;
+
+  private @Nullable JavaFileObject currentSource;
+
+  private AnnotationIndex(Log log) {
+    this.log = log;
+  }
+
+  /** Returns the ID of the annotation type of the given key. */
+  int id(AnnotationKey key, VisitorState state) {
+    Integer id = idsByKey.get(key);
+    if (id == null) {
+      id = id(key.annotationClass(), state);
+      idsByKey.put(key, id);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the ID of the annotation type with the given binary class name (e.g.
+   * "some.package.OuterClassName$InnerClassName").
+   */
+  int id(String annotationClass, VisitorState state) {
+    Integer id = idsByClassName.get(annotationClass);
+    if (id == null) {
+      // normalize to non-binary names
+      id = id(state.getName(annotationClass.replace('$', '.')));
+      idsByClassName.put(annotationClass, id);
+    }
+    return id;
+  }
+
+  private int id(Name qualifiedName) {
+    Integer id = ids.get(qualifiedName);
+    if (id == null) {
+      id = names.size();
+      ids.put(qualifiedName, id);
+      names.add(qualifiedName);
+    }
+    return id;
+  }
+
+  /**
+   * Returns whether {@code sym} has the annotation with the given ID, including annotations
+   * inherited from superclasses due to {@code @Inherited}.
+   */
+  boolean hasAnnotation(Symbol sym, int id, VisitorState state) {
+    if (directAnnotations(sym).get(id)) {
+      return true;
+    }
+    if (sym instanceof ClassSymbol cs && isInherited(id, state)) {
+      for (sym = cs.getSuperclass().tsym;
+          sym instanceof ClassSymbol cs2;
+          sym = cs2.getSuperclass().tsym) {
+        if (directAnnotations(sym).get(id)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isInherited(int id, VisitorState state) {
+    if (!inheritedKnown.get(id)) {
+      inheritedKnown.set(id);
+      if (ASTHelpers.isInherited(state, names.get(id).toString())) {
+        inherited.set(id);
+      }
+    }
+    return inherited.get(id);
+  }
+
+  private BitSet directAnnotations(Symbol sym) {
+    JavaFileObject source = log.currentSourceFile();
+    if (source != currentSource) {
+      // A new compilation unit is being analyzed.
+      currentSource = source;
+      directAnnotations.clear();
+    }
+    BitSet result = directAnnotations.get(sym);
+    if (result != null) {
+      return result;
+    }
+    result = NONE;
+    for (Compound a : sym.getRawAttributes()) {
+      if (result == NONE) {
+        result = new BitSet();
+      }
+      result.set(id(a.type.tsym.getQualifiedName()));
+    }
+    // The annotations of a class that hasn't been completed yet aren't known, so don't remember
+    // the (possibly empty) result.
+    if (!(sym instanceof ClassSymbol) || sym.completer == Symbol.Completer.NULL_COMPLETER) {
+      directAnnotations.put(sym, result);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.VisitorState;
+import com.sun.tools.javac.code.Symbol;
+
+/**
+ * A handle for an annotation type, for use with {@link ASTHelpers#hasAnnotation(Symbol,
+ * AnnotationKey, VisitorState)}.
+ *
+ * <p>Keys are intended to be created once and stored in a static field, so the annotation's name
+ * is only resolved once per compilation:
+ *
+ * <pre>{@code
+ * private static final AnnotationKey CHECK_RETURN_VALUE =
+ *     AnnotationKey.of("com.google.errorprone.annotations.CheckReturnValue");
+ * }</pre>
+ */
+public final class AnnotationKey {
+
+  /**
+   * Returns a key for the given annotation.
+   *
+   * @param annotationClass the binary class name of the annotation (e.g.
+   *     "org.jspecify.annotations.Nullable", or "some.package.OuterClassName$InnerClassName")
+   */
+  public static AnnotationKey of(String annotationClass) {
+    return new AnnotationKey(checkNotNull(annotationClass));
+  }
+
+  private final String annotationClass;
+
+  private AnnotationKey(String annotationClass) {
+    this.annotationClass = annotationClass;
+  }
+
+  /** Returns the binary class name of the annotation. */
+  public String annotationClass() {
+    return annotationClass;
+  }
+
+  @Override
+  public String toString() {
+    return annotationClass;
+  }
+}
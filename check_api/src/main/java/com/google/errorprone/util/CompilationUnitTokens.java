@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.ImmutableIntArray;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Position.LineMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The lexical structure of a compilation unit's source: its tokens and comments, and the positions
+ * of any characters that aren't printable ASCII.
+ *
+ * <p>Each is computed the first time it is requested, and is then shared by all the checks that
+ * implement {@link com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher}, so
+ * the source is lexed at most once per compilation unit.
+ */
+public final class CompilationUnitTokens {
+  private final String source;
+  private final ErrorProneTokens lexer;
+  private @Nullable ImmutableList<ErrorProneToken> tokens;
+  private @Nullable ImmutableIntArray nonPrintableAsciiPositions;
+
+  public CompilationUnitTokens(String source, Context context) {
+    this.source = source;
+    this.lexer = new ErrorProneTokens(source, context);
+  }
+
+  /** Returns the source code of the compilation unit. */
+  public String source() {
+    return source;
+  }
+
+  /** Returns the tokens of the compilation unit, with their comments. */
+  public ImmutableList<ErrorProneToken> tokens() {
+    if (tokens == null) {
+      tokens = lexer.getTokens();
+    }
+    return tokens;
+  }
+
+  /** Returns the line map of the compilation unit. */
+  public LineMap lineMap() {
+    return lexer.getLineMap();
+  }
+
+  /**
+   * Returns the positions of the characters in the source that are outside the printable ASCII
+   * range, other than line terminators and tabs, in increasing order.
+   */
+  public ImmutableIntArray nonPrintableAsciiPositions() {
+    if (nonPrintableAsciiPositions == null) {
+      ImmutableIntArray.Builder positions = ImmutableIntArray.builder();
+      for (int i = 0; i < source.length(); i++) {
+        char c = source.charAt(i);
+        if ((c < 0x20 || c > 0x7E) && c != '\n' && c != '\r' && c != '\t') {
+          positions.add(i);
+        }
+      }
+      nonPrintableAsciiPositions = positions.build();
+    }
+    return nonPrintableAsciiPositions;
+  }
+}
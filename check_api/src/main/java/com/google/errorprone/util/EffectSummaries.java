@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.io.MoreFiles.asCharSource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.errorprone.ErrorProneFlags;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Type.ArrayType;
+import com.sun.tools.javac.code.Types;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Facts about the effects of classpath methods, loaded from summary files given by the {@code
+ * -XepOpt:EffectSummaries=<file>[,<file>...]} flag.
+ *
+ * <p>Each non-empty line of a summary file that doesn't start with {@code #} has the form {@code
+ * <key> <effect>[,<effect>...]}. The key of a method is the binary name of its owner, {@code #},
+ * its name and its erased parameter types, e.g. {@code
+ * com.example.Foo#bar(int,java.lang.String[])}. Summary files can be written by hand or generated
+ * from a library with {@link EffectSummaryGenerator}.
+ *
+ * <p>The files are only read the first time a fact is requested in a compilation.
+ */
+public final class EffectSummaries {
+
+  /** The flag that lists summary files. */
+  public static final String FLAG = "EffectSummaries";
+
+  /** An effect fact about a method. */
+  public enum Effect {
+    /** The method never allocates. */
+    ALLOCATION_FREE,
+    /** It's fine to ignore the result of the method. */
+    CAN_IGNORE_RESULT,
+  }
+
+  private static final Supplier<EffectSummaries> INSTANCE =
+      VisitorState.memoize(state -> fromFlags(state.errorProneOptions().getFlags()));
+
+  /** Returns the summaries for the current compilation. */
+  public static EffectSummaries instance(VisitorState state) {
+    return INSTANCE.get(state);
+  }
+
+  /** Returns summaries that are loaded, when first used, from the files given by the flags. */
+  private static EffectSummaries fromFlags(ErrorProneFlags flags) {
+    ImmutableList<String> files = flags.getListOrEmpty(FLAG);
+    return new EffectSummaries(
+        Suppliers.memoize(
+            () -> {
+              Map<String, Set<Effect>> facts = new HashMap<>();
+              for (String file : files) {
+                load(file, facts);
+              }
+              return facts.entrySet().stream()
+                  .collect(
+                      ImmutableMap.toImmutableMap(
+                          Map.Entry::getKey, e -> Sets.immutableEnumSet(e.getValue())));
+            }));
+  }
+
+  private final com.google.common.base.Supplier<ImmutableMap<String, ImmutableSet<Effect>>> facts;
+
+  private EffectSummaries(
+      com.google.common.base.Supplier<ImmutableMap<String, ImmutableSet<Effect>>> facts) {
+    this.facts = facts;
+  }
+
+  /** Returns the facts known about the given method. */
+  public ImmutableSet<Effect> effects(MethodSymbol method, Types types) {
+    return facts.get().getOrDefault(methodKey(method, types), ImmutableSet.of());
+  }
+
+  /** Returns true if the given fact is known about the given method. */
+  public boolean hasEffect(MethodSymbol method, Effect effect, VisitorState state) {
+    return effects(method, state.getTypes()).contains(effect);
+  }
+
+  /** Returns the summary key of a method. */
+  public static String methodKey(MethodSymbol method, Types types) {
+    return method.owner.flatName()
+        + "#"
+        + method.getSimpleName()
+        + method.params().stream()
+            .map(p -> erasedName(p.type, types))
+            .collect(joining(",", "(", ")"));
+  }
+
+  private static String erasedName(Type type, Types types) {
+    if (type instanceof ArrayType arrayType) {
+      return erasedName(arrayType.elemtype, types) + "[]";
+    }
+    if (type.isPrimitive()) {
+      return type.getKind().toString().toLowerCase(Locale.ROOT);
+    }
+    return types.erasure(type).tsym.flatName().toString();
+  }
+
+  /** Writes a summary file, with one line per key in iteration order. */
+  public static void write(Map<String, ? extends Set<Effect>> facts, Writer writer)
+      throws IOException {
+    for (Map.Entry<String, ? extends Set<Effect>> entry : facts.entrySet()) {
+      if (entry.getValue().isEmpty()) {
+        continue;
+      }
+      writer.write(
+          entry.getKey()
+              + " "
+              + entry.getValue().stream().map(Effect::name).collect(joining(","))
+              + "\n");
+    }
+  }
+
+  private static final Splitter EFFECT_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+  private static void load(String file, Map<String, Set<Effect>> facts) {
+    try (Stream<String> lines = asCharSource(Paths.get(file), UTF_8).lines()) {
+      lines
+          .map(String::trim)
+          .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+          .forEach(
+              line -> {
+                int space = line.indexOf(' ');
+                checkArgument(space > 0, "Malformed line in %s: %s", file, line);
+                Set<Effect> effects =
+                    facts.computeIfAbsent(
+                        line.substring(0, space), k -> EnumSet.noneOf(Effect.class));
+                for (String effect : EFFECT_SPLITTER.split(line.substring(space + 1))) {
+                  effects.add(Effect.valueOf(effect));
+                }
+              });
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not load effect summaries from " + file, e);
+    }
+  }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.util.EffectSummaries.Effect;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates an {@link EffectSummaries} file for the public API of a library jar.
+ *
+ * <p>The facts are inferred from the methods' bytecode, so they hold for methods that aren't
+ * annotated: annotations on classpath symbols are read by the checks directly, and aren't repeated
+ * in the summary. A method is {@link Effect#ALLOCATION_FREE} if it contains no allocating
+ * instruction and only calls methods of the same jar that are allocation-free themselves, and that
+ * can't be overridden. Calls to methods outside the jar are assumed to allocate.
+ *
+ * <p>{@code com.google.errorprone.EffectSummaryTool} in Error Prone's core runs it from the
+ * command line.
+ */
+public final class EffectSummaryGenerator {
+
+  /** Returns the facts about the public and protected API of the classes in the given jar. */
+  public static ImmutableSortedMap<String, Set<Effect>> summarize(Path jar) throws IOException {
+    Map<String, ClassInfo> classes = new HashMap<>();
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      for (JarEntry entry : Collections.list(jarFile.entries())) {
+        String name = entry.getName();
+        if (!name.endsWith(".class")
+            || name.endsWith("-info.class")
+            || name.startsWith("META-INF/")) {
+          continue;
+        }
+        try (InputStream in = jarFile.getInputStream(entry)) {
+          ClassInfo classInfo = ClassInfo.read(in.readAllBytes());
+          classes.put(classInfo.name, classInfo);
+        }
+      }
+    }
+    inferAllocationFreedom(classes);
+    Map<String, Set<Effect>> facts = new TreeMap<>();
+    for (ClassInfo classInfo : classes.values()) {
+      if (!isApi(classInfo.access)) {
+        continue;
+      }
+      for (MethodInfo method : classInfo.methods) {
+        if (isApi(method.access) && !method.name.startsWith("<") && method.allocationFree) {
+          facts.put(methodKey(classInfo, method), EnumSet.of(Effect.ALLOCATION_FREE));
+        }
+      }
+    }
+    return ImmutableSortedMap.copyOf(facts);
+  }
+
+  /**
+   * Marks the methods that are allocation-free, starting from those without allocating
+   * instructions, and repeatedly unmarking those that call a method that isn't.
+   */
+  private static void inferAllocationFreedom(Map<String, ClassInfo> classes) {
+    List<MethodInfo> candidates = new ArrayList<>();
+    for (ClassInfo classInfo : classes.values()) {
+      for (MethodInfo method : classInfo.methods) {
+        method.allocationFree = method.hasCode && !method.allocates;
+        if (method.allocationFree) {
+          candidates.add(method);
+        }
+      }
+    }
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (MethodInfo method : candidates) {
+        if (method.allocationFree
+            && !method.calls.stream().allMatch(call -> isAllocationFree(call, classes))) {
+          method.allocationFree = false;
+          changed = true;
+        }
+      }
+    }
+  }
+
+  private static boolean isAllocationFree(Call call, Map<String, ClassInfo> classes) {
+    ClassInfo owner = classes.get(call.owner);
+    for (ClassInfo c = owner; c != null; c = classes.get(c.superName)) {
+      MethodInfo target = c.method(call.name, call.descriptor);
+      if (target == null) {
+        continue;
+      }
+      boolean dispatched = call.virtual && (target.access & (ACC_PRIVATE | ACC_STATIC)) == 0;
+      boolean overridable = (target.access & ACC_FINAL) == 0 && (owner.access & ACC_FINAL) == 0;
+      return target.allocationFree && !(dispatched && overridable);
+    }
+    return false;
+  }
+
+  private static boolean isApi(int access) {
+    return (access & (ACC_PUBLIC | ACC_PROTECTED)) != 0 && (access & ACC_SYNTHETIC) == 0;
+  }
+
+  /** Returns the {@link EffectSummaries#methodKey key} of a method. */
+  private static String methodKey(ClassInfo owner, MethodInfo method) {
+    List<String> parameters = new ArrayList<>();
+    String descriptor = method.descriptor;
+    int i = 1;
+    while (descriptor.charAt(i) != ')') {
+      int dimensions = 0;
+      while (descriptor.charAt(i) == '[') {
+        dimensions++;
+        i++;
+      }
+      String type;
+      if (descriptor.charAt(i) == 'L') {
+        int end = descriptor.indexOf(';', i);
+        type = descriptor.substring(i + 1, end).replace('/', '.');
+        i = end + 1;
+      } else {
+        type = primitiveName(descriptor.charAt(i));
+        i++;
+      }
+      parameters.add(type + "[]".repeat(dimensions));
+    }
+    return owner.name.replace('/', '.')
+        + "#"
+        + method.name
+        + parameters.stream().collect(joining(",", "(", ")"));
+  }
+
+  private static String primitiveName(char descriptor) {
+    return switch (descriptor) {
+      case 'Z' -> "boolean";
+      case 'B' -> "byte";
+      case 'C' -> "char";
+      case 'S' -> "short";
+      case 'I' -> "int";
+      case 'J' -> "long";
+      case 'F' -> "float";
+      case 'D' -> "double";
+      default -> throw new IllegalArgumentException("Unexpected descriptor " + descriptor);
+    };
+  }
+
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_PRIVATE = 0x0002;
+  private static final int ACC_PROTECTED = 0x0004;
+  private static final int ACC_STATIC = 0x0008;
+  private static final int ACC_FINAL = 0x0010;
+  private static final int ACC_SYNTHETIC = 0x1000;
+
+  /** A call instruction, and the method it refers to. */
+  private record Call(String owner, String name, String descriptor, boolean virtual) {}
+
+  /** What the generator needs to know about a method. */
+  private static final class MethodInfo {
+    final int access;
+    final String name;
+    final String descriptor;
+    boolean hasCode;
+    boolean allocates;
+    final List<Call> calls = new ArrayList<>();
+    boolean allocationFree;
+
+    MethodInfo(int access, String name, String descriptor) {
+      this.access = access;
+      this.name = name;
+      this.descriptor = descriptor;
+    }
+  }
+
+  /** What the generator needs to know about a class, read from its class file. */
+  private static final class ClassInfo {
+    int access;
+    String name;
+    @Nullable String superName;
+    final List<MethodInfo> methods = new ArrayList<>();
+
+    @Nullable MethodInfo method(String name, String descriptor) {
+      for (MethodInfo method : methods) {
+        if (method.name.equals(name) && method.descriptor.equals(descriptor)) {
+          return method;
+        }
+      }
+      return null;
+    }
+
+    static ClassInfo read(byte[] bytes) throws IOException {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      if (in.readInt() != 0xCAFEBABE) {
+        throw new IOException("Not a class file");
+      }
+      in.readUnsignedShort(); // minor_version
+      in.readUnsignedShort(); // major_version
+      ConstantPool pool = ConstantPool.read(in);
+      ClassInfo classInfo = new ClassInfo();
+      classInfo.access = in.readUnsignedShort();
+      classInfo.name = pool.className(in.readUnsignedShort());
+      int superClass = in.readUnsignedShort();
+      classInfo.superName = superClass == 0 ? null : pool.className(superClass);
+      in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+      int fields = in.readUnsignedShort();
+      for (int i = 0; i < fields; i++) {
+        in.skipBytes(6); // access_flags, name_index, descriptor_index
+        skipAttributes(in);
+      }
+      int methods = in.readUnsignedShort();
+      for (int i = 0; i < methods; i++) {
+        MethodInfo method =
+            new MethodInfo(
+                in.readUnsignedShort(),
+                pool.utf8(in.readUnsignedShort()),
+                pool.utf8(in.readUnsignedShort()));
+        int attributes = in.readUnsignedShort();
+        for (int j = 0; j < attributes; j++) {
+          String attribute = pool.utf8(in.readUnsignedShort());
+          int length = in.readInt();
+          if (attribute.equals("Code")) {
+            in.skipBytes(4); // max_stack, max_locals
+            byte[] code = new byte[in.readInt()];
+            in.readFully(code);
+            method.hasCode = true;
+            scanCode(code, pool, method);
+            in.skipBytes(length - 8 - code.length);
+          } else {
+            in.skipBytes(length);
+          }
+        }
+        classInfo.methods.add(method);
+      }
+      return classInfo;
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+      int attributes = in.readUnsignedShort();
+      for (int i = 0; i < attributes; i++) {
+        in.skipBytes(2);
+        in.skipBytes(in.readInt());
+      }
+    }
+
+    /** Records the allocating instructions and the calls in a method's bytecode. */
+    private static void scanCode(byte[] code, ConstantPool pool, MethodInfo method) {
+      int pc = 0;
+      while (pc < code.length) {
+        int opcode = code[pc] & 0xff;
+        switch (opcode) {
+          case NEW, NEWARRAY, ANEWARRAY, MULTIANEWARRAY, INVOKEDYNAMIC -> method.allocates = true;
+          case INVOKEVIRTUAL, INVOKESPECIAL, INVOKESTATIC, INVOKEINTERFACE -> {
+            int[] ref = pool.ref(u2(code, pc + 1));
+            int[] nameAndType = pool.ref(ref[1]);
+            method.calls.add(
+                new Call(
+                    pool.className(ref[0]),
+                    pool.utf8(nameAndType[0]),
+                    pool.utf8(nameAndType[1]),
+                    opcode == INVOKEVIRTUAL || opcode == INVOKEINTERFACE));
+          }
+          default -> {}
+        }
+        pc += instructionLength(code, pc);
+      }
+    }
+
+    private static int instructionLength(byte[] code, int pc) {
+      int opcode = code[pc] & 0xff;
+      return switch (opcode) {
+        case 0x10, 0x12, 0x15, 0x16, 0x17, 0x18, 0x19, 0x36, 0x37, 0x38, 0x39, 0x3a, 0xa9, 0xbc ->
+            2;
+        case 0x11, 0x13, 0x14, 0x84, 0xb2, 0xb3, 0xb4, 0xb5, 0xb6, 0xb7, 0xb8, 0xbb, 0xbd, 0xc0,
+            0xc1, 0xc6, 0xc7 ->
+            3;
+        case 0xc5 -> 4;
+        case 0xb9, 0xba, 0xc8, 0xc9 -> 5;
+        case 0xc4 -> (code[pc + 1] & 0xff) == 0x84 ? 6 : 4; // wide
+        case 0xaa -> { // tableswitch
+          int operands = (pc + 4) & ~3;
+          int low = code32(code, operands + 4);
+          int high = code32(code, operands + 8);
+          yield operands + 12 + 4 * (high - low + 1) - pc;
+        }
+        case 0xab -> { // lookupswitch
+          int operands = (pc + 4) & ~3;
+          yield operands + 8 + 8 * code32(code, operands + 4) - pc;
+        }
+        default -> opcode >= 0x99 && opcode <= 0xa8 ? 3 : 1;
+      };
+    }
+
+    private static int u2(byte[] code, int pos) {
+      return ((code[pos] & 0xff) << 8) | (code[pos + 1] & 0xff);
+    }
+
+    private static int code32(byte[] code, int pos) {
+      return (u2(code, pos) << 16) | u2(code, pos + 2);
+    }
+
+    private static final int NEW = 0xbb;
+    private static final int NEWARRAY = 0xbc;
+    private static final int ANEWARRAY = 0xbd;
+    private static final int MULTIANEWARRAY = 0xc5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int INVOKEDYNAMIC = 0xba;
+  }
+
+  /** The parts of a class file's constant pool that the generator reads. */
+  private static final class ConstantPool {
+    private final Object[] entries;
+
+    private ConstantPool(Object[] entries) {
+      this.entries = entries;
+    }
+
+    static ConstantPool read(DataInputStream in) throws IOException {
+      Object[] entries = new Object[in.readUnsignedShort()];
+      for (int i = 1; i < entries.length; i++) {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+          case 1 -> entries[i] = in.readUTF(); // Utf8
+          case 7, 8, 16, 19, 20 -> entries[i] = new int[] {in.readUnsignedShort()};
+          case 9, 10, 11, 12, 17, 18 ->
+              entries[i] = new int[] {in.readUnsignedShort(), in.readUnsignedShort()};
+          case 3, 4 -> in.skipBytes(4); // Integer, Float
+          case 5, 6 -> { // Long, Double, which take up two entries
+            in.skipBytes(8);
+            i++;
+          }
+          case 15 -> in.skipBytes(3); // MethodHandle
+          default -> throw new IOException("Unknown constant pool tag " + tag);
+        }
+      }
+      return new ConstantPool(entries);
+    }
+
+    String utf8(int index) {
+      return (String) entries[index];
+    }
+
+    String className(int index) {
+      return utf8(ref(index)[0]);
+    }
+
+    int[] ref(int index) {
+      return (int[]) entries[index];
+    }
+  }
+
+  private EffectSummaryGenerator() {}
+}
@@ -23,6 +23,7 @@ import static com.google.errorprone.util.ASTHelpers.isStatic;
 import static com.google.errorprone.util.Reachability.canCompleteNormally;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.errorprone.VisitorState;
@@ -73,11 +74,14 @@ import com.sun.tools.javac.comp.Resolve;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
+import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Name;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -106,26 +110,32 @@ public final class FindIdentifiers {
       env = Enter.instance(state.context).getClassEnv(enclosingClass.tsym);
       MethodTree enclosingMethod = state.findEnclosing(MethodTree.class);
       if (enclosingMethod != null) {
-        env = MemberEnter.instance(state.context).getMethodEnv((JCMethodDecl) enclosingMethod, env);
+        env = ScopeIndex.instance(state).methodEnv((JCMethodDecl) enclosingMethod, env, state);
       }
     }
     try {
-      Symbol result = findIdent(name, state, kind, env);
+      Symbol result =
+          (Symbol)
+              FIND_IDENT.invoke(
+                  Resolve.instance(state.context), null, env, state.getName(name), kind);
       return result.exists() ? result : null;
     } catch (ReflectiveOperationException e) {
       throw new LinkageError(e.getMessage(), e);
     }
   }
 
-  private static Symbol findIdent(
-      String name, VisitorState state, KindSelector kind, Env<AttrContext> env)
-      throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-    Method method =
-        Resolve.class.getDeclaredMethod(
-            "findIdent", DiagnosticPosition.class, Env.class, Name.class, KindSelector.class);
-    method.setAccessible(true);
-    return (Symbol)
-        method.invoke(Resolve.instance(state.context), null, env, state.getName(name), kind);
+  private static final Method FIND_IDENT = getFindIdentMethod();
+
+  private static Method getFindIdentMethod() {
+    try {
+      Method method =
+          Resolve.class.getDeclaredMethod(
+              "findIdent", DiagnosticPosition.class, Env.class, Name.class, KindSelector.class);
+      method.setAccessible(true);
+      return method;
+    } catch (NoSuchMethodException e) {
+      throw new LinkageError(e.getMessage(), e);
+    }
   }
 
   private static @Nullable ClassTree getEnclosingClass(TreePath treePath) {
@@ -159,6 +169,7 @@ public final class FindIdentifiers {
    */
   public static ImmutableSet<VarSymbol> findAllIdents(VisitorState state) {
     ImmutableSet.Builder<VarSymbol> result = new ImmutableSet.Builder<>();
+    ScopeIndex scopeIndex = ScopeIndex.instance(state);
 
     // If we're in a binary tree, scan up separately to find anything to the left that implies us.
     Tree prev = state.getPath().getLeaf();
@@ -190,17 +201,8 @@ public final class FindIdentifiers {
     prev = state.getPath().getLeaf();
     for (Tree curr : state.getPath().getParentPath()) {
       switch (curr) {
-        case BlockTree blockTree -> {
-          for (StatementTree stmt : blockTree.getStatements()) {
-            if (stmt.equals(prev)) {
-              break;
-            }
-            addIfVariable(stmt, result);
-            if (stmt instanceof IfTree ifTree && !canCompleteNormally(ifTree.getThenStatement())) {
-              findBindingVariables(ifTree.getCondition(), result, /* startNegated= */ true);
-            }
-          }
-        }
+        case BlockTree blockTree ->
+            scopeIndex.blockScope(blockTree).addDeclaredBefore(prev, result);
         case LambdaExpressionTree lambdaExpressionTree -> {
           for (VariableTree param : lambdaExpressionTree.getParameters()) {
             result.add(ASTHelpers.getSymbol(param));
@@ -216,28 +218,10 @@ public final class FindIdentifiers {
           // Collect fields declared in this class.  If we are in a field initializer, only
           // include fields declared before this one. JLS 8.3.3 allows forward references if the
           // field is referred to by qualified name, but we don't support that.
-          for (Tree member : classTree.getMembers()) {
-            if (member.equals(prev)) {
-              break;
-            }
-            addIfVariable(member, result);
-          }
+          scopeIndex.classScope(classTree).addDeclaredBefore(prev, result);
 
           // Collect inherited fields.
-          Type classType = ASTHelpers.getType(curr);
-          List<Type> classTypeClosure = state.getTypes().closure(classType);
-          List<Type> superTypes =
-              classTypeClosure.size() <= 1
-                  ? Collections.emptyList()
-                  : classTypeClosure.subList(1, classTypeClosure.size());
-          for (Type type : superTypes) {
-            Scope scope = type.tsym.members();
-            ImmutableList.Builder<VarSymbol> varsList = ImmutableList.builder();
-            for (Symbol var : scope.getSymbols(VarSymbol.class::isInstance)) {
-              varsList.add((VarSymbol) var);
-            }
-            result.addAll(varsList.build().reverse());
-          }
+          result.addAll(scopeIndex.inheritedFields(ASTHelpers.getType(curr), state));
         }
         case ForLoopTree forLoopTree -> addAllIfVariable(forLoopTree.getInitializer(), result);
         case EnhancedForLoopTree enhancedForLoopTree ->
@@ -281,27 +265,8 @@ public final class FindIdentifiers {
                 conditionalExpressionTree.getCondition(), result, /* startNegated= */ true);
           }
         }
-        case CompilationUnitTree compilationUnitTree -> {
-          for (ImportTree importTree : compilationUnitTree.getImports()) {
-            if (importTree.isStatic()
-                && importTree.getQualifiedIdentifier()
-                    instanceof MemberSelectTree memberSelectTree) {
-              Scope scope =
-                  state
-                      .getTypes()
-                      .membersClosure(
-                          ASTHelpers.getType(memberSelectTree.getExpression()),
-                          /* skipInterface= */ false);
-              for (Symbol var :
-                  scope.getSymbols(
-                      sym ->
-                          sym instanceof VarSymbol
-                              && sym.getSimpleName().equals(memberSelectTree.getIdentifier()))) {
-                result.add((VarSymbol) var);
-              }
-            }
-          }
-        }
+        case CompilationUnitTree compilationUnitTree ->
+            result.addAll(scopeIndex.staticImports(compilationUnitTree, state));
         default -> {
           // other node types don't introduce variables
         }
@@ -626,5 +591,178 @@ public final class FindIdentifiers {
     return (index1 >= 0) && (index1 < index2);
   }
 
+  /**
+   * An index of the variables declared by the scopes enclosing the current location, shared by all
+   * checks in a compilation.
+   *
+   * <p>Entries for blocks, classes, methods and the compilation unit are computed the first time
+   * a location inside them is queried, and are reused for subsequent queries until analysis moves
+   * on to the next compilation unit. Inherited fields are keyed by symbol and are kept for the
+   * whole compilation.
+   */
+  private static final class ScopeIndex {
+    private static final Context.Key<ScopeIndex> SCOPE_INDEX_KEY = new Context.Key<>();
+
+    static ScopeIndex instance(VisitorState state) {
+      ScopeIndex instance = state.context.get(SCOPE_INDEX_KEY);
+      if (instance == null) {
+        instance = new ScopeIndex();
+        state.context.put(SCOPE_INDEX_KEY, instance);
+      }
+      instance.enterCompilationUnit(state.getPath().getCompilationUnit());
+      return instance;
+    }
+
+    private final Map<TypeSymbol, ImmutableList<VarSymbol>> inheritedFields = new HashMap<>();
+
+    private @Nullable CompilationUnitTree compilationUnit;
+    private @Nullable ImmutableList<VarSymbol> staticImports;
+    private final Map<Tree, DeclaredVariables> scopes = new IdentityHashMap<>();
+    private final Map<JCMethodDecl, Env<AttrContext>> methodEnvs = new IdentityHashMap<>();
+
+    private void enterCompilationUnit(CompilationUnitTree compilationUnit) {
+      if (this.compilationUnit != compilationUnit) {
+        // Don't pin the trees of units that have already been analyzed.
+        this.compilationUnit = compilationUnit;
+        staticImports = null;
+        scopes.clear();
+        methodEnvs.clear();
+      }
+    }
+
+    /** The variables declared by each statement of the given block, in order. */
+    DeclaredVariables blockScope(BlockTree blockTree) {
+      return scopes.computeIfAbsent(
+          blockTree,
+          unused -> {
+            DeclaredVariables.Builder builder = new DeclaredVariables.Builder();
+            for (StatementTree stmt : blockTree.getStatements()) {
+              ImmutableSet.Builder<VarSymbol> declared = ImmutableSet.builder();
+              addIfVariable(stmt, declared);
+              if (stmt instanceof IfTree ifTree
+                  && !canCompleteNormally(ifTree.getThenStatement())) {
+                findBindingVariables(ifTree.getCondition(), declared, /* startNegated= */ true);
+              }
+              builder.add(stmt, declared.build());
+            }
+            return builder.build();
+          });
+    }
+
+    /** The fields declared by each member of the given class, in order. */
+    DeclaredVariables classScope(ClassTree classTree) {
+      return scopes.computeIfAbsent(
+          classTree,
+          unused -> {
+            DeclaredVariables.Builder builder = new DeclaredVariables.Builder();
+            for (Tree member : classTree.getMembers()) {
+              ImmutableSet.Builder<VarSymbol> declared = ImmutableSet.builder();
+              addIfVariable(member, declared);
+              builder.add(member, declared.build());
+            }
+            return builder.build();
+          });
+    }
+
+    /** The fields declared in the supertypes of the given class, nearest supertype first. */
+    ImmutableList<VarSymbol> inheritedFields(Type classType, VisitorState state) {
+      ImmutableList<VarSymbol> cached = inheritedFields.get(classType.tsym);
+      if (cached != null) {
+        return cached;
+      }
+      ImmutableList.Builder<VarSymbol> result = ImmutableList.builder();
+      List<Type> classTypeClosure = state.getTypes().closure(classType);
+      List<Type> superTypes =
+          classTypeClosure.size() <= 1
+              ? Collections.emptyList()
+              : classTypeClosure.subList(1, classTypeClosure.size());
+      for (Type type : superTypes) {
+        Scope scope = type.tsym.members();
+        ImmutableList.Builder<VarSymbol> varsList = ImmutableList.builder();
+        for (Symbol var : scope.getSymbols(VarSymbol.class::isInstance)) {
+          varsList.add((VarSymbol) var);
+        }
+        result.addAll(varsList.build().reverse());
+      }
+      cached = result.build();
+      inheritedFields.put(classType.tsym, cached);
+      return cached;
+    }
+
+    /** The variables brought into scope by static imports in the current compilation unit. */
+    ImmutableList<VarSymbol> staticImports(
+        CompilationUnitTree compilationUnitTree, VisitorState state) {
+      if (staticImports != null) {
+        return staticImports;
+      }
+      ImmutableList.Builder<VarSymbol> result = ImmutableList.builder();
+      for (ImportTree importTree : compilationUnitTree.getImports()) {
+        if (importTree.isStatic()
+            && importTree.getQualifiedIdentifier() instanceof MemberSelectTree memberSelectTree) {
+          Scope scope =
+              state
+                  .getTypes()
+                  .membersClosure(
+                      ASTHelpers.getType(memberSelectTree.getExpression()),
+                      /* skipInterface= */ false);
+          for (Symbol var :
+              scope.getSymbols(
+                  sym ->
+                      sym instanceof VarSymbol
+                          && sym.getSimpleName().equals(memberSelectTree.getIdentifier()))) {
+            result.add((VarSymbol) var);
+          }
+        }
+      }
+      staticImports = result.build();
+      return staticImports;
+    }
+
+    /** The resolution environment for the body of the given method. */
+    Env<AttrContext> methodEnv(JCMethodDecl method, Env<AttrContext> classEnv, VisitorState state) {
+      return methodEnvs.computeIfAbsent(
+          method, m -> MemberEnter.instance(state.context).getMethodEnv(m, classEnv));
+    }
+  }
+
+  /** The variables declared by each child of a block or class, in source order. */
+  private static final class DeclaredVariables {
+    private final ImmutableMap<Tree, Integer> indices;
+    private final ImmutableList<ImmutableSet<VarSymbol>> declared;
+
+    private DeclaredVariables(
+        ImmutableMap<Tree, Integer> indices, ImmutableList<ImmutableSet<VarSymbol>> declared) {
+      this.indices = indices;
+      this.declared = declared;
+    }
+
+    /**
+     * Adds the variables declared by the children preceding {@code child}, or by all children if
+     * {@code child} is not one of them.
+     */
+    void addDeclaredBefore(Tree child, ImmutableSet.Builder<VarSymbol> result) {
+      int end = indices.getOrDefault(child, declared.size());
+      for (int i = 0; i < end; i++) {
+        result.addAll(declared.get(i));
+      }
+    }
+
+    private static final class Builder {
+      private final ImmutableMap.Builder<Tree, Integer> indices = ImmutableMap.builder();
+      private final ImmutableList.Builder<ImmutableSet<VarSymbol>> declared =
+          ImmutableList.builder();
+      private int size = 0;
+
+      void add(Tree child, ImmutableSet<VarSymbol> variables) {
+        indices.put(child, size++);
+        declared.add(variables);
+      }
+
+      DeclaredVariables build() {
+        return new DeclaredVariables(indices.buildOrThrow(), declared.build());
+      }
+    }
+  }
+
   private FindIdentifiers() {}
 }
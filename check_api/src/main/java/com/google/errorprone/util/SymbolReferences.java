@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.errorprone.util.ASTHelpers.getSymbol;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.CompoundAssignmentTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.TypeParameterTree;
+import com.sun.source.tree.UnaryTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.tools.javac.code.Symbol;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of the declarations of symbols in a compilation unit, and of the places where symbols
+ * are referenced.
+ *
+ * <p>The index is built the first time it is requested for a compilation unit, and is shared by
+ * all checks that analyze that compilation unit, so the compilation unit is only scanned once for
+ * these facts.
+ *
+ * <p>A reference is an identifier, member select or member reference whose symbol is the
+ * referenced symbol, or a {@code new} expression whose symbol is the invoked constructor.
+ * Declarations are not references.
+ */
+public final class SymbolReferences {
+
+  /**
+   * Returns the index for the compilation unit of {@code state}'s current path, building it if
+   * necessary.
+   */
+  public static SymbolReferences instance(VisitorState state) {
+    return CACHE.get(state).get(state.getPath().getCompilationUnit());
+  }
+
+  private static final Supplier<Cache> CACHE = VisitorState.memoize(unusedState -> new Cache());
+
+  /** Holds the index for the most recently analyzed compilation unit. */
+  private static final class Cache {
+    private @Nullable CompilationUnitTree compilationUnit;
+    private @Nullable SymbolReferences index;
+
+    SymbolReferences get(CompilationUnitTree compilationUnit) {
+      if (this.compilationUnit != compilationUnit || index == null) {
+        this.compilationUnit = compilationUnit;
+        this.index = build(compilationUnit);
+      }
+      return index;
+    }
+  }
+
+  private final ImmutableMap<Symbol, TreePath> declarations;
+  private final ImmutableListMultimap<Symbol, TreePath> references;
+  private final ImmutableListMultimap<Symbol, TreePath> writes;
+
+  private SymbolReferences(
+      ImmutableMap<Symbol, TreePath> declarations,
+      ImmutableListMultimap<Symbol, TreePath> references,
+      ImmutableListMultimap<Symbol, TreePath> writes) {
+    this.declarations = declarations;
+    this.references = references;
+    this.writes = writes;
+  }
+
+  /**
+   * Returns the path to the declaration of {@code symbol}, if it is declared in this compilation
+   * unit.
+   */
+  public Optional<TreePath> declaration(Symbol symbol) {
+    return Optional.ofNullable(declarations.get(symbol));
+  }
+
+  /** Returns the paths to all references to {@code symbol}, in source order. */
+  public ImmutableList<TreePath> references(Symbol symbol) {
+    return references.get(symbol);
+  }
+
+  /**
+   * Returns the paths to the references to {@code symbol} that are the target of an assignment,
+   * compound assignment, or increment or decrement, in source order.
+   */
+  public ImmutableList<TreePath> writes(Symbol symbol) {
+    return writes.get(symbol);
+  }
+
+  /** Returns the symbols declared in this compilation unit. */
+  public ImmutableSet<Symbol> declaredSymbols() {
+    return declarations.keySet();
+  }
+
+  /** Returns the symbols referenced in this compilation unit. */
+  public ImmutableSet<Symbol> referencedSymbols() {
+    return references.keySet();
+  }
+
+  private static SymbolReferences build(CompilationUnitTree compilationUnit) {
+    ImmutableMap.Builder<Symbol, TreePath> declarations = ImmutableMap.builder();
+    ImmutableListMultimap.Builder<Symbol, TreePath> references = ImmutableListMultimap.builder();
+    ImmutableListMultimap.Builder<Symbol, TreePath> writes = ImmutableListMultimap.builder();
+    new TreePathScanner<Void, Void>() {
+      @Override
+      public Void visitClass(ClassTree tree, Void unused) {
+        declaration(tree);
+        return super.visitClass(tree, null);
+      }
+
+      @Override
+      public Void visitMethod(MethodTree tree, Void unused) {
+        declaration(tree);
+        return super.visitMethod(tree, null);
+      }
+
+      @Override
+      public Void visitVariable(VariableTree tree, Void unused) {
+        declaration(tree);
+        return super.visitVariable(tree, null);
+      }
+
+      @Override
+      public Void visitTypeParameter(TypeParameterTree tree, Void unused) {
+        declaration(tree);
+        return super.visitTypeParameter(tree, null);
+      }
+
+      @Override
+      public Void visitIdentifier(IdentifierTree tree, Void unused) {
+        reference(tree);
+        return super.visitIdentifier(tree, null);
+      }
+
+      @Override
+      public Void visitMemberSelect(MemberSelectTree tree, Void unused) {
+        reference(tree);
+        return super.visitMemberSelect(tree, null);
+      }
+
+      @Override
+      public Void visitMemberReference(MemberReferenceTree tree, Void unused) {
+        reference(tree);
+        return super.visitMemberReference(tree, null);
+      }
+
+      @Override
+      public Void visitNewClass(NewClassTree tree, Void unused) {
+        reference(tree);
+        return super.visitNewClass(tree, null);
+      }
+
+      private void declaration(Tree tree) {
+        Symbol symbol = getSymbol(tree);
+        if (symbol != null) {
+          declarations.put(symbol, getCurrentPath());
+        }
+      }
+
+      private void reference(Tree tree) {
+        Symbol symbol = getSymbol(tree);
+        if (symbol == null) {
+          return;
+        }
+        references.put(symbol, getCurrentPath());
+        if (isWrite(getCurrentPath())) {
+          writes.put(symbol, getCurrentPath());
+        }
+      }
+    }.scan(compilationUnit, null);
+    return new SymbolReferences(
+        declarations.buildKeepingLast(), references.build(), writes.build());
+  }
+
+  private static boolean isWrite(TreePath path) {
+    Tree tree = path.getLeaf();
+    return switch (path.getParentPath().getLeaf()) {
+      case AssignmentTree assignment -> assignment.getVariable() == tree;
+      case CompoundAssignmentTree assignment -> assignment.getVariable() == tree;
+      case UnaryTree unary ->
+          switch (unary.getKind()) {
+            case PREFIX_INCREMENT, PREFIX_DECREMENT, POSTFIX_INCREMENT, POSTFIX_DECREMENT -> true;
+            default -> false;
+          };
+      default -> false;
+    };
+  }
+}
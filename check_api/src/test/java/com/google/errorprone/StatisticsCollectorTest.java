@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.google.errorprone.StatisticsCollector.Counter;
+import com.google.errorprone.StatisticsCollector.Histogram;
+import com.google.errorprone.StatisticsCollector.HistogramSnapshot;
+import com.google.errorprone.StatisticsCollector.Snapshot;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class StatisticsCollectorTest {
+
+  @Test
+  public void typedCounters() {
+    Counter counter = Counter.named("StatisticsCollectorTest-typed");
+    assertThat(Counter.named("StatisticsCollectorTest-typed")).isSameInstanceAs(counter);
+
+    StatisticsCollector collector = StatisticsCollector.createCollector();
+    collector.incrementCounter(counter, 2);
+    collector.incrementCounter(counter.suppressed(), 1);
+    collector.incrementCounter("StatisticsCollectorTest-typed", 3);
+    collector.incrementCounter("StatisticsCollectorTest-string");
+
+    assertThat(collector.counters())
+        .isEqualTo(
+            ImmutableMultiset.builder()
+                .addCopies("StatisticsCollectorTest-typed", 5)
+                .add("StatisticsCollectorTest-typed-suppressed")
+                .add("StatisticsCollectorTest-string")
+                .build());
+    assertThat(collector.snapshot().counters())
+        .containsExactly(
+            "StatisticsCollectorTest-string", 1L,
+            "StatisticsCollectorTest-typed", 5L,
+            "StatisticsCollectorTest-typed-suppressed", 1L);
+  }
+
+  @Test
+  public void histograms() {
+    Histogram histogram = Histogram.named("StatisticsCollectorTest-histogram");
+    StatisticsCollector collector = StatisticsCollector.createCollector();
+    for (long value : new long[] {0, 1, 2, 3, 4, 1000}) {
+      collector.recordValue(histogram, value);
+    }
+
+    HistogramSnapshot snapshot =
+        collector.snapshot().histograms().get("StatisticsCollectorTest-histogram");
+    assertThat(snapshot.count()).isEqualTo(6);
+    assertThat(snapshot.sum()).isEqualTo(1010);
+    assertThat(snapshot.min()).isEqualTo(0);
+    assertThat(snapshot.max()).isEqualTo(1000);
+    assertThat(snapshot.buckets().subList(0, 4)).containsExactly(1L, 1L, 2L, 1L).inOrder();
+    assertThat(snapshot.buckets().get(10)).isEqualTo(1);
+  }
+
+  @Test
+  public void mergeAndJson() {
+    Counter counter = Counter.named("a");
+    Histogram histogram = Histogram.named("h");
+    StatisticsCollector first = StatisticsCollector.createCollector();
+    first.incrementCounter(counter, 1);
+    first.recordValue(histogram, 1);
+    StatisticsCollector second = StatisticsCollector.createCollector();
+    second.incrementCounter(counter, 2);
+    second.incrementCounter("b\"", 1);
+    second.recordValue(histogram, 5);
+
+    Snapshot merged = Snapshot.EMPTY.plus(first.snapshot()).plus(second.snapshot());
+
+    assertThat(merged.toJson())
+        .isEqualTo(
+            "{\"counters\":{\"a\":3,\"b\\\"\":1},"
+                + "\"histograms\":{\"h\":{\"count\":2,\"sum\":6,\"min\":1,\"max\":5,"
+                + "\"buckets\":{\"1\":1,\"4\":1}}}}");
+  }
+
+  @Test
+  public void noOpCollector() {
+    StatisticsCollector collector = StatisticsCollector.createNoOpCollector();
+    collector.incrementCounter(Counter.named("a"), 1);
+    collector.recordValue(Histogram.named("h"), 1);
+
+    assertThat(collector.snapshot()).isEqualTo(Snapshot.EMPTY);
+  }
+}
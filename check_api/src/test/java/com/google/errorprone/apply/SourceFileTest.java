@@ -18,6 +18,8 @@ package com.google.errorprone.apply;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.fixes.Replacements;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
@@ -78,6 +80,33 @@ public class SourceFileTest {
         .isEqualTo("// Sasquatch ipsum dolor sit amet, consectetur adipisicing elit, sed do");
   }
 
+  @Test
+  public void replaceChars_multiple() {
+    CharSequence view = sourceFile.getAsSequence();
+    sourceFile.replaceChars(3, 8, "Sasquatch");
+    sourceFile.replaceChars(0, 2, "/*");
+    sourceFile.replaceChars(12, 12, ",");
+    sourceFile.replaceChars(view.length(), view.length(), "// end\n");
+    assertThat(view.toString())
+        .isEqualTo(
+            "/* Sasquatch, ipsum"
+                + SOURCE_TEXT.substring("// Lorem ipsum".length())
+                + "// end\n");
+  }
+
+  @Test
+  public void makeReplacements() {
+    Replacements replacements = new Replacements();
+    replacements.add(Replacement.create(3, 8, "Sasquatch"));
+    replacements.add(Replacement.create(0, 0, "/**/"));
+    replacements.add(Replacement.create(SOURCE_TEXT.length() - 1, SOURCE_TEXT.length(), ""));
+    sourceFile.makeReplacements(replacements);
+    assertThat(sourceFile.getSourceText())
+        .isEqualTo(
+            "/**/"
+                + SOURCE_TEXT.replace("Lorem", "Sasquatch").substring(0, SOURCE_TEXT.length() + 3));
+  }
+
   @Test
   public void replaceLines() {
     sourceFile.replaceLines(Arrays.asList("Line1", "Line2"));
@@ -47,6 +47,32 @@ public class AccessPathStoreTest {
     assertThat(newStore().heap()).isEmpty();
   }
 
+  @Test
+  public void leastUpperBound() {
+    AccessPath path1 = new AccessPath(null, ImmutableList.of("foo"));
+    AccessPath path2 = new AccessPath(null, ImmutableList.of("bar"));
+    AccessPath path3 = new AccessPath(null, ImmutableList.of("baz"));
+    AccessPathStore<Nullness> base =
+        newStore()
+            .toBuilder()
+            .setInformation(path1, Nullness.NONNULL)
+            .setInformation(path2, Nullness.NONNULL)
+            .build();
+    AccessPathStore<Nullness> other =
+        base.toBuilder()
+            .setInformation(path2, Nullness.NULL)
+            .setInformation(path3, Nullness.NULL)
+            .build();
+
+    AccessPathStore<Nullness> lub = base.leastUpperBound(other);
+
+    assertThat(lub).isEqualTo(other.leastUpperBound(base));
+    assertThat(lub.heap()).containsExactly(path1, Nullness.NONNULL, path2, Nullness.NULLABLE);
+    assertThat(base.leastUpperBound(base)).isSameInstanceAs(base);
+    // Deriving a store doesn't change the one it was derived from.
+    assertThat(base.heap()).containsExactly(path1, Nullness.NONNULL, path2, Nullness.NONNULL);
+  }
+
   private static AccessPathStore<Nullness> newStore() {
     return AccessPathStore.empty();
   }
@@ -124,4 +124,28 @@ public class AppliedFixTest {
     assertThrows(
         StringIndexOutOfBoundsException.class, () -> AppliedFix.apply("Hello", endPositions, fix));
   }
+
+  @Test
+  public void shouldOnlyReportFirstEditedLineWithLineMap() {
+    String source =
+        """
+        class Foo {
+          int a = 1; int b = 2;
+          int c = 3;
+        }
+        """;
+    SuggestedFix fix =
+        SuggestedFix.builder()
+            .replace(source.indexOf("a ="), source.indexOf("a =") + 1, "x")
+            .replace(source.indexOf("b ="), source.indexOf("b =") + 1, "y\n  // split")
+            .replace(source.indexOf("c ="), source.indexOf("c =") + 1, "z")
+            .build();
+    Position.LineMap lineMap = Position.makeLineMap(source.toCharArray(), source.length(), false);
+
+    AppliedFix withLineMap = AppliedFix.apply(source, lineMap, endPositions, fix);
+    AppliedFix withoutLineMap = AppliedFix.apply(source, endPositions, fix);
+
+    assertThat(withLineMap.snippet()).isEqualTo("int x = 1; int y");
+    assertThat(withoutLineMap).isEqualTo(withLineMap);
+  }
 }
@@ -24,6 +24,8 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.fixes.ErrorPronePosition;
 import com.google.errorprone.fixes.FixedPosition;
+import com.google.errorprone.fixes.SuggestedFix;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -98,4 +100,52 @@ public class DescriptionTest {
             .build();
     assertThat(description.getMessage()).contains("https://foo");
   }
+
+  @Test
+  public void lazyFix() {
+    AtomicInteger computed = new AtomicInteger();
+    SuggestedFix eager = SuggestedFix.replace(0, 1, "eager");
+    SuggestedFix lazy = SuggestedFix.replace(0, 1, "lazy");
+    Description description =
+        new MyChecker()
+            .buildDescription(POSITION)
+            .addFix(eager)
+            .addLazyFix(
+                () -> {
+                  computed.incrementAndGet();
+                  return lazy;
+                })
+            .addLazyFix(SuggestedFix::emptyFix)
+            .build();
+    assertThat(description.eagerFixes()).containsExactly(eager);
+    assertThat(computed.get()).isEqualTo(0);
+
+    Description overridden = description.applySeverityOverride(ERROR);
+    assertThat(description.fixes()).containsExactly(eager, lazy).inOrder();
+    assertThat(overridden.fixes()).containsExactly(eager, lazy).inOrder();
+    assertThat(computed.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void firstFix_computesLazyFixesUntilNonEmpty() {
+    AtomicInteger computed = new AtomicInteger();
+    SuggestedFix lazy = SuggestedFix.replace(0, 1, "lazy");
+    Description description =
+        new MyChecker()
+            .buildDescription(POSITION)
+            .addLazyFix(SuggestedFix::emptyFix)
+            .addLazyFix(
+                () -> {
+                  computed.incrementAndGet();
+                  return lazy;
+                })
+            .addLazyFix(
+                () -> {
+                  throw new AssertionError("computed a fix after the first");
+                })
+            .build();
+    assertThat(description.firstFix()).hasValue(lazy);
+    assertThat(description.firstFix()).hasValue(lazy);
+    assertThat(computed.get()).isEqualTo(1);
+  }
 }
@@ -418,6 +418,77 @@ public class ASTHelpersTest extends CompilerBasedAbstractTest {
     assertCompiles(scanner);
   }
 
+  @Test
+  public void annotationKey() {
+    writeFile(
+        "test/Annotations.java",
+        """
+        package test;
+        import java.lang.annotation.Inherited;
+        public class Annotations {
+          @Inherited
+          public @interface InheritedAnnotation {}
+          public @interface NotInheritedAnnotation {}
+        }
+        """);
+    writeFile(
+        "test/B.java",
+        """
+        package test;
+        @Annotations.InheritedAnnotation
+        @Annotations.NotInheritedAnnotation
+        public class B {}
+        """);
+    writeFile("test/C.java", "package test; public class C extends B {}");
+
+    AnnotationKey inherited = AnnotationKey.of("test.Annotations$InheritedAnnotation");
+    AnnotationKey notInherited = AnnotationKey.of("test.Annotations$NotInheritedAnnotation");
+    TestScanner scanner =
+        new TestScanner() {
+          @Override
+          public Void visitClass(ClassTree tree, VisitorState state) {
+            if (tree.getSimpleName().contentEquals("B")) {
+              assertThat(hasAnnotation(tree, inherited, state)).isTrue();
+              assertThat(hasAnnotation(tree, notInherited, state)).isTrue();
+            }
+            if (tree.getSimpleName().contentEquals("C")) {
+              assertThat(hasAnnotation(tree, inherited, state)).isTrue();
+              assertThat(hasAnnotation(tree, notInherited, state)).isFalse();
+              assertThat(hasAnnotation(tree, "test.Annotations$InheritedAnnotation", state))
+                  .isTrue();
+              setAssertionsComplete();
+            }
+            return super.visitClass(tree, state);
+          }
+        };
+    tests.add(scanner);
+    assertCompiles(scanner);
+  }
+
+  @Test
+  public void annotationKey_resolvedPerCompilation() {
+    AnnotationKey deprecated = AnnotationKey.of("java.lang.Deprecated");
+    for (String first : new String[] {"java.lang.FunctionalInterface", "java.lang.Deprecated"}) {
+      writeFile("A.java", "@Deprecated", "public class A {}");
+      TestScanner scanner =
+          new TestScanner() {
+            @Override
+            public Void visitClass(ClassTree tree, VisitorState state) {
+              // Resolving a different annotation first in one of the compilations gives the key a
+              // different ID in each of them.
+              assertThat(hasAnnotation(getSymbol(tree), first, state))
+                  .isEqualTo(first.equals("java.lang.Deprecated"));
+              assertThat(hasAnnotation(tree, deprecated, state)).isTrue();
+              setAssertionsComplete();
+              return super.visitClass(tree, state);
+            }
+          };
+      tests.add(scanner);
+      assertCompiles(scanner);
+      clearSourceFiles();
+    }
+  }
+
   // verify that hasAnnotation(Symbol, String, VisitorState) uses binary names for inner classes
   @Test
   public void innerAnnotationType() {
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.util.ASTHelpers.getSymbol;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.EffectSummaries.Effect;
+import com.sun.source.tree.MethodInvocationTree;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link EffectSummaries}. */
+@RunWith(JUnit4.class)
+public class EffectSummariesTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** A {@link BugChecker} that prints the effects of invoked methods. */
+  @BugPattern(severity = SeverityLevel.ERROR, summary = "Prints effect summaries")
+  public static class PrintEffects extends BugChecker implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      ImmutableSet<Effect> effects =
+          EffectSummaries.instance(state).effects(getSymbol(tree), state.getTypes());
+      return effects.isEmpty()
+          ? Description.NO_MATCH
+          : buildDescription(tree).setMessage("effects: " + effects).build();
+    }
+  }
+
+  @Test
+  public void lookup() throws Exception {
+    Path file = temporaryFolder.newFile().toPath();
+    Files.writeString(
+        file,
+        """
+        # Comments and blank lines are ignored.
+
+        java.lang.Math#abs(int) ALLOCATION_FREE
+        java.lang.String#valueOf(char[]) CAN_IGNORE_RESULT
+        java.lang.System#getProperty(java.lang.String) ALLOCATION_FREE,CAN_IGNORE_RESULT
+        """,
+        UTF_8);
+    CompilationTestHelper.newInstance(PrintEffects.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              void f(char[] chars) {
+                // BUG: Diagnostic contains: effects: [ALLOCATION_FREE]
+                Math.abs(1);
+                Math.abs(1L);
+                // BUG: Diagnostic contains: effects: [CAN_IGNORE_RESULT]
+                String.valueOf(chars);
+                // BUG: Diagnostic contains: effects: [ALLOCATION_FREE, CAN_IGNORE_RESULT]
+                System.getProperty("x");
+              }
+            }
+            """)
+        .setArgs("-XepOpt:EffectSummaries=" + file)
+        .doTest();
+  }
+
+  @Test
+  public void write() throws Exception {
+    StringWriter writer = new StringWriter();
+    EffectSummaries.write(
+        ImmutableMap.of(
+            "com.example.Foo#bar(int)",
+            ImmutableSet.of(Effect.ALLOCATION_FREE, Effect.CAN_IGNORE_RESULT),
+            "com.example.Foo#baz()",
+            ImmutableSet.of(),
+            "com.example.Foo$Bar#baz(java.lang.String[])",
+            ImmutableSet.of(Effect.CAN_IGNORE_RESULT)),
+        writer);
+    assertThat(writer.toString())
+        .isEqualTo(
+            """
+            com.example.Foo#bar(int) ALLOCATION_FREE,CAN_IGNORE_RESULT
+            com.example.Foo$Bar#baz(java.lang.String[]) CAN_IGNORE_RESULT
+            """);
+  }
+}
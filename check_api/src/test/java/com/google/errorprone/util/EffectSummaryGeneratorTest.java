@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.sun.tools.javac.api.JavacTool;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link EffectSummaryGenerator}. */
+@RunWith(JUnit4.class)
+public class EffectSummaryGeneratorTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void allocationFree() throws Exception {
+    Path jar =
+        compile(
+            "p/Lib.java",
+            """
+            package p;
+
+            import com.google.errorprone.annotations.NoAllocation;
+            import java.util.List;
+
+            public class Lib {
+              public static int add(int a, int b) {
+                return a + b;
+              }
+
+              public static int twice(int a) {
+                return add(a, a);
+              }
+
+              public static int countDown(int a) {
+                return a <= 0 ? 0 : countDown(a - 1);
+              }
+
+              public static int sum(int[][] xs, List<String>[] unused) {
+                int sum = 0;
+                for (int[] x : xs) {
+                  for (int y : x) {
+                    sum += y;
+                  }
+                }
+                return sum;
+              }
+
+              public static String concat(String s) {
+                return s + "x";
+              }
+
+              public static int[] array(int n) {
+                return new int[n];
+              }
+
+              public static Object box(int n) {
+                return n;
+              }
+
+              public static int callsOutsideJar(String s) {
+                return s.length();
+              }
+
+              @NoAllocation
+              public static int annotatedButAllocates() {
+                return new int[1].length;
+              }
+
+              public int overridable() {
+                return 1;
+              }
+
+              public int callsOverridable() {
+                return overridable();
+              }
+
+              public final int notOverridable() {
+                return 1;
+              }
+
+              public int callsNotOverridable() {
+                return notOverridable();
+              }
+
+              private static int privateHelper() {
+                return 1;
+              }
+
+              public static int callsPrivateHelper() {
+                return privateHelper();
+              }
+
+              static int notApi() {
+                return 1;
+              }
+            }
+            """);
+
+    assertThat(EffectSummaryGenerator.summarize(jar).keySet())
+        .containsExactly(
+            "p.Lib#add(int,int)",
+            "p.Lib#twice(int)",
+            "p.Lib#countDown(int)",
+            "p.Lib#sum(int[][],java.util.List[])",
+            "p.Lib#overridable()",
+            "p.Lib#notOverridable()",
+            "p.Lib#callsNotOverridable()",
+            "p.Lib#callsPrivateHelper()");
+  }
+
+  @Test
+  public void nestedClasses() throws Exception {
+    Path jar =
+        compile(
+            "p/Outer.java",
+            """
+            package p;
+
+            public class Outer {
+              public abstract static class Base {
+                public abstract int f();
+
+                public int g() {
+                  return 1;
+                }
+              }
+
+              public static final class Impl extends Base {
+                @Override
+                public int f() {
+                  return g();
+                }
+              }
+
+              private static class Hidden {
+                public static int h() {
+                  return 1;
+                }
+              }
+            }
+            """);
+
+    assertThat(EffectSummaryGenerator.summarize(jar).keySet())
+        .containsExactly("p.Outer$Base#g()", "p.Outer$Impl#f()");
+  }
+
+  private Path compile(String fileName, String source) throws Exception {
+    Path sources = temporaryFolder.newFolder().toPath();
+    Path classes = temporaryFolder.newFolder().toPath();
+    Path sourceFile = sources.resolve(fileName);
+    Files.createDirectories(sourceFile.getParent());
+    Files.writeString(sourceFile, source, UTF_8);
+    JavacTool tool = JavacTool.create();
+    try (StandardJavaFileManager fileManager = tool.getStandardFileManager(null, null, UTF_8)) {
+      Iterable<? extends JavaFileObject> compilationUnits =
+          fileManager.getJavaFileObjects(sourceFile.toFile());
+      assertThat(
+              tool.getTask(
+                      null,
+                      fileManager,
+                      null,
+                      ImmutableList.of(
+                          "-d",
+                          classes.toString(),
+                          "-classpath",
+                          System.getProperty("java.class.path")),
+                      null,
+                      compilationUnits)
+                  .call())
+          .isTrue();
+    }
+    Path jar = temporaryFolder.newFile("lib.jar").toPath();
+    List<Path> classFiles;
+    try (Stream<Path> paths = Files.walk(classes)) {
+      classFiles = paths.filter(Files::isRegularFile).toList();
+    }
+    try (OutputStream out = Files.newOutputStream(jar);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (Path classFile : classFiles) {
+        jarOut.putNextEntry(new JarEntry(classes.relativize(classFile).toString()));
+        jarOut.write(Files.readAllBytes(classFile));
+        jarOut.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -158,6 +158,30 @@ public class FindIdentifiersTest {
         .doTest();
   }
 
+  @Test
+  public void findAllIdentsRepeatedQueriesInSameScope() {
+    CompilationTestHelper.newInstance(PrintIdents.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              private String f;
+
+              private void doIt(String s1) {
+                // BUG: Diagnostic contains: [s1, f]
+                String.format(s1);
+                String s2 = s1;
+                // BUG: Diagnostic contains: [s2, s1, f]
+                String.format(s2);
+                String s3 = s2;
+                // BUG: Diagnostic contains: [s2, s3, s1, f]
+                String.format(s3);
+              }
+            }
+            """)
+        .doTest();
+  }
+
   @Test
   public void findAllIdentsFields() {
     CompilationTestHelper.newInstance(PrintIdents.class, getClass())
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.errorprone.util.ASTHelpers.getSymbol;
+
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.code.Symbol;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link SymbolReferences}. */
+@RunWith(JUnit4.class)
+public class SymbolReferencesTest {
+
+  /** A {@link BugChecker} that prints the references to each variable. */
+  @BugPattern(severity = SeverityLevel.ERROR, summary = "Prints the references to variables")
+  public static class PrintReferences extends BugChecker implements VariableTreeMatcher {
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      Symbol symbol = getSymbol(tree);
+      SymbolReferences references = SymbolReferences.instance(state);
+      if (!references.declaration(symbol).map(p -> p.getLeaf() == tree).orElse(false)) {
+        return buildDescription(tree).setMessage("missing declaration").build();
+      }
+      return buildDescription(tree)
+          .setMessage(
+              String.format(
+                  "references: %d, writes: %d",
+                  references.references(symbol).size(), references.writes(symbol).size()))
+          .build();
+    }
+  }
+
+  @Test
+  public void referencesAndWrites() {
+    CompilationTestHelper.newInstance(PrintReferences.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: references: 4, writes: 2
+              private int x;
+
+              // BUG: Diagnostic contains: references: 0, writes: 0
+              private int unused;
+
+              void f() {
+                x = 1;
+                x++;
+                // BUG: Diagnostic contains: references: 1, writes: 0
+                int y = x;
+                // BUG: Diagnostic contains: references: 0, writes: 0
+                int z = this.x + y;
+              }
+            }
+            """)
+        .doTest();
+  }
+}
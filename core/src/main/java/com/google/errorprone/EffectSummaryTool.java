@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.errorprone.util.EffectSummaries;
+import com.google.errorprone.util.EffectSummaryGenerator;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Writes an {@link EffectSummaries} file for a library jar using {@link EffectSummaryGenerator}.
+ *
+ * <p>Usage: {@code EffectSummaryTool <output file> <library jar>}.
+ */
+public final class EffectSummaryTool {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: EffectSummaryTool <output file> <library jar>");
+      System.exit(1);
+    }
+    try (Writer writer = Files.newBufferedWriter(Paths.get(args[0]), UTF_8)) {
+      EffectSummaries.write(EffectSummaryGenerator.summarize(Paths.get(args[1])), writer);
+    }
+  }
+
+  private EffectSummaryTool() {}
+}
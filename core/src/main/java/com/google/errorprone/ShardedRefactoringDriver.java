@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.errorprone.ErrorProneOptions.PatchingOptions;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+
+/**
+ * Runs {@code -XepPatchChecks} over a large set of sources by splitting it into shards that are
+ * compiled independently and in parallel.
+ *
+ * <p>Each shard is a separate compilation of a contiguous range of the sorted sources, so shards
+ * must be compilable on their own against the given classpath. The state of every shard is kept
+ * in a work directory: a shard is marked as done once it has compiled successfully, and shards
+ * that are already done are skipped when the driver is run again with the same options and
+ * sources, so an interrupted migration resumes where it stopped.
+ *
+ * <p>When patching to a directory, each shard writes its own patch file, and the patch files of
+ * all shards are merged into {@code error-prone.patch} in that directory, or into the file given by
+ * {@code -XepOpt:PatchFile}, ordered by file path regardless of the order in which the shards
+ * finished. With {@code -XepPatchLocation:IN_PLACE} the shards change the sources directly and
+ * there is nothing to merge.
+ *
+ * <p>A shard that changes its sources in place and fails to compile is run again on its sources as
+ * they are, including any files it already changed before the failure, so the changes of its
+ * checks must not apply twice; this holds for the usual fixes, which remove the finding they fix.
+ * A shard that was interrupted while changing its sources in place, e.g. because the process was
+ * killed, is not run again; the driver fails until the shard's directory in the work directory
+ * is deleted.
+ *
+ * <p>Usage: {@code ShardedRefactoringDriver <work dir> <shards> <threads> <javac and Error Prone
+ * options...> <sources...>}, where the sources are the arguments that end in {@code .java}.
+ */
+public final class ShardedRefactoringDriver {
+
+  private static final String MANIFEST = "manifest";
+  private static final String DONE = "done";
+  private static final String IN_PROGRESS = "in-progress";
+  private static final String SHARD_PATCH = "error-prone.patch";
+  private static final Pattern HUNK_HEADER =
+      Pattern.compile("@@ -\\d+(?:,(\\d+))? \\+\\d+(?:,(\\d+))? @@.*");
+
+  private final ScannerSupplier scannerSupplier;
+  private final Path workDir;
+  private final int shards;
+  private final int threads;
+
+  public ShardedRefactoringDriver(
+      ScannerSupplier scannerSupplier, Path workDir, int shards, int threads) {
+    checkArgument(shards > 0, "shards must be positive: %s", shards);
+    checkArgument(threads > 0, "threads must be positive: %s", threads);
+    this.scannerSupplier = scannerSupplier;
+    this.workDir = workDir;
+    this.shards = shards;
+    this.threads = threads;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 4) {
+      System.err.println(
+          "Usage: ShardedRefactoringDriver <work dir> <shards> <threads> <options...>"
+              + " <sources...>");
+      System.exit(1);
+    }
+    ImmutableList<String> rest = ImmutableList.copyOf(args).subList(3, args.length);
+    ShardedRefactoringDriver driver =
+        new ShardedRefactoringDriver(
+            BuiltInCheckerSuppliers.defaultChecks(),
+            Paths.get(args[0]),
+            Integer.parseInt(args[1]),
+            Integer.parseInt(args[2]));
+    Optional<Path> patchFile =
+        driver.run(
+            rest.stream().filter(a -> !a.endsWith(".java")).collect(toImmutableList()),
+            rest.stream()
+                .filter(a -> a.endsWith(".java"))
+                .map(Paths::get)
+                .collect(toImmutableList()));
+    patchFile.ifPresent(p -> System.err.println("Changes were written to " + p));
+  }
+
+  /**
+   * Runs the shards that aren't done yet, and returns the merged patch file unless the changes
+   * were applied in place.
+   *
+   * @throws ShardFailedException if any shard failed; the shards that succeeded are kept, and are
+   *     skipped by the next run
+   */
+  public Optional<Path> run(List<String> options, List<Path> sources) throws IOException {
+    ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(options);
+    PatchingOptions patchingOptions = errorProneOptions.patchingOptions();
+    checkArgument(
+        patchingOptions.doRefactor(), "-XepPatchChecks and -XepPatchLocation must be given");
+    Optional<Path> patchFile =
+        patchingOptions.inPlace()
+            ? Optional.empty()
+            : Optional.of(
+                RefactoringCollection.patchFile(patchingOptions, errorProneOptions.getFlags()));
+    ImmutableList<Path> sorted =
+        sources.stream()
+            .map(p -> p.toAbsolutePath().normalize())
+            .sorted()
+            .distinct()
+            .collect(toImmutableList());
+    List<List<Path>> partitions =
+        sorted.isEmpty()
+            ? ImmutableList.of()
+            : Lists.partition(sorted, (sorted.size() + shards - 1) / shards);
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("error-prone-shard-%d")
+                .build());
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < partitions.size(); i++) {
+        Path shardDir = shardDir(i);
+        List<Path> shardSources = partitions.get(i);
+        futures.add(
+            executor.submit(
+                () -> {
+                  runShard(shardDir, options, shardSources, patchingOptions.inPlace());
+                  return null;
+                }));
+      }
+      List<String> failures = new ArrayList<>();
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          failures.add(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ShardFailedException("Interrupted while waiting for shards");
+        }
+      }
+      if (!failures.isEmpty()) {
+        throw new ShardFailedException(Joiner.on('\n').join(failures));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (patchFile.isPresent()) {
+      mergePatches(partitions.size(), patchFile.get());
+    }
+    return patchFile;
+  }
+
+  private Path shardDir(int shard) {
+    return workDir.resolve(String.format(Locale.ROOT, "shard-%05d", shard));
+  }
+
+  private void runShard(Path shardDir, List<String> options, List<Path> sources, boolean inPlace)
+      throws IOException {
+    String manifest =
+        Joiner.on('\n').join(options) + "\n\n" + Joiner.on('\n').join(sources) + "\n";
+    Path manifestFile = shardDir.resolve(MANIFEST);
+    Path doneFile = shardDir.resolve(DONE);
+    if (Files.exists(doneFile)
+        && Files.exists(manifestFile)
+        && Files.readString(manifestFile, UTF_8).equals(manifest)) {
+      return;
+    }
+    Path inProgressFile = shardDir.resolve(IN_PROGRESS);
+    if (inPlace && Files.exists(inProgressFile)) {
+      throw new ShardFailedException(
+          "Shard "
+              + shardDir.getFileName()
+              + " was interrupted while changing its sources in place, so some of them may already"
+              + " be refactored. Check them, and delete "
+              + shardDir
+              + " to run the shard again.");
+    }
+    Files.createDirectories(shardDir);
+    Files.deleteIfExists(doneFile);
+    Files.deleteIfExists(shardDir.resolve(SHARD_PATCH));
+    Files.writeString(manifestFile, manifest, UTF_8);
+
+    List<String> shardOptions = new ArrayList<>(options);
+    if (!inPlace) {
+      shardOptions.add(
+          "-XepOpt:"
+              + RefactoringCollection.PATCH_FILE_FLAG
+              + "="
+              + shardDir.toAbsolutePath().resolve(SHARD_PATCH));
+    }
+    StringWriter output = new StringWriter();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8);
+    boolean ok;
+    if (inPlace) {
+      // Only left behind if the process dies while the shard is changing its sources.
+      Files.writeString(inProgressFile, "", UTF_8);
+    }
+    try (fileManager) {
+      ok =
+          new ErrorProneJavaCompiler(scannerSupplier)
+              .getTask(
+                  new PrintWriter(output, true),
+                  fileManager,
+                  diagnostics,
+                  shardOptions,
+                  ImmutableList.of(),
+                  fileManager.getJavaFileObjectsFromPaths(sources))
+              .call();
+    } finally {
+      Files.deleteIfExists(inProgressFile);
+    }
+    if (!ok) {
+      throw new ShardFailedException(
+          "Shard "
+              + shardDir.getFileName()
+              + " failed:\n"
+              + Joiner.on('\n').join(diagnostics.getDiagnostics())
+              + output);
+    }
+    // Mark the shard as done only once its output is complete.
+    Path tmp = Files.createTempFile(shardDir, DONE, ".tmp");
+    Files.move(tmp, doneFile, ATOMIC_MOVE, REPLACE_EXISTING);
+  }
+
+  /**
+   * Merges the patch files of all shards into {@code patchFile}, with the changes to each file in
+   * the order of its path.
+   */
+  private void mergePatches(int shardCount, Path patchFile) throws IOException {
+    Map<String, String> diffsByFile = new TreeMap<>();
+    for (int i = 0; i < shardCount; i++) {
+      Path shardPatch = shardDir(i).resolve(SHARD_PATCH);
+      if (Files.exists(shardPatch)) {
+        addDiffs(shardPatch.toString(), Files.readAllLines(shardPatch, UTF_8), diffsByFile);
+      }
+    }
+    Files.createDirectories(patchFile.getParent());
+    Files.writeString(patchFile, String.join("", diffsByFile.values()), UTF_8);
+  }
+
+  /**
+   * Adds the diff of each file in the given unified diff to {@code diffsByFile}, keyed by the path
+   * in the file's {@code ---} header.
+   *
+   * <p>Each hunk is read by the line counts in its {@code @@} header, so removed and added lines
+   * that look like file headers aren't mistaken for them.
+   *
+   * @throws IOException if the diff is malformed
+   * @throws IllegalStateException if {@code diffsByFile} already has a diff for one of the files,
+   *     i.e. two shards changed the same file
+   */
+  @VisibleForTesting
+  static void addDiffs(String name, List<String> lines, Map<String, String> diffsByFile)
+      throws IOException {
+    int j = 0;
+    while (j < lines.size()) {
+      if (!lines.get(j).startsWith("--- ")
+          || j + 1 == lines.size()
+          || !lines.get(j + 1).startsWith("+++ ")) {
+        throw malformedPatch(name, j);
+      }
+      String file = lines.get(j).substring("--- ".length());
+      StringBuilder diff = new StringBuilder();
+      diff.append(lines.get(j)).append('\n').append(lines.get(j + 1)).append('\n');
+      j += 2;
+      while (j < lines.size() && lines.get(j).startsWith("@@ ")) {
+        Matcher hunkHeader = HUNK_HEADER.matcher(lines.get(j));
+        if (!hunkHeader.matches()) {
+          throw malformedPatch(name, j);
+        }
+        int oldLines = hunkHeader.group(1) == null ? 1 : Integer.parseInt(hunkHeader.group(1));
+        int newLines = hunkHeader.group(2) == null ? 1 : Integer.parseInt(hunkHeader.group(2));
+        diff.append(lines.get(j++)).append('\n');
+        while (oldLines > 0 || newLines > 0) {
+          if (j == lines.size()) {
+            throw malformedPatch(name, j);
+          }
+          String line = lines.get(j);
+          switch (line.isEmpty() ? ' ' : line.charAt(0)) {
+            case ' ' -> {
+              oldLines--;
+              newLines--;
+            }
+            case '-' -> oldLines--;
+            case '+' -> newLines--;
+            case '\\' -> {}
+            default -> throw malformedPatch(name, j);
+          }
+          if (oldLines < 0 || newLines < 0) {
+            throw malformedPatch(name, j);
+          }
+          diff.append(line).append('\n');
+          j++;
+        }
+        // A "\ No newline at end of file" marker can follow the last line of a hunk.
+        while (j < lines.size() && lines.get(j).startsWith("\\")) {
+          diff.append(lines.get(j++)).append('\n');
+        }
+      }
+      if (diffsByFile.putIfAbsent(file, diff.toString()) != null) {
+        throw new IllegalStateException("More than one shard changed " + file);
+      }
+    }
+  }
+
+  private static IOException malformedPatch(String name, int line) {
+    return new IOException(
+        String.format(Locale.ROOT, "Malformed patch %s at line %d", name, line + 1));
+  }
+
+  /** Thrown when a shard could not be compiled. */
+  public static final class ShardFailedException extends RuntimeException {
+    ShardFailedException(String message) {
+      super(message);
+    }
+  }
+}
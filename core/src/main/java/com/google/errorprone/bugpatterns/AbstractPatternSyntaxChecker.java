@@ -21,6 +21,8 @@ import static com.google.errorprone.matchers.Matchers.anyOf;
 import static com.google.errorprone.matchers.Matchers.instanceMethod;
 import static com.google.errorprone.matchers.Matchers.staticMethod;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.annotations.CheckReturnValue;
 import com.google.errorprone.annotations.ForOverride;
@@ -29,6 +31,9 @@ import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.MethodInvocationTree;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /** Finds calls to regex-accepting methods with literal strings. */
 @CheckReturnValue
@@ -71,6 +76,32 @@ public abstract class AbstractPatternSyntaxChecker extends BugChecker
               .named("compile")
               .withParameters("java.lang.String", "int"));
 
+  /*
+   * The same regex literals tend to appear at many call sites, and compiling them again for each
+   * one is wasted work, so the syntax errors are cached by pattern and flags.
+   */
+  private static final Cache<RegexKey, Optional<String>> SYNTAX_ERRORS =
+      Caffeine.newBuilder().maximumSize(10_000).build();
+
+  private record RegexKey(String pattern, int flags) {}
+
+  /**
+   * Returns the message of the {@link PatternSyntaxException} that compiling the pattern with the
+   * given flags throws, or empty if the pattern is valid.
+   */
+  protected static Optional<String> syntaxError(String pattern, int flags) {
+    return SYNTAX_ERRORS.get(
+        new RegexKey(pattern, flags),
+        key -> {
+          try {
+            Pattern.compile(key.pattern(), key.flags());
+            return Optional.empty();
+          } catch (PatternSyntaxException e) {
+            return Optional.of(e.getMessage());
+          }
+        });
+  }
+
   @Override
   public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
     if (getMatcherWithoutFlags().matches(tree, state)) {
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns;
+
+import static com.google.errorprone.util.ASTHelpers.getSymbol;
+import static com.google.errorprone.util.ASTHelpers.getType;
+import static com.google.errorprone.util.ASTHelpers.hasAnnotation;
+import static com.google.errorprone.util.ASTHelpers.isSameType;
+import static com.google.errorprone.util.ASTHelpers.methodCanBeOverridden;
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.annotations.NoAllocation;
+import com.google.errorprone.suppliers.Supplier;
+import com.google.errorprone.util.EffectSummaries;
+import com.google.errorprone.util.EffectSummaries.Effect;
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompoundAssignmentTree;
+import com.sun.source.tree.EnhancedForLoopTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewArrayTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.ThrowTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.Tree.Kind;
+import com.sun.source.tree.TypeCastTree;
+import com.sun.source.tree.UnaryTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.api.JavacTrees;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symbol.VarSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Type.ArrayType;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Infers whether methods allocate, so that {@link NoAllocationChecker} can allow calls to methods
+ * that aren't annotated with {@code @NoAllocation}.
+ *
+ * <p>A method that isn't annotated is allocation-free if it can't be overridden, its body is
+ * available in the current compilation, and its body follows the same rules as the body of a
+ * {@code @NoAllocation} method, where calls to other methods are checked recursively. Methods from
+ * the classpath can be declared allocation-free as {@link Effect#ALLOCATION_FREE} in the {@link
+ * EffectSummaries}.
+ */
+final class AllocationSummaries {
+
+  private static final Supplier<AllocationSummaries> INSTANCE =
+      VisitorState.memoize(state -> new AllocationSummaries());
+
+  static AllocationSummaries instance(VisitorState state) {
+    return INSTANCE.get(state);
+  }
+
+  /**
+   * Why a method may allocate: the chain of calls starting at that method, and the reason the last
+   * method in the chain may allocate.
+   */
+  record Allocation(ImmutableList<MethodSymbol> calls, String reason) {
+    private Allocation prependCall(MethodSymbol method) {
+      return new Allocation(
+          ImmutableList.<MethodSymbol>builder().add(method).addAll(calls).build(), reason);
+    }
+
+    /** Returns a description of the chain, e.g. "a() calls b(), which allocates a new array". */
+    String describe() {
+      String chain = calls.stream().map(AllocationSummaries::describe).collect(joining(" calls "));
+      return calls.size() > 1 ? chain + ", which " + reason : chain + " " + reason;
+    }
+  }
+
+  /** The computed summaries, where an empty result means the method doesn't allocate. */
+  private final Map<MethodSymbol, Optional<Allocation>> summaries = new HashMap<>();
+
+  /** The methods currently being analyzed, and their depth in the analysis stack. */
+  private final Map<MethodSymbol, Integer> inProgress = new LinkedHashMap<>();
+
+  /**
+   * The smallest depth of an in-progress method that the current analysis assumed doesn't
+   * allocate, to break a cycle of calls.
+   */
+  private int assumedDepth = Integer.MAX_VALUE;
+
+  private AllocationSummaries() {}
+
+  /** Returns why calling {@code method} may allocate, or empty if it is known not to. */
+  Optional<Allocation> allocation(MethodSymbol method, VisitorState state) {
+    if (hasAnnotation(method, NoAllocation.class.getName(), state)
+        || EffectSummaries.instance(state).hasEffect(method, Effect.ALLOCATION_FREE, state)) {
+      return Optional.empty();
+    }
+    Optional<Allocation> summary = summaries.get(method);
+    if (summary != null) {
+      return summary;
+    }
+    Integer depth = inProgress.get(method);
+    if (depth != null) {
+      // A recursive call: the method allocates only if the rest of its body does.
+      assumedDepth = Math.min(assumedDepth, depth);
+      return Optional.empty();
+    }
+
+    int myDepth = inProgress.size();
+    int outerAssumedDepth = assumedDepth;
+    assumedDepth = Integer.MAX_VALUE;
+    inProgress.put(method, myDepth);
+    try {
+      summary = analyze(method, state);
+    } finally {
+      inProgress.remove(method);
+    }
+    // A result that relied on a caller further up the stack not allocating can't be reused, since
+    // that caller may turn out to allocate.
+    boolean dependsOnCaller = assumedDepth < myDepth;
+    if (summary.isPresent() || !dependsOnCaller) {
+      summaries.put(method, summary);
+    }
+    assumedDepth = Math.min(outerAssumedDepth, dependsOnCaller ? assumedDepth : Integer.MAX_VALUE);
+    return summary;
+  }
+
+  private Optional<Allocation> analyze(MethodSymbol method, VisitorState state) {
+    if (methodCanBeOverridden(method)) {
+      return Optional.of(
+          new Allocation(
+              ImmutableList.of(method), "can be overridden and is not annotated @NoAllocation"));
+    }
+    JCTree tree = JavacTrees.instance(state.context).getTree(method);
+    if (!(tree instanceof JCMethodDecl methodDecl)
+        || methodDecl.getBody() == null
+        || methodDecl.sym == null) {
+      return Optional.of(
+          new Allocation(ImmutableList.of(method), "is not annotated @NoAllocation"));
+    }
+    BodyScanner scanner = new BodyScanner(method, state);
+    scanner.scan(methodDecl.getBody(), null);
+    return Optional.ofNullable(scanner.allocation);
+  }
+
+  /**
+   * Finds the first construct in a method body that may allocate, following the rules that {@link
+   * NoAllocationChecker} applies to {@code @NoAllocation} methods.
+   */
+  private final class BodyScanner extends TreeScanner<Void, Void> {
+    private final MethodSymbol method;
+    private final VisitorState state;
+    private int lambdaDepth = 0;
+    private @Nullable Allocation allocation;
+
+    private BodyScanner(MethodSymbol method, VisitorState state) {
+      this.method = method;
+      this.state = state;
+    }
+
+    private void allocates(String reason) {
+      allocation = new Allocation(ImmutableList.of(method), reason);
+    }
+
+    @Override
+    public Void scan(Tree tree, Void unused) {
+      if (allocation != null) {
+        return null;
+      }
+      return super.scan(tree, null);
+    }
+
+    @Override
+    public Void visitThrow(ThrowTree tree, Void unused) {
+      // Allocations are allowed within a throw statement.
+      return null;
+    }
+
+    @Override
+    public Void visitAnnotation(AnnotationTree tree, Void unused) {
+      return null;
+    }
+
+    @Override
+    public Void visitClass(ClassTree tree, Void unused) {
+      // The methods of local classes are analyzed separately, if they are called.
+      return null;
+    }
+
+    @Override
+    public Void visitLambdaExpression(LambdaExpressionTree tree, Void unused) {
+      lambdaDepth++;
+      try {
+        return super.visitLambdaExpression(tree, null);
+      } finally {
+        lambdaDepth--;
+      }
+    }
+
+    @Override
+    public Void visitNewClass(NewClassTree tree, Void unused) {
+      allocates("constructs a new object");
+      return null;
+    }
+
+    @Override
+    public Void visitNewArray(NewArrayTree tree, Void unused) {
+      allocates("allocates a new array");
+      return null;
+    }
+
+    @Override
+    public Void visitBinary(BinaryTree tree, Void unused) {
+      if (tree.getKind() == Kind.PLUS && isString(getType(tree))) {
+        allocates("concatenates strings");
+        return null;
+      }
+      return super.visitBinary(tree, null);
+    }
+
+    @Override
+    public Void visitCompoundAssignment(CompoundAssignmentTree tree, Void unused) {
+      if (!isPrimitive(getType(tree.getVariable()))) {
+        allocates("assigns to a String or boxed primitive with a compound assignment");
+        return null;
+      }
+      return super.visitCompoundAssignment(tree, null);
+    }
+
+    @Override
+    public Void visitEnhancedForLoop(EnhancedForLoopTree tree, Void unused) {
+      Type iterated = getType(tree.getExpression());
+      if (!(iterated instanceof ArrayType arrayType)) {
+        allocates("iterates over an Iterable");
+        return null;
+      }
+      if (arrayType.getComponentType().isPrimitive()
+          && !isPrimitive(getType(tree.getVariable()))) {
+        allocates("boxes the elements of a primitive array");
+        return null;
+      }
+      return super.visitEnhancedForLoop(tree, null);
+    }
+
+    @Override
+    public Void visitAssignment(AssignmentTree tree, Void unused) {
+      if (boxes(tree.getExpression(), getType(tree.getVariable()))) {
+        allocates("boxes a primitive value");
+        return null;
+      }
+      return super.visitAssignment(tree, null);
+    }
+
+    @Override
+    public Void visitVariable(VariableTree tree, Void unused) {
+      if (tree.getInitializer() != null && boxes(tree.getInitializer(), getType(tree))) {
+        allocates("boxes a primitive value");
+        return null;
+      }
+      return super.visitVariable(tree, null);
+    }
+
+    @Override
+    public Void visitTypeCast(TypeCastTree tree, Void unused) {
+      if (boxes(tree.getExpression(), getType(tree.getType()))) {
+        allocates("boxes a primitive value");
+        return null;
+      }
+      return super.visitTypeCast(tree, null);
+    }
+
+    @Override
+    public Void visitReturn(ReturnTree tree, Void unused) {
+      if (lambdaDepth == 0
+          && tree.getExpression() != null
+          && boxes(tree.getExpression(), method.getReturnType())) {
+        allocates("boxes a primitive value");
+        return null;
+      }
+      return super.visitReturn(tree, null);
+    }
+
+    @Override
+    public Void visitUnary(UnaryTree tree, Void unused) {
+      switch (tree.getKind()) {
+        case PREFIX_INCREMENT, PREFIX_DECREMENT, POSTFIX_INCREMENT, POSTFIX_DECREMENT -> {
+          if (!isPrimitive(getType(tree))) {
+            allocates("boxes a primitive value");
+            return null;
+          }
+        }
+        default -> {}
+      }
+      return super.visitUnary(tree, null);
+    }
+
+    @Override
+    public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
+      if (boxesArguments(tree, state)) {
+        allocates("boxes an argument");
+        return null;
+      }
+      MethodSymbol callee = getSymbol(tree);
+      Optional<Allocation> calleeAllocation = allocation(callee, state);
+      if (calleeAllocation.isPresent()) {
+        allocation = calleeAllocation.get().prependCall(method);
+        return null;
+      }
+      return super.visitMethodInvocation(tree, null);
+    }
+
+    private boolean boxes(ExpressionTree expression, @Nullable Type target) {
+      return isPrimitive(getType(expression)) && !isPrimitive(target);
+    }
+
+    private boolean isString(@Nullable Type type) {
+      return type != null && isSameType(type, state.getSymtab().stringType, state);
+    }
+  }
+
+  private static boolean isPrimitive(@Nullable Type type) {
+    return type != null && type.isPrimitive();
+  }
+
+  /**
+   * Returns true if invoking the method boxes any of the arguments, including creating the array
+   * for a varargs call.
+   */
+  static boolean boxesArguments(MethodInvocationTree tree, VisitorState state) {
+    List<? extends ExpressionTree> arguments = tree.getArguments();
+    MethodSymbol methodSymbol = getSymbol(tree);
+    List<VarSymbol> params = methodSymbol.getParameters();
+
+    // If there is a length mismatch, this implies varargs boxing.
+    if (arguments.size() != params.size()) {
+      return true;
+    }
+
+    // Check for boxing at each argument.
+    int numArgs = arguments.size();
+    int i = 0;
+    Iterator<? extends ExpressionTree> argument = arguments.iterator();
+    Iterator<VarSymbol> param = params.iterator();
+    while (param.hasNext() && argument.hasNext()) {
+      Type a = getType(argument.next());
+      VarSymbol p = param.next();
+
+      if (a.isPrimitive() && !p.type.isPrimitive()) {
+        // Boxing occurs here.
+        return true;
+      }
+
+      // Check last parameter. If it's a varargs parameter, ensure no boxing by making sure
+      // it's assignable.
+      if (i == numArgs - 1
+          && methodSymbol.isVarArgs()
+          && p.type instanceof ArrayType
+          && !state.getTypes().isAssignable(a, p.type)) {
+        return true;
+      }
+      i++;
+    }
+    return false;
+  }
+
+  private static String describe(MethodSymbol method) {
+    return method.owner.getSimpleName() + "." + method.getSimpleName() + "()";
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns;
+
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.MethodInvocationTree;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/** A BugChecker; see the associated BugPattern for details. */
+@BugPattern(
+    summary =
+        "This regular expression can take exponential time to reject some inputs, because a"
+            + " repeated subexpression can itself match a repetition.",
+    severity = WARNING)
+public class CatastrophicBacktracking extends AbstractPatternSyntaxChecker {
+
+  @Override
+  protected final Description matchRegexLiteral(
+      MethodInvocationTree tree, VisitorState state, String pattern, int flags) {
+    if ((flags & (Pattern.COMMENTS | Pattern.LITERAL)) != 0
+        || syntaxError(pattern, flags).isPresent()) {
+      return NO_MATCH;
+    }
+    return findNestedRepetition(pattern)
+        .map(
+            repetition ->
+                buildDescription(tree)
+                    .setMessage(
+                        String.format(
+                            "The repeated subexpression `%s` can match the same input in"
+                                + " exponentially many ways, so matching can take exponential time"
+                                + " on inputs that don't match. Make the repetitions"
+                                + " unambiguous, or use a possessive quantifier or an atomic"
+                                + " group.",
+                            repetition))
+                    .build())
+        .orElse(NO_MATCH);
+  }
+
+  /**
+   * Returns the first unboundedly repeated subexpression of the pattern that can match a string in
+   * exponentially many ways, e.g. {@code (a+)+} or {@code (\s*\w+)*}.
+   *
+   * <p>The analysis is conservative: it finds a repetition whose body can match an unbounded
+   * repetition of one of its own terms while the rest of the body matches the empty string. Other
+   * sources of ambiguity, such as overlapping alternatives, aren't recognized.
+   */
+  static Optional<String> findNestedRepetition(String pattern) {
+    Parser parser = new Parser(pattern);
+    try {
+      parser.alternation();
+    } catch (UnsupportedPatternException e) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(parser.finding);
+  }
+
+  /** What the analysis needs to know about a subexpression. */
+  private record Term(boolean nullable, boolean zeroWidth, boolean pumpable) {
+    /** A term that matches some non-empty strings, and can't be pumped. */
+    static final Term ATOM = new Term(false, false, false);
+
+    /** A term that only matches the empty string, e.g. an anchor or a lookaround. */
+    static final Term EMPTY = new Term(true, true, false);
+  }
+
+  /** Thrown for patterns using syntax that the parser doesn't follow, e.g. comments mode. */
+  private static final class UnsupportedPatternException extends Exception {
+    UnsupportedPatternException() {
+      super(null, null, false, false);
+    }
+  }
+
+  /**
+   * A recursive descent parser over the syntax of {@link Pattern}, which computes a {@link Term}
+   * for each subexpression. A term is <i>pumpable</i> if it can match an unbounded repetition of
+   * one of its own subexpressions while the rest of it matches the empty string. Repeating a
+   * pumpable term without bound is what makes the number of ways to match a string exponential.
+   */
+  private static final class Parser {
+    private final String pattern;
+    private int pos;
+    private @Nullable String finding;
+
+    Parser(String pattern) {
+      this.pattern = pattern;
+    }
+
+    private boolean atEnd() {
+      return pos >= pattern.length();
+    }
+
+    private char peek() {
+      return pattern.charAt(pos);
+    }
+
+    Term alternation() throws UnsupportedPatternException {
+      Term result = sequence();
+      while (!atEnd() && peek() == '|') {
+        pos++;
+        Term next = sequence();
+        result =
+            new Term(
+                result.nullable() || next.nullable(),
+                result.zeroWidth() && next.zeroWidth(),
+                result.pumpable() || next.pumpable());
+      }
+      return result;
+    }
+
+    private Term sequence() throws UnsupportedPatternException {
+      boolean nullable = true;
+      boolean zeroWidth = true;
+      int pumpable = 0;
+      int nonNullable = 0;
+      boolean pumpableIsNonNullable = false;
+      while (!atEnd() && peek() != '|' && peek() != ')') {
+        Term term = quantified();
+        nullable &= term.nullable();
+        zeroWidth &= term.zeroWidth();
+        if (!term.nullable()) {
+          nonNullable++;
+        }
+        if (term.pumpable()) {
+          pumpable++;
+          pumpableIsNonNullable |= !term.nullable();
+        }
+      }
+      // A sequence can be pumped through one of its terms if all of the others can be empty.
+      boolean result =
+          pumpable > 0 && (nonNullable == 0 || (nonNullable == 1 && pumpableIsNonNullable));
+      return new Term(nullable, zeroWidth, result);
+    }
+
+    private Term quantified() throws UnsupportedPatternException {
+      int start = pos;
+      Term term = atom();
+      while (!atEnd()) {
+        int min;
+        boolean unbounded;
+        switch (peek()) {
+          case '*' -> {
+            min = 0;
+            unbounded = true;
+            pos++;
+          }
+          case '+' -> {
+            min = 1;
+            unbounded = true;
+            pos++;
+          }
+          case '?' -> {
+            min = 0;
+            unbounded = false;
+            pos++;
+          }
+          case '{' -> {
+            int close = pattern.indexOf('}', pos);
+            String bounds = pattern.substring(pos + 1, close);
+            int comma = bounds.indexOf(',');
+            min = Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+            unbounded = comma >= 0 && comma == bounds.length() - 1;
+            pos = close + 1;
+          }
+          default -> {
+            return term;
+          }
+        }
+        boolean possessive = false;
+        if (!atEnd() && (peek() == '?' || peek() == '+')) {
+          possessive = peek() == '+';
+          pos++;
+        }
+        if (unbounded && !possessive && term.pumpable() && finding == null) {
+          finding = pattern.substring(start, pos);
+        }
+        boolean pumpable =
+            !possessive
+                && (term.pumpable() || (unbounded && !term.zeroWidth() && !term.nullable()));
+        term = new Term(min == 0 || term.nullable(), term.zeroWidth(), pumpable);
+      }
+      return term;
+    }
+
+    private Term atom() throws UnsupportedPatternException {
+      char c = pattern.charAt(pos++);
+      switch (c) {
+        case '(' -> {
+          return group();
+        }
+        case '[' -> {
+          characterClass();
+          return Term.ATOM;
+        }
+        case '\\' -> {
+          return escape();
+        }
+        case '^', '$' -> {
+          return Term.EMPTY;
+        }
+        default -> {
+          if (Character.isHighSurrogate(c) && !atEnd() && Character.isLowSurrogate(peek())) {
+            pos++;
+          }
+          return Term.ATOM;
+        }
+      }
+    }
+
+    private Term group() throws UnsupportedPatternException {
+      boolean lookaround = false;
+      boolean atomic = false;
+      if (pattern.startsWith("?", pos)) {
+        pos++;
+        char kind = peek();
+        if (kind == '=' || kind == '!') {
+          lookaround = true;
+          pos++;
+        } else if (kind == '>') {
+          atomic = true;
+          pos++;
+        } else if (kind == '<'
+            && (pattern.startsWith("=", pos + 1) || pattern.startsWith("!", pos + 1))) {
+          lookaround = true;
+          pos += 2;
+        } else if (kind == '<') {
+          pos = pattern.indexOf('>', pos) + 1;
+        } else {
+          // Inline flags, e.g. (?i) or (?i:...).
+          boolean enabled = true;
+          while (peek() != ')' && peek() != ':') {
+            if (peek() == '-') {
+              enabled = false;
+            } else if (enabled && peek() == 'x') {
+              throw new UnsupportedPatternException();
+            }
+            pos++;
+          }
+          if (peek() == ')') {
+            pos++;
+            return Term.EMPTY;
+          }
+          pos++;
+        }
+      }
+      Term term = alternation();
+      pos++; // ')'
+      if (lookaround) {
+        return Term.EMPTY;
+      }
+      if (atomic) {
+        return new Term(term.nullable(), term.zeroWidth(), false);
+      }
+      return term;
+    }
+
+    private void characterClass() {
+      int depth = 1;
+      boolean empty = true;
+      if (peek() == '^') {
+        pos++;
+      }
+      while (depth > 0) {
+        char c = pattern.charAt(pos++);
+        switch (c) {
+          case '\\' -> skipEscapeInClass();
+          case '[' -> {
+            depth++;
+            empty = true;
+            if (peek() == '^') {
+              pos++;
+            }
+            continue;
+          }
+          case ']' -> {
+            // A ']' at the start of a class is a literal.
+            if (!empty) {
+              depth--;
+            }
+          }
+          default -> {}
+        }
+        empty = false;
+      }
+    }
+
+    private void skipEscapeInClass() {
+      char c = pattern.charAt(pos++);
+      switch (c) {
+        case 'Q' -> skipQuoted();
+        case 'p', 'P', 'x', 'N' -> skipBraces();
+        default -> {}
+      }
+    }
+
+    private Term escape() {
+      char c = pattern.charAt(pos++);
+      switch (c) {
+        case 'b' -> {
+          skipBraces();
+          return Term.EMPTY;
+        }
+        case 'B', 'A', 'z', 'Z', 'G' -> {
+          return Term.EMPTY;
+        }
+        case 'Q' -> {
+          int start = pos;
+          skipQuoted();
+          return pattern.startsWith("\\E", start) || start == pattern.length()
+              ? Term.EMPTY
+              : Term.ATOM;
+        }
+        case 'p', 'P', 'x', 'N' -> {
+          skipBraces();
+          return Term.ATOM;
+        }
+        case 'k' -> {
+          pos = pattern.indexOf('>', pos) + 1;
+          return Term.ATOM;
+        }
+        case 'c' -> {
+          pos++;
+          return Term.ATOM;
+        }
+        default -> {
+          if (c >= '1' && c <= '9') {
+            // A back reference: Pattern consumes as many digits as name an existing group, and
+            // any others are literals, which is the same as far as the analysis is concerned.
+            while (!atEnd() && Character.isDigit(peek())) {
+              pos++;
+            }
+          }
+          return Term.ATOM;
+        }
+      }
+    }
+
+    private void skipBraces() {
+      if (!atEnd() && peek() == '{') {
+        pos = pattern.indexOf('}', pos) + 1;
+      }
+    }
+
+    private void skipQuoted() {
+      int end = pattern.indexOf("\\E", pos);
+      pos = end < 0 ? pattern.length() : end + 2;
+    }
+  }
+}
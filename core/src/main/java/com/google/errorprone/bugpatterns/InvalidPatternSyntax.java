@@ -23,8 +23,6 @@ import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.matchers.Description;
 import com.sun.source.tree.MethodInvocationTree;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * @author mdempsky@google.com (Matthew Dempsky)
@@ -37,11 +35,8 @@ public class InvalidPatternSyntax extends AbstractPatternSyntaxChecker {
   @Override
   protected final Description matchRegexLiteral(
       MethodInvocationTree tree, VisitorState state, String pattern, int flags) {
-    try {
-      Pattern.compile(pattern, flags);
-      return NO_MATCH;
-    } catch (PatternSyntaxException e) {
-      return buildDescription(tree).setMessage(MESSAGE_BASE + e.getMessage()).build();
-    }
+    return syntaxError(pattern, flags)
+        .map(message -> buildDescription(tree).setMessage(MESSAGE_BASE + message).build())
+        .orElse(NO_MATCH);
   }
 }
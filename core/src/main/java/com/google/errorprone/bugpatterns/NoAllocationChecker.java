@@ -97,13 +97,8 @@ import com.sun.source.tree.UnaryTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
-import com.sun.tools.javac.code.Symbol.VarSymbol;
-import com.sun.tools.javac.code.Type.ArrayType;
-import com.sun.tools.javac.tree.JCTree.JCExpression;
-import com.sun.tools.javac.tree.JCTree.JCMethodInvocation;
 import java.util.EnumSet;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Checks methods annotated with {@code @NoAllocation} to ensure they really do not allocate.
@@ -111,7 +106,10 @@ import java.util.List;
  * <ol>
  *   <li>Calls to new are disallowed.
  *   <li>Methods statically determined to be reachable from this method must also be annotated with
- *       {@code @NoAllocation}.
+ *       {@code @NoAllocation}, unless they can't be overridden and their bodies (and the bodies of
+ *       the methods they call) are found not to allocate. Methods from the classpath can be marked
+ *       as not allocating with {@code ALLOCATION_FREE} in the {@link
+ *       com.google.errorprone.util.EffectSummaries EffectSummaries}.
  *   <li>Autoboxing is disallowed.
  *   <li>String concatenation and conversions are disallowed.
  *   <li>To make it easier to use exceptions, allocations are always allowed within a throw
@@ -290,45 +288,7 @@ public class NoAllocationChecker extends BugChecker
           return false;
         }
 
-        // Get the arguments.
-        JCMethodInvocation methodInvocation = (JCMethodInvocation) tree;
-        List<JCExpression> arguments = methodInvocation.getArguments();
-
-        // Get the parameters.
-        MethodSymbol methodSymbol = ASTHelpers.getSymbol(tree);
-        List<VarSymbol> params = methodSymbol.getParameters();
-
-        // If there is a length mismatch, this implies varargs boxing.
-        if (arguments.size() != params.size()) {
-          return true;
-        }
-
-        // Check for boxing at each argument.
-        int numArgs = arguments.size();
-        int i = 0;
-        Iterator<JCExpression> argument = arguments.iterator();
-        Iterator<VarSymbol> param = params.iterator();
-        while (param.hasNext() && argument.hasNext()) {
-          JCExpression a = argument.next();
-          VarSymbol p = param.next();
-
-          if (a.type.isPrimitive() && !p.type.isPrimitive()) {
-            // Boxing occurs here.
-            return true;
-          }
-
-          // Check last parameter. If it's a varargs parameter, ensure no boxing by making sure
-          // it's assignable.
-          if (i == numArgs - 1
-              && methodSymbol.isVarArgs()
-              && p.type instanceof ArrayType
-              && !state.getTypes().isAssignable(a.type, p.type)) {
-            return true;
-          }
-          i++;
-        }
-
-        return false;
+        return AllocationSummaries.boxesArguments(tree, state);
       };
 
   /** Matches boxing by unary operator. */
@@ -368,15 +328,28 @@ public class NoAllocationChecker extends BugChecker
 
   @Override
   public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
-    if (!methodMatcher.matches(tree, state) && !boxingInvocation.matches(tree, state)) {
+    if (boxingInvocation.matches(tree, state)) {
+      return buildDescription(tree)
+          .setMessage(
+              "Calling a varargs method without exactly matching the signature, or passing a"
+                  + " primitive value as non-primitive method argument "
+                  + COMMON_MESSAGE_SUFFIX)
+          .build();
+    }
+    if (!methodMatcher.matches(tree, state)) {
+      return NO_MATCH;
+    }
+    Optional<AllocationSummaries.Allocation> allocation =
+        AllocationSummaries.instance(state).allocation(ASTHelpers.getSymbol(tree), state);
+    if (allocation.isEmpty()) {
       return NO_MATCH;
     }
     return buildDescription(tree)
         .setMessage(
-            "Calling a method that is not annotated with @NoAllocation, calling a varargs"
-                + " method without exactly matching the signature, or passing a primitive value as"
-                + " non-primitive method argument "
-                + COMMON_MESSAGE_SUFFIX)
+            "Calling a method that is not annotated with @NoAllocation and may allocate "
+                + COMMON_MESSAGE_SUFFIX
+                + ": "
+                + allocation.get().describe())
         .build();
   }
 
@@ -31,14 +31,14 @@ import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.util.ASTHelpers;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.google.errorprone.util.ErrorProneComment;
 import com.google.errorprone.util.ErrorProneToken;
-import com.google.errorprone.util.ErrorProneTokens;
 import com.sun.source.tree.AnnotationTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.LineMap;
@@ -58,7 +58,7 @@ import com.sun.source.tree.Tree;
     tags = BugPattern.StandardTags.STYLE,
     severity = WARNING)
 public final class SuppressWarningsWithoutExplanation extends BugChecker
-    implements CompilationUnitTreeMatcher {
+    implements CompilationUnitTokensMatcher {
   private static final Matcher<AnnotationTree> SUPPRESS_WARNINGS =
       allOf(
           isSameType(SuppressWarnings.class),
@@ -80,11 +80,12 @@ public final class SuppressWarningsWithoutExplanation extends BugChecker
   }
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public Description matchCompilationUnitTokens(
+      CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
     if (!ASTHelpers.getGeneratedBy(state).isEmpty()) {
       return NO_MATCH;
     }
-    ImmutableRangeSet<Long> linesWithComments = linesWithComments(state);
+    ImmutableRangeSet<Long> linesWithComments = linesWithComments(tokens);
     new SuppressibleTreePathScanner<Void, Void>(state) {
       @Override
       public Void visitAnnotation(AnnotationTree annotationTree, Void unused) {
@@ -113,11 +114,10 @@ public final class SuppressWarningsWithoutExplanation extends BugChecker
     return NO_MATCH;
   }
 
-  private static ImmutableRangeSet<Long> linesWithComments(VisitorState state) {
+  private static ImmutableRangeSet<Long> linesWithComments(CompilationUnitTokens tokens) {
     RangeSet<Long> lines = TreeRangeSet.create();
-    ErrorProneTokens tokens = new ErrorProneTokens(state.getSourceCode().toString(), state.context);
-    LineMap lineMap = tokens.getLineMap();
-    for (ErrorProneToken token : tokens.getTokens()) {
+    LineMap lineMap = tokens.lineMap();
+    for (ErrorProneToken token : tokens.tokens()) {
       for (ErrorProneComment comment : token.comments()) {
         lines.add(
             Range.closed(
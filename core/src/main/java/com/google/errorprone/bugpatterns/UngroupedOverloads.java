@@ -100,7 +100,7 @@ public class UngroupedOverloads extends BugChecker implements ClassTreeMatcher {
             .collect(toImmutableList());
     if (batchFindings && !descriptions.isEmpty()) {
       SuggestedFix.Builder fix = SuggestedFix.builder();
-      descriptions.forEach(d -> fix.merge((SuggestedFix) getOnlyElement(d.fixes)));
+      descriptions.forEach(d -> fix.merge((SuggestedFix) getOnlyElement(d.fixes())));
       return describeMatch(descriptions.getFirst().position, fix.build());
     }
     descriptions.forEach(state::reportMatch);
@@ -19,12 +19,14 @@ package com.google.errorprone.bugpatterns;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 
+import com.google.common.primitives.ImmutableIntArray;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.fixes.FixedPosition;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.sun.source.tree.CompilationUnitTree;
 
 /** Bans, without the possibility of suppression, the use of direction-changing Unicode escapes. */
@@ -33,12 +35,16 @@ import com.sun.source.tree.CompilationUnitTree;
     summary = "Unicode directionality modifiers can be used to conceal code in many editors.",
     disableable = false)
 public final class UnicodeDirectionalityCharacters extends BugChecker
-    implements CompilationUnitTreeMatcher {
+    implements CompilationUnitTokensMatcher {
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-    CharSequence source = state.getSourceCode();
+  public Description matchCompilationUnitTokens(
+      CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
+    String source = tokens.source();
 
-    for (int i = 0; i < source.length(); ++i) {
+    // Directionality characters aren't printable ASCII, so only those positions need checking.
+    ImmutableIntArray candidates = tokens.nonPrintableAsciiPositions();
+    for (int j = 0; j < candidates.length(); ++j) {
+      int i = candidates.get(j);
       char c = source.charAt(i);
       // Do not extract this switch to a method. It's ugly as-is, but profiling suggests this
       // checker is expensive for large files, and also that the method-call overhead would
@@ -20,7 +20,6 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Streams.concat;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
-import static com.google.errorprone.util.ErrorProneTokens.getTokens;
 import static com.google.errorprone.util.SourceCodeEscapers.javaCharEscaper;
 import static java.lang.String.format;
 
@@ -29,11 +28,13 @@ import com.google.common.collect.ImmutableRangeSet;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
+import com.google.common.primitives.ImmutableIntArray;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.fixes.FixedPosition;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.google.errorprone.util.ErrorProneToken;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.tools.javac.parser.Tokens.TokenKind;
@@ -44,13 +45,16 @@ import com.sun.tools.javac.parser.Tokens.TokenKind;
     summary =
         "Avoid using non-ASCII Unicode characters outside of comments and literals, as they can be"
             + " confusing.")
-public final class UnicodeInCode extends BugChecker implements CompilationUnitTreeMatcher {
+public final class UnicodeInCode extends BugChecker implements CompilationUnitTokensMatcher {
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public Description matchCompilationUnitTokens(
+      CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
     RangeSet<Integer> violations = TreeRangeSet.create();
-    String sourceCode = state.getSourceCode().toString();
+    String sourceCode = tokens.source();
 
-    for (int i = 0; i < sourceCode.length(); ++i) {
+    ImmutableIntArray candidates = tokens.nonPrintableAsciiPositions();
+    for (int j = 0; j < candidates.length(); ++j) {
+      int i = candidates.get(j);
       if (!isAcceptableAscii(sourceCode, i)) {
         violations.add(Range.closedOpen(i, i + 1));
       }
@@ -61,7 +65,7 @@ public final class UnicodeInCode extends BugChecker implements CompilationUnitTr
     }
 
     ImmutableRangeSet<Integer> permissibleUnicodeRegions =
-        suppressedRegions(state).union(commentsAndLiterals(state, sourceCode));
+        suppressedRegions(state).union(commentsAndLiterals(tokens));
 
     for (var range : violations.asDescendingSetOfRanges()) {
       if (!permissibleUnicodeRegions.encloses(range)) {
@@ -98,8 +102,9 @@ public final class UnicodeInCode extends BugChecker implements CompilationUnitTr
     return (c >= 0x20 && c <= 0x7E) || c == '\n' || c == '\r' || c == '\t';
   }
 
-  private static ImmutableRangeSet<Integer> commentsAndLiterals(VisitorState state, String source) {
-    ImmutableList<ErrorProneToken> tokens = getTokens(source, state.context);
+  private static ImmutableRangeSet<Integer> commentsAndLiterals(
+      CompilationUnitTokens compilationUnitTokens) {
+    ImmutableList<ErrorProneToken> tokens = compilationUnitTokens.tokens();
     return ImmutableRangeSet.unionOf(
         concat(
                 tokens.stream()
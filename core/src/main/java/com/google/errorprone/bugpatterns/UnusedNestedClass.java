@@ -28,11 +28,11 @@ import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFixes;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.SymbolReferences;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.IdentifierTree;
 import com.sun.source.tree.MemberSelectTree;
-import com.sun.source.tree.Tree;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.TreePathScanner;
 import com.sun.tools.javac.code.Symbol;
@@ -66,9 +66,7 @@ public final class UnusedNestedClass extends BugChecker implements CompilationUn
 
     Map<ClassSymbol, TreePath> privateNestedClasses = privateNestedClassScanner.classes;
 
-    ClassUsageScanner classUsageScanner = new ClassUsageScanner();
-    classUsageScanner.scan(state.getPath(), null);
-    privateNestedClasses.keySet().removeAll(classUsageScanner.usedClasses);
+    privateNestedClasses.keySet().removeAll(usedClasses(state));
     for (TreePath path : privateNestedClasses.values()) {
       state.reportMatch(
           describeMatch(path.getLeaf(), SuggestedFixes.replaceIncludingComments(path, "", state)));
@@ -105,37 +103,37 @@ public final class UnusedNestedClass extends BugChecker implements CompilationUn
     }
   }
 
-  private static final class ClassUsageScanner extends TreePathScanner<Void, Void> {
-    private final Set<ClassSymbol> withinClasses = new HashSet<>();
-    private final Set<ClassSymbol> usedClasses = new HashSet<>();
-
-    @Override
-    public Void visitClass(ClassTree classTree, Void unused) {
-      ClassSymbol symbol = getSymbol(classTree);
-      withinClasses.add(symbol);
-      super.visitClass(classTree, null);
-      withinClasses.remove(symbol);
-      return null;
-    }
-
-    @Override
-    public Void visitMemberSelect(MemberSelectTree memberSelectTree, Void unused) {
-      handle(memberSelectTree);
-      return super.visitMemberSelect(memberSelectTree, null);
-    }
-
-    @Override
-    public Void visitIdentifier(IdentifierTree identifierTree, Void unused) {
-      handle(identifierTree);
-      return super.visitIdentifier(identifierTree, null);
+  /**
+   * Returns the classes that are referenced from outside their own declaration, either directly or
+   * by referencing one of their members.
+   */
+  private static Set<ClassSymbol> usedClasses(VisitorState state) {
+    SymbolReferences references = SymbolReferences.instance(state);
+    Set<ClassSymbol> usedClasses = new HashSet<>();
+    for (Symbol referenced : references.referencedSymbols()) {
+      for (TreePath path : references.references(referenced)) {
+        if (!(path.getLeaf() instanceof IdentifierTree
+            || path.getLeaf() instanceof MemberSelectTree)) {
+          continue;
+        }
+        for (Symbol symbol = referenced; symbol != null; symbol = enclosingClass(symbol)) {
+          if (symbol instanceof ClassSymbol classSymbol
+              && !usedClasses.contains(classSymbol)
+              && !isWithin(path, classSymbol)) {
+            usedClasses.add(classSymbol);
+          }
+        }
+      }
     }
+    return usedClasses;
+  }
 
-    private void handle(Tree node) {
-      for (Symbol symbol = getSymbol(node); symbol != null; symbol = enclosingClass(symbol)) {
-        if (symbol instanceof ClassSymbol classSymbol && !withinClasses.contains(symbol)) {
-          usedClasses.add(classSymbol);
-        }
+  private static boolean isWithin(TreePath path, ClassSymbol classSymbol) {
+    for (; path != null; path = path.getParentPath()) {
+      if (path.getLeaf() instanceof ClassTree classTree && getSymbol(classTree) == classSymbol) {
+        return true;
       }
     }
+    return false;
   }
 }
@@ -23,7 +23,6 @@ import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.methodCanBeOverridden;
 
-import com.google.common.collect.ImmutableMultiset;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.VisitorState;
@@ -31,14 +30,13 @@ import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.util.ErrorProneTokens;
+import com.google.errorprone.util.SymbolReferences;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.TypeParameterTree;
-import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.code.Flags;
-import com.sun.tools.javac.code.Symbol.TypeVariableSymbol;
 import com.sun.tools.javac.parser.Tokens.TokenKind;
 import java.util.List;
 
@@ -49,7 +47,7 @@ import java.util.List;
 public final class UnusedTypeParameter extends BugChecker implements CompilationUnitTreeMatcher {
   @Override
   public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
-    var usedIdentifiers = findUsedIdentifiers(tree);
+    SymbolReferences references = SymbolReferences.instance(state);
     new SuppressibleTreePathScanner<Void, Void>(state) {
       @Override
       public Void visitClass(ClassTree node, Void unused) {
@@ -72,7 +70,7 @@ public final class UnusedTypeParameter extends BugChecker implements Compilation
 
       private void handle(Tree tree, List<? extends TypeParameterTree> typeParameters) {
         for (TypeParameterTree typeParameter : typeParameters) {
-          if (usedIdentifiers.count(getSymbol(typeParameter)) == 1) {
+          if (references.references(getSymbol(typeParameter)).isEmpty()) {
             state.reportMatch(
                 describeMatch(
                     typeParameter,
@@ -84,22 +82,6 @@ public final class UnusedTypeParameter extends BugChecker implements Compilation
     return Description.NO_MATCH;
   }
 
-  private static ImmutableMultiset<TypeVariableSymbol> findUsedIdentifiers(
-      CompilationUnitTree tree) {
-    ImmutableMultiset.Builder<TypeVariableSymbol> identifiers = ImmutableMultiset.builder();
-    new TreeScanner<Void, Void>() {
-      @Override
-      public Void scan(Tree tree, Void unused) {
-        var symbol = getSymbol(tree);
-        if (symbol instanceof TypeVariableSymbol typeVariableSymbol) {
-          identifiers.add(typeVariableSymbol);
-        }
-        return super.scan(tree, null);
-      }
-    }.scan(tree, null);
-    return identifiers.build();
-  }
-
   private static SuggestedFix removeTypeParameter(
       Tree tree,
       TypeParameterTree typeParameter,
@@ -32,6 +32,8 @@ import com.google.common.io.CharSource;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.checkreturnvalue.Rules.ErrorProneMethodRule;
 import com.google.errorprone.suppliers.Supplier;
+import com.google.errorprone.util.EffectSummaries;
+import com.google.errorprone.util.EffectSummaries.Effect;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.VarSymbol;
@@ -43,7 +45,10 @@ import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-/** External source of information about @CanIgnoreReturnValue-equivalent API's. */
+/**
+ * External source of information about @CanIgnoreReturnValue-equivalent API's, from the
+ * {@code CheckReturnValue:ApiExclusionList} flag and from {@link EffectSummaries}.
+ */
 public final class ExternalCanIgnoreReturnValue extends ErrorProneMethodRule {
 
   /** Returns a rule using an external list of APIs to ignore. */
@@ -82,7 +87,8 @@ public final class ExternalCanIgnoreReturnValue extends ErrorProneMethodRule {
 
   @Override
   public Optional<ResultUsePolicy> evaluateMethod(MethodSymbol method, VisitorState state) {
-    return EXTERNAL_RULE_EVALUATOR.get(state).methodMatches(method, state)
+    return EffectSummaries.instance(state).hasEffect(method, Effect.CAN_IGNORE_RESULT, state)
+            || EXTERNAL_RULE_EVALUATOR.get(state).methodMatches(method, state)
         ? Optional.of(ResultUsePolicy.UNSPECIFIED)
         : Optional.empty();
   }
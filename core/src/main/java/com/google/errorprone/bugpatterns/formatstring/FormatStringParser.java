@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A parser for {@link java.util.Formatter} format strings that recognizes the common, well-formed
+ * cases without running the formatter.
+ *
+ * <p>The parser is conservative: it only accepts format strings whose specifiers are all of a
+ * shape it fully understands, and that consume exactly the given arguments. Anything else, e.g.
+ * date/time conversions or unusual flag combinations, is left to {@link FormatStringValidation},
+ * which runs the formatter to find and describe the problem.
+ */
+final class FormatStringParser {
+
+  /**
+   * Returns true if formatting the arguments with the format string is known to succeed and to use
+   * every argument.
+   */
+  static boolean isKnownValid(String formatString, Object[] arguments) {
+    int ordinaryIndex = 0;
+    int lastIndex = -1;
+    int used = 0;
+    int pos = formatString.indexOf('%');
+    while (pos >= 0) {
+      pos++;
+      // An explicit argument index, e.g. %2$s.
+      int explicitIndex = -1;
+      int digitsEnd = skipDigits(formatString, pos);
+      if (digitsEnd > pos
+          && digitsEnd < formatString.length()
+          && formatString.charAt(digitsEnd) == '$') {
+        explicitIndex = parseInt(formatString, pos, digitsEnd);
+        if (explicitIndex < 1) {
+          return false;
+        }
+        pos = digitsEnd + 1;
+      }
+      String flags = "";
+      while (pos < formatString.length() && "-#+ 0,(<".indexOf(formatString.charAt(pos)) >= 0) {
+        char flag = formatString.charAt(pos);
+        if (flags.indexOf(flag) >= 0) {
+          return false;
+        }
+        flags += flag;
+        pos++;
+      }
+      int widthEnd = skipDigits(formatString, pos);
+      boolean hasWidth = widthEnd > pos;
+      if (hasWidth && parseInt(formatString, pos, widthEnd) < 0) {
+        return false;
+      }
+      pos = widthEnd;
+      boolean hasPrecision = false;
+      if (pos < formatString.length() && formatString.charAt(pos) == '.') {
+        int precisionEnd = skipDigits(formatString, pos + 1);
+        if (precisionEnd == pos + 1 || parseInt(formatString, pos + 1, precisionEnd) < 0) {
+          return false;
+        }
+        hasPrecision = true;
+        pos = precisionEnd;
+      }
+      if (pos >= formatString.length()) {
+        return false;
+      }
+      char conversion = formatString.charAt(pos++);
+      if ((flags.contains("-") || flags.contains("0")) && !hasWidth) {
+        return false;
+      }
+      if (flags.contains("-") && flags.contains("0")) {
+        return false;
+      }
+      switch (conversion) {
+        case '%' -> {
+          if (explicitIndex != -1 || hasPrecision || !isSubset(flags, "-")) {
+            return false;
+          }
+        }
+        case 'n' -> {
+          if (explicitIndex != -1 || hasWidth || hasPrecision || !flags.isEmpty()) {
+            return false;
+          }
+        }
+        default -> {
+          int index;
+          if (flags.contains("<")) {
+            if (lastIndex < 0) {
+              return false;
+            }
+            index = lastIndex;
+            flags = flags.replace("<", "");
+          } else if (explicitIndex != -1) {
+            index = explicitIndex - 1;
+          } else {
+            index = ordinaryIndex++;
+          }
+          if (index >= arguments.length
+              || !isValidConversion(conversion, flags, hasPrecision, arguments[index])) {
+            return false;
+          }
+          lastIndex = index;
+          used = Math.max(used, index + 1);
+        }
+      }
+      pos = formatString.indexOf('%', pos);
+    }
+    return used == arguments.length;
+  }
+
+  private static boolean isValidConversion(
+      char conversion, String flags, boolean hasPrecision, Object argument) {
+    return switch (conversion) {
+      case 'b', 'B', 'h', 'H', 's', 'S' -> isSubset(flags, "-");
+      case 'c', 'C' -> !hasPrecision && isSubset(flags, "-") && isCharacter(argument);
+      case 'd' ->
+          !hasPrecision
+              && isSubset(flags, "-0,+ (")
+              && !(flags.contains("+") && flags.contains(" "))
+              && isIntegral(argument);
+      case 'o', 'x', 'X' -> !hasPrecision && isSubset(flags, "-0#") && isIntegral(argument);
+      case 'e', 'E', 'f', 'g', 'G' ->
+          isSubset(flags, conversion == 'e' || conversion == 'E' ? "-0+ (" : "-0,+ (")
+              && !(flags.contains("+") && flags.contains(" "))
+              && isFloatingPoint(argument);
+      default -> false;
+    };
+  }
+
+  private static boolean isCharacter(Object argument) {
+    if (argument == null || argument instanceof Character) {
+      return true;
+    }
+    if (argument instanceof Byte || argument instanceof Short || argument instanceof Integer) {
+      int codePoint = ((Number) argument).intValue();
+      return codePoint >= 0 && Character.isValidCodePoint(codePoint);
+    }
+    return false;
+  }
+
+  private static boolean isIntegral(Object argument) {
+    return argument == null
+        || argument instanceof Byte
+        || argument instanceof Short
+        || argument instanceof Integer
+        || argument instanceof Long
+        || argument instanceof BigInteger;
+  }
+
+  private static boolean isFloatingPoint(Object argument) {
+    return argument == null
+        || argument instanceof Float
+        || argument instanceof Double
+        || argument instanceof BigDecimal;
+  }
+
+  private static boolean isSubset(String flags, String allowed) {
+    for (int i = 0; i < flags.length(); i++) {
+      if (allowed.indexOf(flags.charAt(i)) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipDigits(String s, int pos) {
+    while (pos < s.length() && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static int parseInt(String s, int start, int end) {
+    // Indices, widths and precisions too large to be valid are treated as invalid, rather than
+    // overflowing.
+    if (end - start > 9) {
+      return -1;
+    }
+    return Integer.parseInt(s, start, end, 10);
+  }
+
+  private FormatStringParser() {}
+}
@@ -21,6 +21,8 @@ import static com.google.errorprone.suppliers.Suppliers.typeFromString;
 import static com.google.errorprone.util.ASTHelpers.isSameType;
 import static java.util.Arrays.asList;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
@@ -58,6 +60,7 @@ import java.util.IllegalFormatWidthException;
 import java.util.List;
 import java.util.MissingFormatArgumentException;
 import java.util.MissingFormatWidthException;
+import java.util.Optional;
 import java.util.UnknownFormatConversionException;
 import java.util.UnknownFormatFlagsException;
 import java.util.stream.IntStream;
@@ -227,7 +230,48 @@ public final class FormatStringValidation {
     return s != null && types.isSubtype(t, s);
   }
 
-  private static ValidationResult validate(String formatString, Object[] arguments) {
+  /**
+   * The results of validating a format string against arguments, keyed by the format string and the
+   * {@linkplain #signature signature} of the arguments.
+   */
+  private static final Cache<ValidationKey, Optional<ValidationResult>> VALIDATION_CACHE =
+      Caffeine.newBuilder().maximumSize(10_000).build();
+
+  private record ValidationKey(String formatString, List<Object> signature) {}
+
+  /**
+   * Returns what validating a format string depends on about each argument: the value of numbers,
+   * characters and booleans, which can matter for e.g. {@code %c}, and otherwise its class.
+   */
+  private static List<Object> signature(Object[] arguments) {
+    List<Object> signature = new ArrayList<>(arguments.length);
+    for (Object argument : arguments) {
+      if (argument == null) {
+        signature.add(Void.class);
+      } else if (argument instanceof Number
+          || argument instanceof Character
+          || argument instanceof Boolean) {
+        signature.add(argument);
+      } else {
+        signature.add(argument.getClass());
+      }
+    }
+    return signature;
+  }
+
+  private static @Nullable ValidationResult validate(String formatString, Object[] arguments) {
+    return VALIDATION_CACHE
+        .get(
+            new ValidationKey(formatString, signature(arguments)),
+            unused -> Optional.ofNullable(computeValidation(formatString, arguments)))
+        .orElse(null);
+  }
+
+  private static @Nullable ValidationResult computeValidation(
+      String formatString, Object[] arguments) {
+    if (FormatStringParser.isKnownValid(formatString, arguments)) {
+      return null;
+    }
     try {
       String unused = String.format(formatString, arguments);
     } catch (DuplicateFormatFlagsException e) {
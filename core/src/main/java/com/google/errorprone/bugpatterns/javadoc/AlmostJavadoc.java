@@ -29,12 +29,12 @@ import com.google.common.collect.Streams;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.google.errorprone.util.ErrorProneComment;
 import com.google.errorprone.util.ErrorProneToken;
-import com.google.errorprone.util.ErrorProneTokens;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.util.TreePath;
 import java.util.Optional;
@@ -51,7 +51,7 @@ import org.safere.Pattern;
     severity = WARNING,
     tags = STYLE,
     documentSuppression = false)
-public final class AlmostJavadoc extends BugChecker implements CompilationUnitTreeMatcher {
+public final class AlmostJavadoc extends BugChecker implements CompilationUnitTokensMatcher {
   private static final Pattern HAS_TAG =
       Pattern.compile(
           String.format(
@@ -66,10 +66,10 @@ public final class AlmostJavadoc extends BugChecker implements CompilationUnitTr
                   .collect(joining("|"))));
 
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public Description matchCompilationUnitTokens(
+      CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
     ImmutableMap<Integer, TreePath> javadoccableTrees = getJavadoccableTrees(tree);
-    for (ErrorProneToken token :
-        ErrorProneTokens.getTokens(state.getSourceCode().toString(), state.context)) {
+    for (ErrorProneToken token : tokens.tokens()) {
       for (ErrorProneComment comment : token.comments()) {
         var path = javadoccableTrees.get(token.pos());
         if (path == null) {
@@ -18,7 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 
 import com.google.errorprone.BugPattern;
@@ -28,13 +28,12 @@ import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.LiteralTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
-import org.jspecify.annotations.Nullable;
 import org.safere.Matcher;
 import org.safere.Pattern;
 
@@ -55,41 +54,26 @@ public final class EscapedEntity extends BugChecker
 
   @Override
   public Description matchClass(ClassTree classTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
+    return handle(state);
   }
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
+    return handle(state);
   }
 
   @Override
   public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    return handle(getDocTreePath(state), state);
+    return handle(state);
   }
 
-  private Description handle(@Nullable DocTreePath path, VisitorState state) {
-    if (path == null) {
-      return NO_MATCH;
-    }
-    new Scanner(state).scan(path, null);
-    return NO_MATCH;
-  }
-
-  private final class Scanner extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private Scanner(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitLiteral(LiteralTree node, Void unused) {
-      Matcher matcher = HTML_ENTITY.matcher(node.getBody().getBody());
+  private Description handle(VisitorState state) {
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.LITERAL, DocTree.Kind.CODE)) {
+      Matcher matcher = HTML_ENTITY.matcher(((LiteralTree) path.getLeaf()).getBody().getBody());
       if (matcher.find()) {
-        state.reportMatch(buildDescription(diagnosticPosition(getCurrentPath(), state)).build());
+        state.reportMatch(buildDescription(diagnosticPosition(path, state)).build());
       }
-      return super.visitLiteral(node, null);
     }
+    return NO_MATCH;
   }
 }
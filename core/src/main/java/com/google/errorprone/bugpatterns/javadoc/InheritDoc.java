@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.util.ASTHelpers.findSuperMethods;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
 
@@ -29,12 +30,11 @@ import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.doctree.InheritDocTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.source.util.SimpleTreeVisitor;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 
@@ -67,61 +67,50 @@ public final class InheritDoc extends BugChecker
   }
 
   private Description handle(VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new InheritDocChecker(state).scan(path, null);
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.INHERIT_DOC)) {
+      checkInheritDoc(path, state);
     }
     return Description.NO_MATCH;
   }
 
-  private final class InheritDocChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
+  private void checkInheritDoc(DocTreePath path, VisitorState state) {
+    new SimpleTreeVisitor<Void, Void>() {
+      @Override
+      public Void visitVariable(VariableTree variableTree, Void unused) {
+        state.reportMatch(
+            buildDescription(diagnosticPosition(path, state))
+                .setMessage(
+                    "@inheritDoc doesn't make sense on variables as "
+                        + "they cannot override a super element.")
+                .build());
+        return null;
+      }
 
-    private InheritDocChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitInheritDoc(InheritDocTree inheritDocTree, Void unused) {
-      new SimpleTreeVisitor<Void, Void>() {
-        @Override
-        public Void visitVariable(VariableTree variableTree, Void unused) {
+      @Override
+      public Void visitMethod(MethodTree methodTree, Void unused) {
+        MethodSymbol methodSymbol = getSymbol(methodTree);
+        if (findSuperMethods(methodSymbol, state.getTypes()).isEmpty()) {
           state.reportMatch(
-              buildDescription(diagnosticPosition(getCurrentPath(), state))
+              buildDescription(diagnosticPosition(path, state))
                   .setMessage(
-                      "@inheritDoc doesn't make sense on variables as "
-                          + "they cannot override a super element.")
+                      "This method does not override anything to inherit documentation from.")
                   .build());
-          return null;
-        }
-
-        @Override
-        public Void visitMethod(MethodTree methodTree, Void unused) {
-          MethodSymbol methodSymbol = getSymbol(methodTree);
-          if (findSuperMethods(methodSymbol, state.getTypes()).isEmpty()) {
-            state.reportMatch(
-                buildDescription(diagnosticPosition(getCurrentPath(), state))
-                    .setMessage(
-                        "This method does not override anything to inherit documentation from.")
-                    .build());
-          }
-          return null;
         }
+        return null;
+      }
 
-        @Override
-        public Void visitClass(ClassTree classTree, Void unused) {
-          if (classTree.getExtendsClause() == null && classTree.getImplementsClause().isEmpty()) {
-            state.reportMatch(
-                buildDescription(diagnosticPosition(getCurrentPath(), state))
-                    .setMessage(
-                        "This class does not extend or implement anything to inherit "
-                            + "documentation from.")
-                    .build());
-          }
-          return null;
+      @Override
+      public Void visitClass(ClassTree classTree, Void unused) {
+        if (classTree.getExtendsClause() == null && classTree.getImplementsClause().isEmpty()) {
+          state.reportMatch(
+              buildDescription(diagnosticPosition(path, state))
+                  .setMessage(
+                      "This class does not extend or implement anything to inherit "
+                          + "documentation from.")
+                  .build());
         }
-      }.visit(getCurrentPath().getTreePath().getLeaf(), null);
-      return super.visitInheritDoc(inheritDocTree, null);
-    }
+        return null;
+      }
+    }.visit(path.getTreePath().getLeaf(), null);
   }
 }
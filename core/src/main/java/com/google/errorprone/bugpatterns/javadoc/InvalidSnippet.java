@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
@@ -32,68 +33,38 @@ import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 
 /** A bug pattern; see the summary. */
 @BugPattern(summary = "This tag is invalid.", severity = WARNING, documentSuppression = false)
 public final class InvalidSnippet extends BugChecker
     implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
 
-  private void scanTags(VisitorState state, DocTreePath path) {
-    new InvalidTagChecker(state).scan(path, null);
-  }
-
   @Override
   public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
+    return handle(state);
   }
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
+    return handle(state);
   }
 
   @Override
   public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      scanTags(state, path);
-    }
-    return Description.NO_MATCH;
+    return handle(state);
   }
 
-  final class InvalidTagChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private InvalidTagChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitErroneous(ErroneousTree erroneousTree, Void unused) {
+  private Description handle(VisitorState state) {
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.ERRONEOUS)) {
+      ErroneousTree erroneousTree = (ErroneousTree) path.getLeaf();
       if (erroneousTree.getBody().startsWith("{@snippet")) {
         String message =
             "This @snippet tag looks to be malformed. Did you forget the \":\"? Snippets should"
                 + " start with \"{@snippet :\" followed by a newline.";
         state.reportMatch(
-            buildDescription(diagnosticPosition(getCurrentPath(), state))
-                .setMessage(message)
-                .build());
+            buildDescription(diagnosticPosition(path, state)).setMessage(message).build());
       }
-      return null;
-    }
-
-    @Override
-    public Void scan(DocTree tree, Void unused) {
-      return super.scan(tree, null);
     }
+    return Description.NO_MATCH;
   }
 }
@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.util.ASTHelpers.getType;
 import static com.google.errorprone.util.ASTHelpers.isSubtype;
 
@@ -26,11 +27,11 @@ import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ReferenceTree;
 import com.sun.source.doctree.ThrowsTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.api.JavacTrees;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.TypeTag;
@@ -49,45 +50,30 @@ public final class InvalidThrows extends BugChecker implements MethodTreeMatcher
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new ThrowsChecker(state, methodTree).scan(path, null);
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.THROWS, DocTree.Kind.EXCEPTION)) {
+      checkThrows(path, methodTree, state);
     }
     return Description.NO_MATCH;
   }
 
-  private final class ThrowsChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-    private final MethodTree methodTree;
-
-    private ThrowsChecker(VisitorState state, MethodTree methodTree) {
-      this.state = state;
-      this.methodTree = methodTree;
-    }
-
-    @Override
-    public Void visitThrows(ThrowsTree throwsTree, Void unused) {
-      ReferenceTree exName = throwsTree.getExceptionName();
-      Element element =
-          JavacTrees.instance(state.context).getElement(new DocTreePath(getCurrentPath(), exName));
-      if (element != null) {
-        Type type = (Type) element.asType();
-        if (isCheckedException(type)) {
-          if (methodTree.getThrows().stream().noneMatch(t -> isSubtype(type, getType(t), state))) {
-            state.reportMatch(
-                describeMatch(
-                    diagnosticPosition(getCurrentPath(), state),
-                    Utils.replace(throwsTree, "", state)));
-          }
+  private void checkThrows(DocTreePath path, MethodTree methodTree, VisitorState state) {
+    ThrowsTree throwsTree = (ThrowsTree) path.getLeaf();
+    ReferenceTree exName = throwsTree.getExceptionName();
+    Element element = JavacTrees.instance(state.context).getElement(new DocTreePath(path, exName));
+    if (element != null) {
+      Type type = (Type) element.asType();
+      if (isCheckedException(type, state)) {
+        if (methodTree.getThrows().stream().noneMatch(t -> isSubtype(type, getType(t), state))) {
+          state.reportMatch(
+              describeMatch(diagnosticPosition(path, state), Utils.replace(throwsTree, "", state)));
         }
       }
-      return super.visitThrows(throwsTree, null);
     }
+  }
 
-    private boolean isCheckedException(Type type) {
-      return type.hasTag(TypeTag.CLASS)
-          && !state.getTypes().isAssignable(type, state.getSymtab().errorType)
-          && !state.getTypes().isAssignable(type, state.getSymtab().runtimeExceptionType);
-    }
+  private static boolean isCheckedException(Type type, VisitorState state) {
+    return type.hasTag(TypeTag.CLASS)
+        && !state.getTypes().isAssignable(type, state.getSymtab().errorType)
+        && !state.getTypes().isAssignable(type, state.getSymtab().runtimeExceptionType);
   }
 }
@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.getDiagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.StandardTags;
@@ -26,10 +27,10 @@ import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ErroneousTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 import com.sun.tools.javac.parser.Tokens.Comment;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.DCTree.DCErroneous;
@@ -48,35 +49,20 @@ public final class InvalidThrowsLink extends BugChecker implements MethodTreeMat
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new ThrowsChecker(state).scan(path, null);
-    }
-    return Description.NO_MATCH;
-  }
-
-  private final class ThrowsChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private ThrowsChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitErroneous(ErroneousTree node, Void unused) {
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.ERRONEOUS)) {
+      ErroneousTree node = (ErroneousTree) path.getLeaf();
       Matcher matcher = THROWS_LINK.matcher(node.getBody());
-      Comment comment = ((DCDocComment) getCurrentPath().getDocComment()).comment;
+      Comment comment = ((DCDocComment) path.getDocComment()).comment;
       if (matcher.find()) {
         int beforeAt = comment.getSourcePos(((DCErroneous) node).pos + matcher.start());
         int startOfCurly = comment.getSourcePos(((DCErroneous) node).pos + matcher.end());
         SuggestedFix fix =
             SuggestedFix.replace(beforeAt, startOfCurly, "@throws " + matcher.group(1));
         state.reportMatch(
-            describeMatch(
-                getDiagnosticPosition(beforeAt, getCurrentPath().getTreePath().getLeaf()), fix));
+            describeMatch(getDiagnosticPosition(beforeAt, path.getTreePath().getLeaf()), fix));
       }
-      return super.visitErroneous(node, null);
     }
+    return Description.NO_MATCH;
   }
 
   private static final Pattern THROWS_LINK = Pattern.compile("^@throws \\{@(?:link|code) ([^}]+)}");
@@ -25,7 +25,6 @@ import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.isRecord;
-import static com.google.errorprone.util.ErrorProneTokens.getTokens;
 import static java.util.Comparator.comparing;
 
 import com.google.common.collect.ImmutableList;
@@ -35,8 +34,9 @@ import com.google.common.collect.Range;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
-import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.CompilationUnitTokens;
 import com.google.errorprone.util.ErrorProneComment;
 import com.google.errorprone.util.ErrorProneComment.ErrorProneCommentStyle;
 import com.google.errorprone.util.ErrorProneToken;
@@ -52,14 +52,15 @@ import com.sun.source.util.TreeScanner;
     summary = "Avoid using `/**` for comments which aren't actually Javadoc.",
     severity = WARNING,
     documentSuppression = false)
-public final class NotJavadoc extends BugChecker implements CompilationUnitTreeMatcher {
+public final class NotJavadoc extends BugChecker implements CompilationUnitTokensMatcher {
   @Override
-  public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+  public Description matchCompilationUnitTokens(
+      CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
     ImmutableMap<Integer, TreePath> javadocableTrees = getJavadoccableTrees(tree);
     ImmutableMap<Integer, JavadocableTreeKind> seeminglyJavadocableTrees =
         getSeeminglyJavadocableTrees(tree);
     ImmutableRangeSet<Integer> suppressedRegions = suppressedRegions(state);
-    for (ErrorProneToken token : getTokens(state.getSourceCode().toString(), state.context)) {
+    for (ErrorProneToken token : tokens.tokens()) {
       ImmutableList<ErrorProneComment> javadoc =
           token.comments().stream()
               .filter(
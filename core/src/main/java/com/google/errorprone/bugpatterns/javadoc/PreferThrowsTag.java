@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.fixes.SuggestedFix.replace;
 
 import com.google.errorprone.BugPattern;
@@ -25,10 +26,10 @@ import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ThrowsTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 
 /**
  * Prefer the {@code @throws} tag instead of the {@code @exception} tag.
@@ -40,22 +41,14 @@ public final class PreferThrowsTag extends BugChecker implements MethodTreeMatch
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new DocTreePathScanner<Void, Void>() {
-        @Override
-        public Void visitThrows(ThrowsTree throwsTree, Void unused) {
-          if (throwsTree.getTagName().equals("exception")) {
-            int startPos = Utils.getStartPosition(throwsTree, state);
-            int endPos = startPos + "@exception".length();
-            state.reportMatch(
-                describeMatch(
-                    diagnosticPosition(getCurrentPath(), state),
-                    replace(startPos, endPos, "@throws")));
-          }
-          return super.visitThrows(throwsTree, null);
-        }
-      }.scan(path, null);
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.THROWS, DocTree.Kind.EXCEPTION)) {
+      ThrowsTree throwsTree = (ThrowsTree) path.getLeaf();
+      if (throwsTree.getTagName().equals("exception")) {
+        int startPos = Utils.getStartPosition(throwsTree, state);
+        int endPos = startPos + "@exception".length();
+        state.reportMatch(
+            describeMatch(diagnosticPosition(path, state), replace(startPos, endPos, "@throws")));
+      }
     }
     return Description.NO_MATCH;
   }
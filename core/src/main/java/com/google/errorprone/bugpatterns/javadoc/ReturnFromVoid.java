@@ -18,6 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.util.ASTHelpers.getType;
 import static com.google.errorprone.util.ASTHelpers.isSameType;
 
@@ -27,10 +28,9 @@ import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.matchers.Description;
-import com.sun.source.doctree.ReturnTree;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 
 /**
  * Finds common Javadoc errors, and tries to suggest useful fixes.
@@ -46,30 +46,13 @@ public final class ReturnFromVoid extends BugChecker implements MethodTreeMatche
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = Utils.getDocTreePath(state);
-    if (path != null) {
-      new VoidReturnTypeChecker(state, methodTree).scan(path, null);
+    if (!isSameType(getType(methodTree.getReturnType()), state.getSymtab().voidType, state)) {
+      return Description.NO_MATCH;
     }
-    return Description.NO_MATCH;
-  }
-
-  private final class VoidReturnTypeChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-    private final MethodTree methodTree;
-
-    private VoidReturnTypeChecker(VisitorState state, MethodTree methodTree) {
-      this.state = state;
-      this.methodTree = methodTree;
-    }
-
-    @Override
-    public Void visitReturn(ReturnTree returnTree, Void unused) {
-      if (isSameType(getType(methodTree.getReturnType()), state.getSymtab().voidType, state)) {
-        state.reportMatch(
-            describeMatch(
-                diagnosticPosition(getCurrentPath(), state), Utils.replace(returnTree, "", state)));
-      }
-      return super.visitReturn(returnTree, null);
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.RETURN)) {
+      state.reportMatch(
+          describeMatch(diagnosticPosition(path, state), Utils.replace(path.getLeaf(), "", state)));
     }
+    return Description.NO_MATCH;
   }
 }
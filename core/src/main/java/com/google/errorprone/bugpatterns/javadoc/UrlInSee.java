@@ -18,7 +18,7 @@ package com.google.errorprone.bugpatterns.javadoc;
 
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.diagnosticPosition;
-import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePath;
+import static com.google.errorprone.bugpatterns.javadoc.Utils.getDocTreePaths;
 import static com.google.errorprone.bugpatterns.javadoc.Utils.replace;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 
@@ -29,12 +29,12 @@ import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.matchers.Description;
+import com.sun.source.doctree.DocTree;
 import com.sun.source.doctree.ErroneousTree;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocTreePath;
-import com.sun.source.util.DocTreePathScanner;
 
 /** Discourages using URLs in {@literal @}see tags. */
 @BugPattern(
@@ -46,48 +46,30 @@ public final class UrlInSee extends BugChecker
     implements ClassTreeMatcher, MethodTreeMatcher, VariableTreeMatcher {
   @Override
   public Description matchClass(ClassTree classTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
+    return handle(state);
   }
 
   @Override
   public Description matchMethod(MethodTree methodTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
+    return handle(state);
   }
 
   @Override
   public Description matchVariable(VariableTree variableTree, VisitorState state) {
-    DocTreePath path = getDocTreePath(state);
-    if (path != null) {
-      new UrlInSeeChecker(state).scan(path, null);
-    }
-    return NO_MATCH;
+    return handle(state);
   }
 
-  private final class UrlInSeeChecker extends DocTreePathScanner<Void, Void> {
-    private final VisitorState state;
-
-    private UrlInSeeChecker(VisitorState state) {
-      this.state = state;
-    }
-
-    @Override
-    public Void visitErroneous(ErroneousTree erroneousTree, Void unused) {
+  private Description handle(VisitorState state) {
+    for (DocTreePath path : getDocTreePaths(state, DocTree.Kind.ERRONEOUS)) {
+      ErroneousTree erroneousTree = (ErroneousTree) path.getLeaf();
       if (erroneousTree.getBody().startsWith("@see http")) {
         state.reportMatch(
             describeMatch(
-                diagnosticPosition(getCurrentPath(), state),
+                diagnosticPosition(path, state),
                 replace(
                     erroneousTree, erroneousTree.getBody().replaceFirst("@see", "See"), state)));
       }
-      return super.visitErroneous(erroneousTree, null);
     }
+    return NO_MATCH;
   }
 }
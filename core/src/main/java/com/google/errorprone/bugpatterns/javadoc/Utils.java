@@ -16,16 +16,21 @@
 
 package com.google.errorprone.bugpatterns.javadoc;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.errorprone.names.LevenshteinEditDistance.getEditDistance;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.isGeneratedConstructor;
 import static com.google.errorprone.util.ASTHelpers.isRecord;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimaps;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.fixes.ErrorPronePosition;
 import com.google.errorprone.fixes.FixedPosition;
 import com.google.errorprone.fixes.SuggestedFix;
+import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.doctree.DocCommentTree;
 import com.sun.source.doctree.DocTree;
@@ -39,6 +44,7 @@ import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
 import com.sun.source.util.DocSourcePositions;
 import com.sun.source.util.DocTreePath;
+import com.sun.source.util.DocTreePathScanner;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.TreePathScanner;
 import com.sun.tools.javac.api.JavacTrees;
@@ -50,8 +56,14 @@ import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
 import com.sun.tools.javac.util.Position;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.lang.model.element.ElementKind;
 import org.jspecify.annotations.Nullable;
 
@@ -75,11 +87,18 @@ final class Utils {
         ((JCCompilationUnit) state.getPath().getCompilationUnit()).docComments, (JCTree) tree);
   }
 
-  private static final Method COMMENT_TREE_METHOD = getCommentTreeMethod();
+  /**
+   * A handle for {@code DocCommentTable#getCommentTree}, whose return type differs between JDK
+   * versions, adapted to return a {@link DCDocComment}. It is resolved once, rather than being
+   * looked up and invoked reflectively on every call.
+   */
+  private static final MethodHandle COMMENT_TREE_METHOD = getCommentTreeMethod();
 
-  private static Method getCommentTreeMethod() {
+  private static MethodHandle getCommentTreeMethod() {
     try {
-      return DocCommentTable.class.getMethod("getCommentTree", JCTree.class);
+      return MethodHandles.publicLookup()
+          .unreflect(DocCommentTable.class.getMethod("getCommentTree", JCTree.class))
+          .asType(MethodType.methodType(DCDocComment.class, DocCommentTable.class, JCTree.class));
     } catch (ReflectiveOperationException e) {
       throw new LinkageError(e.getMessage(), e);
     }
@@ -87,8 +106,10 @@ final class Utils {
 
   private static DCDocComment getCommentTree(DocCommentTable docCommentTable, JCTree tree) {
     try {
-      return (DCDocComment) COMMENT_TREE_METHOD.invoke(docCommentTable, tree);
-    } catch (ReflectiveOperationException e) {
+      return (DCDocComment) COMMENT_TREE_METHOD.invokeExact(docCommentTable, tree);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new LinkageError(e.getMessage(), e);
     }
   }
@@ -144,6 +165,69 @@ final class Utils {
     return new DocTreePath(state.getPath(), docCommentTree);
   }
 
+  /**
+   * Returns the paths to the doc trees of the given kinds in the Javadoc of the declaration at the
+   * current path, in the order in which they appear in the Javadoc.
+   *
+   * <p>Each doc comment is walked once, and the result is shared by all the checks that look at the
+   * same compilation unit, so checks that are only interested in a few kinds of doc tree don't need
+   * to walk the whole comment themselves.
+   */
+  static ImmutableList<DocTreePath> getDocTreePaths(
+      VisitorState state, DocTree.Kind kind, DocTree.Kind... moreKinds) {
+    DocTreePath root = getDocTreePath(state);
+    if (root == null) {
+      return ImmutableList.of();
+    }
+    DocTreeIndex index = DOC_TREE_INDEXES.get(state).get(root);
+    if (moreKinds.length == 0) {
+      return index.byKind().get(kind);
+    }
+    Set<DocTree.Kind> kinds = EnumSet.of(kind, moreKinds);
+    return index.all().stream()
+        .filter(p -> kinds.contains(p.getLeaf().getKind()))
+        .collect(toImmutableList());
+  }
+
+  /** The doc trees of a doc comment, in the order in which a {@link DocTreePathScanner} visits. */
+  private record DocTreeIndex(
+      ImmutableList<DocTreePath> all, ImmutableListMultimap<DocTree.Kind, DocTreePath> byKind) {
+    static DocTreeIndex create(DocTreePath root) {
+      ImmutableList.Builder<DocTreePath> all = ImmutableList.builder();
+      all.add(root);
+      new DocTreePathScanner<Void, Void>() {
+        @Override
+        public Void scan(DocTree tree, Void unused) {
+          if (tree != null) {
+            all.add(new DocTreePath(getCurrentPath(), tree));
+          }
+          return super.scan(tree, null);
+        }
+      }.scan(root, null);
+      ImmutableList<DocTreePath> paths = all.build();
+      return new DocTreeIndex(paths, Multimaps.index(paths, p -> p.getLeaf().getKind()));
+    }
+  }
+
+  private static final Supplier<DocTreeIndexes> DOC_TREE_INDEXES =
+      VisitorState.memoize(unused -> new DocTreeIndexes());
+
+  /** The {@link DocTreeIndex} of each doc comment in the current compilation unit. */
+  private static final class DocTreeIndexes {
+    private @Nullable CompilationUnitTree compilationUnit;
+    private final Map<DocCommentTree, DocTreeIndex> indexes = new IdentityHashMap<>();
+
+    DocTreeIndex get(DocTreePath root) {
+      CompilationUnitTree current = root.getTreePath().getCompilationUnit();
+      if (current != compilationUnit) {
+        // Only keep the trees of one compilation unit reachable.
+        indexes.clear();
+        compilationUnit = current;
+      }
+      return indexes.computeIfAbsent(root.getDocComment(), unused -> DocTreeIndex.create(root));
+    }
+  }
+
   private static @Nullable DocCommentTree getDocCommentTree(VisitorState state) {
     return JavacTrees.instance(state.context).getDocCommentTree(state.getPath());
   }
@@ -413,6 +413,11 @@ public final class ThreadSafety {
       Set<String> containerTypeParameters,
       Type type,
       Set<TypeVariableSymbol> recursiveThreadSafeTypeParameter) {
+    if (state.cancellationToken().isCancelled()) {
+      // Walking deeply nested or recursive types can take a long time. Once the analysis deadline
+      // has passed, assume the rest is fine, rather than reporting what might not be a violation.
+      return Violation.absent();
+    }
     return type.accept(
         new ThreadSafeTypeVisitor(
             allowContainerTypeParameters,
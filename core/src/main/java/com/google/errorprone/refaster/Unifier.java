@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Function;
+import com.google.errorprone.CancellationToken;
 import com.google.errorprone.SubContext;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.sun.tools.javac.code.Type;
@@ -42,14 +43,18 @@ public final class Unifier {
 
   private final Context context;
 
+  private final CancellationToken cancellationToken;
+
   public Unifier(Context context) {
     this.bindings = Bindings.create();
     this.context = checkNotNull(context);
+    this.cancellationToken = CancellationToken.instance(context);
   }
 
-  private Unifier(Context context, Bindings bindings) {
+  private Unifier(Context context, Bindings bindings, CancellationToken cancellationToken) {
     this.context = new SubContext(context);
     this.bindings = Bindings.create(bindings);
+    this.cancellationToken = cancellationToken;
   }
 
   /**
@@ -57,7 +62,7 @@ public final class Unifier {
    * succeed or fail independently of this {@code Unifier}.
    */
   public Unifier fork() {
-    return new Unifier(context, bindings);
+    return new Unifier(context, bindings, cancellationToken);
   }
 
   public Types types() {
@@ -111,6 +116,10 @@ public final class Unifier {
 
   public static <T, U extends Unifiable<? super T>> Choice<Unifier> unifyNullable(
       Unifier unifier, @Nullable U unifiable, @Nullable T target) {
+    if (unifier.cancellationToken.isCancelled()) {
+      // Give up on the search, and don't match, once the analysis deadline has passed.
+      return Choice.none();
+    }
     if (target == null && unifiable == null) {
       return Choice.of(unifier);
     } else if (target == null || unifiable == null) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+
+import com.google.errorprone.BugPattern.LinkType;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link BugCheckerIndex}Test */
+@RunWith(JUnit4.class)
+public class BugCheckerIndexTest {
+
+  /** A custom suppression annotation. */
+  public @interface SuppressIndexed {}
+
+  /** A checker whose metadata needs escaping in the index. */
+  @BugPattern(
+      name = "Indexed",
+      altNames = {"IndexedAlt", "OtherAlt"},
+      summary = "A summary\twith a tab,\na newline, and a \\ backslash",
+      severity = WARNING,
+      linkType = LinkType.CUSTOM,
+      link = "https://example.com/indexed",
+      suppressionAnnotations = {SuppressWarnings.class, SuppressIndexed.class},
+      tags = {"Tag", "OtherTag"},
+      disableable = false)
+  public static class IndexedChecker extends BugChecker {}
+
+  @Test
+  public void builtInCheckers_matchReflection() {
+    for (BugCheckerInfo info : BuiltInCheckerSuppliers.allChecks().getAllChecks().values()) {
+      assertWithMessage("%s is indexed", info.checkerClassName())
+          .that(BugCheckerIndex.lookup(info.checkerClass()))
+          .isPresent();
+      assertSameMetadata(info, BugCheckerInfo.createReflectively(info.checkerClass()));
+    }
+  }
+
+  @Test
+  public void escapedSummary_matchesReflection() {
+    assertThat(BugCheckerIndex.lookup(IndexedChecker.class)).isPresent();
+
+    BugCheckerInfo indexed = BugCheckerInfo.create(IndexedChecker.class);
+
+    assertSameMetadata(indexed, BugCheckerInfo.createReflectively(IndexedChecker.class));
+    assertThat(indexed.message())
+        .isEqualTo("A summary\twith a tab,\na newline, and a \\ backslash");
+  }
+
+  @Test
+  public void createByName_loadsClassWhenNeeded() {
+    BugCheckerInfo indexed =
+        BugCheckerInfo.create(IndexedChecker.class.getName(), getClass().getClassLoader());
+
+    assertThat(indexed.canonicalName()).isEqualTo("Indexed");
+    assertThat(indexed).isEqualTo(BugCheckerInfo.create(IndexedChecker.class));
+    assertThat(indexed.checkerClass()).isEqualTo(IndexedChecker.class);
+  }
+
+  private static void assertSameMetadata(BugCheckerInfo indexed, BugCheckerInfo reflective) {
+    String name = reflective.checkerClassName();
+    assertWithMessage(name).that(indexed.canonicalName()).isEqualTo(reflective.canonicalName());
+    assertWithMessage(name).that(indexed.allNames()).isEqualTo(reflective.allNames());
+    assertWithMessage(name).that(indexed.message()).isEqualTo(reflective.message());
+    assertWithMessage(name)
+        .that(indexed.defaultSeverity())
+        .isEqualTo(reflective.defaultSeverity());
+    assertWithMessage(name).that(indexed.linkUrl()).isEqualTo(reflective.linkUrl());
+    assertWithMessage(name)
+        .that(indexed.supportsSuppressWarnings())
+        .isEqualTo(reflective.supportsSuppressWarnings());
+    assertWithMessage(name)
+        .that(indexed.customSuppressionAnnotations())
+        .isEqualTo(reflective.customSuppressionAnnotations());
+    assertWithMessage(name).that(indexed.getTags()).isEqualTo(reflective.getTags());
+    assertWithMessage(name).that(indexed.disableable()).isEqualTo(reflective.disableable());
+  }
+}
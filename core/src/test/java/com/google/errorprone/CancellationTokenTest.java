@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.ReturnTreeMatcher;
+import com.google.errorprone.dataflow.nullnesspropagation.NullnessAnalysis;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.util.TreePath;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link CancellationToken}Test */
+@RunWith(JUnit4.class)
+public class CancellationTokenTest {
+
+  /**
+   * A checker that takes a while on each class, and then reports the nullness of each returned
+   * expression.
+   */
+  @BugPattern(summary = "Reports nullness", severity = WARNING)
+  public static class SlowNullness extends BugChecker
+      implements ClassTreeMatcher, ReturnTreeMatcher {
+    @Override
+    public Description matchClass(ClassTree tree, VisitorState state) {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return NO_MATCH;
+    }
+
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      TreePath path = new TreePath(state.getPath(), tree.getExpression());
+      return buildDescription(tree)
+          .setMessage(
+              "nullness: "
+                  + NullnessAnalysis.instance(state.context).getNullness(path, state.context))
+          .build();
+    }
+  }
+
+  private final CompilationTestHelper compilationHelper =
+      CompilationTestHelper.newInstance(SlowNullness.class, getClass());
+
+  @Test
+  public void noDeadline() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              String f() {
+                // BUG: Diagnostic contains: nullness: Non-null
+                return "";
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void deadlinePassed_dataflowIsUnknown() {
+    compilationHelper
+        .setArgs("-XepOpt:AnalysisDeadlineMillis=1")
+        .matchAllDiagnostics()
+        .addSourceLines(
+            "Test.java",
+            """
+            // BUG: Diagnostic contains: Test.java were cut off after the
+            class Test {
+              String f() {
+                // BUG: Diagnostic contains: nullness: null
+                return "";
+              }
+            }
+            """)
+        .doTest();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+import static com.google.errorprone.util.ASTHelpers.getSymbol;
+
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.MethodTree;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link CheckerTimeBudgets}Test */
+@RunWith(JUnit4.class)
+public class CheckerTimeBudgetsTest {
+
+  /** A checker that takes a while to match every method. */
+  @BugPattern(summary = "Slow", severity = WARNING)
+  public static class SlowChecker extends BugChecker implements MethodTreeMatcher {
+    @Override
+    public Description matchMethod(MethodTree tree, VisitorState state) {
+      if (getSymbol(tree).isConstructor()) {
+        return NO_MATCH;
+      }
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return describeMatch(tree);
+    }
+  }
+
+  private final CompilationTestHelper compilationHelper =
+      CompilationTestHelper.newInstance(SlowChecker.class, getClass()).matchAllDiagnostics();
+
+  @Test
+  public void noBudget() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: [SlowChecker]
+              void f() {}
+
+              // BUG: Diagnostic contains: [SlowChecker]
+              void g() {}
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void perFileBudget() {
+    compilationHelper
+        .setArgs("-XepOpt:CheckerTimeBudgetPerFileMillis=1")
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              // BUG: Diagnostic contains: [SlowChecker]
+              // SlowChecker, at line 5, after
+              // on this file
+              void f() {}
+
+              void g() {}
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              // BUG: Diagnostic contains: [SlowChecker]
+              // SlowChecker, at line 4, after
+              void f() {}
+
+              void g() {}
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void totalBudget() {
+    compilationHelper
+        .setArgs("-XepOpt:CheckerTimeBudgetMillis=1")
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              // BUG: Diagnostic contains: [SlowChecker]
+              // it is skipped for the rest of the compilation
+              void f() {}
+
+              void g() {}
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              void f() {}
+
+              void g() {}
+            }
+            """)
+        .doTest();
+  }
+}
@@ -18,6 +18,7 @@ package com.google.errorprone;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
@@ -59,6 +60,7 @@ import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.ReturnTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.api.MultiTaskListener;
 import com.sun.tools.javac.main.Main.Result;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -597,6 +599,55 @@ public class ErrorProneCompilerIntegrationTest {
     assertWithMessage(outputStream.toString()).that(exitCode).isEqualTo(Result.OK);
   }
 
+  /** Reports how many top-level declarations Error Prone keeps while analyzing each class. */
+  @BugPattern(summary = "Reports retained declarations", severity = ERROR)
+  public static class RetainedDeclarations extends BugChecker implements ClassTreeMatcher {
+    @Override
+    public Description matchClass(ClassTree tree, VisitorState state) {
+      ErrorProneAnalyzer analyzer =
+          MultiTaskListener.instance(state.context).getTaskListeners().stream()
+              .filter(ErrorProneAnalyzer.class::isInstance)
+              .map(ErrorProneAnalyzer.class::cast)
+              .collect(onlyElement());
+      return buildDescription(tree)
+          .setMessage(tree.getSimpleName() + " retained " + analyzer.retainedDeclarations())
+          .build();
+    }
+  }
+
+  @Test
+  public void compilePolicy_byfile_releasesAnalyzedDeclarations() {
+    compilerBuilder.report(ScannerSupplier.fromBugCheckerClasses(RetainedDeclarations.class));
+    compiler = compilerBuilder.build();
+    Result exitCode =
+        compiler.compile(
+            new String[] {"-XDcompilePolicy=byfile"},
+            Arrays.asList(
+                forSourceLines(
+                    "A.java",
+                    """
+                    package test;
+                    class A {}
+                    class B {}
+                    """),
+                forSourceLines(
+                    "C.java",
+                    """
+                    package test;
+                    class C {}
+                    """)));
+    outputStream.flush();
+    assertWithMessage(outputStream.toString()).that(exitCode).isEqualTo(Result.ERROR);
+    // Both top-level classes in A.java are kept until the file is analyzed, and are released
+    // before C.java is.
+    assertThat(
+            diagnosticHelper.getDiagnostics().stream()
+                .map(d -> d.getMessage(ENGLISH))
+                .collect(toImmutableList()))
+        .comparingElementsUsing(Correspondence.<String, String>from(String::contains, "contains"))
+        .containsExactly("A retained 2", "B retained 2", "C retained 1");
+  }
+
   @BugPattern(
       summary = "Using 'return' is considered harmful",
       explanation = "Please refactor your code into continuation passing style.",
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.MethodTree;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link ErrorProneEvents}Test */
+@RunWith(JUnit4.class)
+public class ErrorProneEventsTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** A checker that takes a while to not match anything. */
+  @BugPattern(summary = "Slow", severity = WARNING)
+  public static class SlowChecker extends BugChecker implements MethodTreeMatcher {
+    @Override
+    public Description matchMethod(MethodTree tree, VisitorState state) {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return NO_MATCH;
+    }
+  }
+
+  @Test
+  public void recordsEvents() throws IOException {
+    Path output = temporaryFolder.newFile("events.jfr").toPath();
+    try (Recording recording = new Recording()) {
+      recording.enable(ErrorProneEvents.Initialization.class);
+      recording.enable(ErrorProneEvents.CompilationUnit.class);
+      recording.enable(ErrorProneEvents.Checker.class).withThreshold(Duration.ofMillis(1));
+      recording.start();
+      CompilationTestHelper.newInstance(SlowChecker.class, getClass())
+          .addSourceLines(
+              "Test.java",
+              """
+              class Test {
+                void f() {}
+              }
+              """)
+          .doTest();
+      recording.stop();
+      recording.dump(output);
+    }
+
+    ImmutableList<RecordedEvent> events =
+        RecordingFile.readAllEvents(output).stream()
+            .filter(e -> e.getEventType().getName().startsWith("com.google.errorprone."))
+            .collect(toImmutableList());
+    assertThat(events.stream().map(e -> e.getEventType().getName()))
+        .containsAtLeast(
+            "com.google.errorprone.Initialization",
+            "com.google.errorprone.CompilationUnit",
+            "com.google.errorprone.Checker");
+    RecordedEvent checker =
+        events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.google.errorprone.Checker"))
+            .findFirst()
+            .orElseThrow();
+    assertThat(checker.getString("checker")).isEqualTo("SlowChecker");
+    assertThat(checker.getString("treeKind")).isEqualTo("METHOD");
+    assertThat(checker.getString("file")).endsWith("Test.java");
+  }
+}
@@ -55,6 +55,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -572,6 +573,114 @@ public class ErrorProneJavaCompilerTest {
             """);
   }
 
+  @Test
+  public void patchInPlace_writeBehind() throws IOException {
+    JavaFileObject first =
+        createOnDiskFileObject(
+            "First.java",
+            """
+            class First {
+              String s = "old-value";
+            }
+            """);
+    JavaFileObject second =
+        createOnDiskFileObject(
+            "Second.java",
+            """
+            class Second {
+              String s = "old-value";
+            }
+            """);
+
+    CompilationResult result =
+        doCompile(
+            ImmutableList.of(first, second),
+            Arrays.asList(
+                "-XepPatchChecks:",
+                "-XepPatchLocation:IN_PLACE",
+                "-XepOpt:PatchWriteBehindThreads=2"),
+            ImmutableList.of(AssignmentUpdater.class));
+    assertSucceeded(result);
+    assertThat(Files.readString(Path.of(first.toUri()))).contains("\"flag-not-set\"");
+    assertThat(Files.readString(Path.of(second.toUri()))).contains("\"flag-not-set\"");
+    assertThat(result.output)
+        .contains("Refactoring changes were successfully applied to " + first.toUri());
+    assertThat(result.output)
+        .contains("Refactoring changes were successfully applied to " + second.toUri());
+  }
+
+  @Test
+  public void patchInPlace_writeBehindQueueFull_compilerThreadWrites() throws IOException {
+    List<JavaFileObject> files = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      files.add(
+          createOnDiskFileObject(
+              "Test" + i + ".java",
+              String.format(
+                  """
+                  class Test%d {
+                    String s = "old-value";
+                  }
+                  """,
+                  i)));
+    }
+
+    // With one writer and room for one queued file, most files are written by the compiler
+    // thread.
+    CompilationResult result =
+        doCompile(
+            files,
+            Arrays.asList(
+                "-XepPatchChecks:",
+                "-XepPatchLocation:IN_PLACE",
+                "-XepOpt:PatchWriteBehindThreads=1",
+                "-XepOpt:PatchWriteBehindQueueSize=1"),
+            ImmutableList.of(AssignmentUpdater.class));
+    assertSucceeded(result);
+    for (JavaFileObject file : files) {
+      assertThat(Files.readString(Path.of(file.toUri()))).contains("\"flag-not-set\"");
+      assertThat(result.output)
+          .contains("Refactoring changes were successfully applied to " + file.toUri());
+    }
+  }
+
+  @Test
+  public void patchInPlace_writeBehindFailure_notReportedAsApplied() throws IOException {
+    JavaFileObject missing =
+        createOnDiskFileObject(
+            "Missing.java",
+            """
+            class Missing {
+              String s = "old-value";
+            }
+            """);
+    JavaFileObject present =
+        createOnDiskFileObject(
+            "Present.java",
+            """
+            class Present {
+              String s = "old-value";
+            }
+            """);
+    // The source is still compiled from memory, but the writer can't read it to apply the changes.
+    Files.delete(Path.of(missing.toUri()));
+
+    CompilationResult result =
+        doCompile(
+            ImmutableList.of(missing, present),
+            Arrays.asList(
+                "-XepPatchChecks:",
+                "-XepPatchLocation:IN_PLACE",
+                "-XepOpt:PatchWriteBehindThreads=1"),
+            ImmutableList.of(AssignmentUpdater.class));
+    assertSucceeded(result);
+    assertThat(Files.exists(Path.of(missing.toUri()))).isFalse();
+    assertThat(result.output).doesNotContain("successfully applied to " + missing.toUri());
+    assertThat(Files.readString(Path.of(present.toUri()))).contains("\"flag-not-set\"");
+    assertThat(result.output)
+        .contains("Refactoring changes were successfully applied to " + present.toUri());
+  }
+
   /**
    * Creates a {@link JavaFileObject} with matching on-disk contents.
    *
@@ -115,6 +115,56 @@ public class ErrorProneJavacPluginTest {
     assertThat(diagnostic.getMessage(ENGLISH)).contains("[CollectionIncompatibleType]");
   }
 
+  @Test
+  public void findingsOutput() throws IOException {
+    FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    Path source = fileSystem.getPath("Test.java");
+    Files.write(
+        source,
+        ImmutableList.of(
+            "package test;",
+            "import java.util.Set;",
+            "class Test {",
+            "  void f(Set<Short> s, short i) {",
+            "    s.remove(i - 1);",
+            "  }",
+            "}"),
+        UTF_8);
+    Path ndjson = temporaryFolder.newFile("findings.ndjson").toPath();
+    Path sarif = temporaryFolder.newFile("findings.sarif").toPath();
+    for (String args :
+        ImmutableList.of(
+            "-XepOpt:FindingsOutput=" + ndjson,
+            "-XepOpt:FindingsOutput=" + sarif + " -XepOpt:FindingsOutputFormat=SARIF")) {
+      JavacFileManager fileManager = new JavacFileManager(new Context(), false, UTF_8);
+      JavacTask task =
+          JavacTool.create()
+              .getTask(
+                  null,
+                  fileManager,
+                  new DiagnosticCollector<>(),
+                  ImmutableList.of(
+                      "-Xplugin:ErrorProne " + args,
+                      "-XDcompilePolicy=byfile",
+                      "--should-stop=ifError=FLOW",
+                      "-XDaddTypeAnnotationsToSymbol=true"),
+                  ImmutableList.of(),
+                  fileManager.getJavaFileObjects(source));
+      assertThat(task.call()).isFalse();
+    }
+    String finding = Files.readString(ndjson);
+    assertThat(finding).startsWith("{\"file\":");
+    assertThat(finding).contains("\"line\":5,\"column\":5,");
+    assertThat(finding).contains("\"check\":\"CollectionIncompatibleType\"");
+    assertThat(finding).contains("\"severity\":\"ERROR\"");
+    assertThat(finding.lines().count()).isEqualTo(1);
+    String log = Files.readString(sarif);
+    assertThat(log).startsWith("{\"version\":\"2.1.0\"");
+    assertThat(log).contains("\"ruleId\":\"CollectionIncompatibleType\",\"level\":\"error\"");
+    assertThat(log).contains("\"startLine\":5,\"startColumn\":5,");
+    assertThat(log.strip()).endsWith("]}]}");
+  }
+
   @Test
   public void applyFixes() throws IOException {
     // TODO(b/63064865): Test is broken on Windows.  Disable for now.
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.base.StandardSystemProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.bugpatterns.MissingOverride;
+import com.google.errorprone.scanner.ScannerSupplier;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link ShardedRefactoringDriver}Test */
+@RunWith(JUnit4.class)
+public class ShardedRefactoringDriverTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path workDir;
+  private Path patchDir;
+  private ImmutableList<Path> sources;
+  private ImmutableList<String> options;
+
+  @Before
+  public void setUp() throws IOException {
+    // TODO(b/63064865): Patch files are broken on Windows.
+    Assume.assumeFalse(StandardSystemProperty.OS_NAME.value().startsWith("Windows"));
+
+    workDir = temporaryFolder.newFolder().toPath();
+    patchDir = temporaryFolder.newFolder().toPath();
+    Path sourceDir = temporaryFolder.newFolder().toPath();
+    ImmutableList.Builder<Path> builder = ImmutableList.builder();
+    for (String name : ImmutableList.of("D", "A", "C", "B", "E")) {
+      Path source = sourceDir.resolve(name + ".java");
+      Files.write(
+          source,
+          ImmutableList.of(
+              "class " + name + " implements Runnable {", //
+              "  public void run() {}",
+              "}"),
+          UTF_8);
+      builder.add(source);
+    }
+    sources = builder.build();
+    options =
+        ImmutableList.of(
+            "-XepPatchChecks:MissingOverride",
+            "-XepPatchLocation:" + patchDir,
+            "-d",
+            temporaryFolder.newFolder().toString());
+  }
+
+  private ShardedRefactoringDriver driver() {
+    return new ShardedRefactoringDriver(
+        ScannerSupplier.fromBugCheckerClasses(MissingOverride.class),
+        workDir,
+        /* shards= */ 3,
+        /* threads= */ 2);
+  }
+
+  private static ImmutableList<String> patchedFiles(Path patchFile) throws IOException {
+    return Files.readAllLines(patchFile, UTF_8).stream()
+        .filter(l -> l.startsWith("--- "))
+        .map(l -> Paths.get(l.substring("--- ".length())).getFileName().toString())
+        .collect(toImmutableList());
+  }
+
+  @Test
+  public void mergesShardPatchesInOrder() throws IOException {
+    Path patchFile = driver().run(options, sources).orElseThrow();
+
+    assertThat(patchFile).isEqualTo(patchDir.resolve("error-prone.patch"));
+    assertThat(patchedFiles(patchFile))
+        .containsExactly("A.java", "B.java", "C.java", "D.java", "E.java")
+        .inOrder();
+  }
+
+  @Test
+  public void mergesShardPatchesIntoPatchFile() throws IOException {
+    Path target = temporaryFolder.newFolder().toPath().resolve("merged.patch");
+    ImmutableList<String> patchFileOptions =
+        ImmutableList.<String>builder()
+            .addAll(options)
+            .add("-XepOpt:" + RefactoringCollection.PATCH_FILE_FLAG + "=" + target)
+            .build();
+
+    Path patchFile = driver().run(patchFileOptions, sources).orElseThrow();
+
+    assertThat(patchFile).isEqualTo(target);
+    assertThat(patchedFiles(patchFile))
+        .containsExactly("A.java", "B.java", "C.java", "D.java", "E.java")
+        .inOrder();
+  }
+
+  @Test
+  public void relativePatchFile_fails() {
+    ImmutableList<String> patchFileOptions =
+        ImmutableList.<String>builder()
+            .addAll(options)
+            .add("-XepOpt:" + RefactoringCollection.PATCH_FILE_FLAG + "=merged.patch")
+            .build();
+
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class, () -> driver().run(patchFileOptions, sources));
+    assertThat(e).hasMessageThat().contains("must be an absolute path");
+  }
+
+  @Test
+  public void resumesAfterFailedShard() throws IOException {
+    Path broken = sources.stream().filter(p -> p.endsWith("E.java")).findFirst().orElseThrow();
+    String original = Files.readString(broken, UTF_8);
+    Files.writeString(broken, "class E {", UTF_8);
+
+    ShardedRefactoringDriver.ShardFailedException e =
+        assertThrows(
+            ShardedRefactoringDriver.ShardFailedException.class,
+            () -> driver().run(options, sources));
+    assertThat(e).hasMessageThat().contains("shard-00002");
+
+    // Once the last shard compiles, only it needs to be run again. The other shards are done, so
+    // breaking their sources doesn't matter.
+    Files.writeString(broken, original, UTF_8);
+    Path done = sources.stream().filter(p -> p.endsWith("A.java")).findFirst().orElseThrow();
+    Files.writeString(done, "class A {", UTF_8);
+
+    Path patchFile = driver().run(options, sources).orElseThrow();
+    assertThat(patchedFiles(patchFile))
+        .containsExactly("A.java", "B.java", "C.java", "D.java", "E.java")
+        .inOrder();
+  }
+
+  @Test
+  public void addDiffs_readsHunksByLineCounts() throws IOException {
+    Map<String, String> diffsByFile = new TreeMap<>();
+    ShardedRefactoringDriver.addDiffs(
+        "shard.patch",
+        ImmutableList.of(
+            "--- A.java",
+            "+++ A.java",
+            "@@ -1,2 +1,2 @@",
+            "--- x;",
+            "+++ x;",
+            " }",
+            "--- B.java",
+            "+++ B.java",
+            "@@ -1 +1 @@",
+            "-a",
+            "+b",
+            "\\ No newline at end of file"),
+        diffsByFile);
+
+    assertThat(diffsByFile.keySet()).containsExactly("A.java", "B.java").inOrder();
+    assertThat(diffsByFile.get("A.java")).endsWith("--- x;\n+++ x;\n }\n");
+  }
+
+  @Test
+  public void addDiffs_sameFileInTwoShards_fails() throws IOException {
+    ImmutableList<String> patch =
+        ImmutableList.of("--- A.java", "+++ A.java", "@@ -1 +1 @@", "-a", "+b");
+    Map<String, String> diffsByFile = new TreeMap<>();
+    ShardedRefactoringDriver.addDiffs("shard-0.patch", patch, diffsByFile);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> ShardedRefactoringDriver.addDiffs("shard-1.patch", patch, diffsByFile));
+  }
+
+  @Test
+  public void addDiffs_truncatedHunk_fails() {
+    IOException e =
+        assertThrows(
+            IOException.class,
+            () ->
+                ShardedRefactoringDriver.addDiffs(
+                    "shard.patch",
+                    ImmutableList.of("--- A.java", "+++ A.java", "@@ -1,2 +1,2 @@", "-a"),
+                    new TreeMap<>()));
+    assertThat(e).hasMessageThat().contains("shard.patch");
+  }
+
+  @Test
+  public void inPlace_interruptedShardIsNotRerun() throws IOException {
+    ImmutableList<String> inPlaceOptions =
+        ImmutableList.of(
+            "-XepPatchChecks:MissingOverride",
+            "-XepPatchLocation:IN_PLACE",
+            "-d",
+            temporaryFolder.newFolder().toString());
+    Path shardDir = Files.createDirectories(workDir.resolve("shard-00000"));
+    Files.writeString(shardDir.resolve("in-progress"), "", UTF_8);
+
+    ShardedRefactoringDriver.ShardFailedException e =
+        assertThrows(
+            ShardedRefactoringDriver.ShardFailedException.class,
+            () -> driver().run(inPlaceOptions, sources));
+    assertThat(e).hasMessageThat().contains("shard-00000 was interrupted");
+    // The other shards still ran.
+    Path b = sources.stream().filter(p -> p.endsWith("B.java")).findFirst().orElseThrow();
+    Path c = sources.stream().filter(p -> p.endsWith("C.java")).findFirst().orElseThrow();
+    assertThat(Files.readString(b, UTF_8)).doesNotContain("@Override");
+    assertThat(Files.readString(c, UTF_8)).contains("@Override");
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns;
+
+import com.google.errorprone.CompilationTestHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class CatastrophicBacktrackingTest {
+
+  private final CompilationTestHelper compilationHelper =
+      CompilationTestHelper.newInstance(CatastrophicBacktracking.class, getClass());
+
+  @Test
+  public void positive() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            import java.util.regex.Pattern;
+
+            class Test {
+              private static final String WORDS = "(\\\\s*\\\\w+)*";
+
+              void f(String s) {
+                // BUG: Diagnostic contains: `(a+)+`
+                s.matches("(a+)+");
+                // BUG: Diagnostic contains: `(a*)*`
+                s.split("x(a*)*");
+                // BUG: Diagnostic contains: `(\\s*\\w+)*`
+                Pattern.compile(WORDS);
+                // BUG: Diagnostic contains: `(?:[a-z]{2,}-?)+`
+                Pattern.compile("^(?:[a-z]{2,}-?)+$", Pattern.CASE_INSENSITIVE);
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void negative() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            import java.util.regex.Pattern;
+
+            class Test {
+              void f(String s) {
+                s.matches("(ab*)*");
+                s.matches("\\\\d+(\\\\.\\\\d+)*");
+                s.matches("(a{2,3})+");
+                s.matches("[(a+)+]");
+                s.matches("\\\\Q(a+)+\\\\E");
+                // Possessive quantifiers and atomic groups don't backtrack.
+                s.matches("(a+)++");
+                s.matches("(?>a+)+");
+                // Comments mode isn't analyzed.
+                Pattern.compile("(a+)+", Pattern.COMMENTS);
+                // Invalid patterns are reported by InvalidPatternSyntax.
+                s.matches("(a+)+(");
+              }
+            }
+            """)
+        .doTest();
+  }
+}
@@ -16,8 +16,15 @@
 
 package com.google.errorprone.bugpatterns;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.util.EffectSummaries;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
@@ -27,6 +34,8 @@ import org.junit.runners.JUnit4;
 @RunWith(JUnit4.class)
 public class NoAllocationCheckerTest {
 
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private final CompilationTestHelper compilationHelper =
       CompilationTestHelper.newInstance(NoAllocationChecker.class, getClass());
 
@@ -1086,4 +1095,130 @@ public class NoAllocationCheckerNegativeCases {
 """)
         .doTest();
   }
+
+  @Test
+  public void inferredCallees() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            import com.google.errorprone.annotations.NoAllocation;
+
+            class Test {
+              private int[] values;
+
+              @NoAllocation
+              int sum() {
+                return sumFrom(0);
+              }
+
+              private int sumFrom(int start) {
+                return start < values.length ? values[start] + sumFrom(start + 1) : 0;
+              }
+
+              @NoAllocation
+              int describe() {
+                // BUG: Diagnostic contains: Test.format() calls Test.concat(), which concatenates
+                return format();
+              }
+
+              private static int format() {
+                return concat("a", "b").length();
+              }
+
+              private static String concat(String a, String b) {
+                return a + b;
+              }
+
+              @NoAllocation
+              int overridable() {
+                // BUG: Diagnostic contains: can be overridden
+                return overridden();
+              }
+
+              int overridden() {
+                return 0;
+              }
+
+              @NoAllocation
+              int allowedInThrow(int x) {
+                return check(x);
+              }
+
+              private static int check(int x) {
+                if (x < 0) {
+                  throw new IllegalArgumentException("negative: " + x);
+                }
+                return x;
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void summariesFile() throws Exception {
+    Path file = temporaryFolder.newFile().toPath();
+    Files.writeString(file, "java.lang.Math#abs(int) ALLOCATION_FREE\n", UTF_8);
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            import com.google.errorprone.annotations.NoAllocation;
+
+            class Test {
+              @NoAllocation
+              int abs(int x) {
+                return Math.abs(x);
+              }
+
+              @NoAllocation
+              int max(int x, int y) {
+                // BUG: Diagnostic contains: Math.max() is not annotated @NoAllocation
+                return Math.max(x, y);
+              }
+            }
+            """)
+        .setArgs("-XepOpt:" + EffectSummaries.FLAG + "=" + file)
+        .doTest();
+  }
+
+  @Test
+  public void summaries_useBinaryNames() throws Exception {
+    Path file = temporaryFolder.newFile().toPath();
+    Files.writeString(
+        file,
+        """
+        java.util.AbstractMap$SimpleEntry#getKey() ALLOCATION_FREE
+        java.util.AbstractMap$SimpleEntry#getValue() ALLOCATION_FREE
+        """,
+        UTF_8);
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            import com.google.errorprone.annotations.NoAllocation;
+            import java.util.AbstractMap.SimpleEntry;
+
+            class Test {
+              @NoAllocation
+              Object value(SimpleEntry<String, String> e) {
+                return e.getValue();
+              }
+
+              @NoAllocation
+              Object key(SimpleEntry<String, String> e) {
+                return e.getKey();
+              }
+
+              @NoAllocation
+              Object set(SimpleEntry<String, String> e, String v) {
+                // BUG: Diagnostic contains: SimpleEntry.setValue() can be overridden
+                return e.setValue(v);
+              }
+            }
+            """)
+        .setArgs("-XepOpt:" + EffectSummaries.FLAG + "=" + file)
+        .doTest();
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** {@link FormatStringParser}Test */
+@RunWith(JUnit4.class)
+public class FormatStringParserTest {
+
+  private static boolean isKnownValid(String formatString, Object... arguments) {
+    return FormatStringParser.isKnownValid(formatString, arguments);
+  }
+
+  @Test
+  public void valid() {
+    assertThat(isKnownValid("no specifiers")).isTrue();
+    assertThat(isKnownValid("100%% %n")).isTrue();
+    assertThat(isKnownValid("%s %d %x %c", "a", 1, 2L, 'c')).isTrue();
+    assertThat(isKnownValid("%-10s|%05d|%,.2f", "a", BigInteger.ONE, BigDecimal.TEN)).isTrue();
+    assertThat(isKnownValid("%2$s %1$s %<s", "a", "b")).isTrue();
+    assertThat(isKnownValid("%d", (Object) null)).isTrue();
+  }
+
+  @Test
+  public void invalid() {
+    assertThat(isKnownValid("%s %s", "a")).isFalse();
+    assertThat(isKnownValid("%s", "a", "b")).isFalse();
+    assertThat(isKnownValid("%d", "a")).isFalse();
+    assertThat(isKnownValid("%-d", 1)).isFalse();
+    assertThat(isKnownValid("%.2d", 1)).isFalse();
+    assertThat(isKnownValid("%c", 0x110000)).isFalse();
+    assertThat(isKnownValid("%l", 1)).isFalse();
+    assertThat(isKnownValid("%", 1)).isFalse();
+    assertThat(isKnownValid("%99999999999s", "a")).isFalse();
+    assertThat(isKnownValid("%.99999999999s", "a")).isFalse();
+    assertThat(isKnownValid("%99999999999$s", "a")).isFalse();
+  }
+
+  @Test
+  public void unsupported_leftToFormatter() {
+    // Valid, but not recognized by the parser.
+    assertThat(isKnownValid("%tY", new Date())).isFalse();
+    assertThat(isKnownValid("%a", 1.0)).isFalse();
+  }
+}
@@ -16,17 +16,26 @@
 
 package com.google.errorprone.scanner;
 
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.util.ASTHelpers.getSymbol;
+import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.CompilationTestHelper;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTokensMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.IdentifierTreeMatcher;
+import com.google.errorprone.fixes.FixedPosition;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.util.CompilationUnitTokens;
+import com.google.errorprone.util.ErrorProneComment;
+import com.google.errorprone.util.ErrorProneToken;
+import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.IdentifierTree;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -106,6 +115,135 @@ public class ScannerTest {
         .doTest();
   }
 
+  @Test
+  public void tokensMatchers_shareTokens() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(FixmeComment.class, TodoComment.class),
+            getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: FixmeComment
+              // FIXME: one
+              int x;
+
+              // BUG: Diagnostic contains: TodoComment
+              // TODO: two
+              int y;
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void tokensMatchers_suppressedInGeneratedCode() {
+    CompilationTestHelper.newInstance(FixmeComment.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            import javax.annotation.processing.Generated;
+
+            @Generated("generator")
+            class Test {
+              // FIXME: one
+              int x;
+            }
+            """)
+        .setArgs("-XepDisableWarningsInGeneratedCode")
+        .doTest();
+  }
+
+  @Test
+  public void tokensMatchers_suppressedByDisablingCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(FixmeComment.class, TodoComment.class),
+            getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // FIXME: one
+              int x;
+
+              // BUG: Diagnostic contains: TodoComment
+              // TODO: two
+              int y;
+            }
+            """)
+        .setArgs("-Xep:FixmeComment:OFF")
+        .doTest();
+  }
+
+  @Test
+  public void tokensMatchers_crash() {
+    CompilationTestHelper compilationHelper =
+        CompilationTestHelper.newInstance(
+                ScannerSupplier.fromBugCheckerClasses(FixmeComment.class, CrashingTokens.class),
+                getClass())
+            .addSourceLines(
+                "Test.java",
+                """
+                class Test {
+                  // FIXME: one
+                  int x;
+                }
+                """);
+    AssertionError e = assertThrows(AssertionError.class, compilationHelper::doTest);
+    assertThat(e)
+        .hasMessageThat()
+        .contains("An unhandled exception was thrown by the Error Prone static analysis plugin.");
+    assertThat(e).hasMessageThat().contains("BugPattern: CrashingTokens");
+    assertThat(e).hasMessageThat().contains("crashed on purpose");
+  }
+
+  /** Reports comments that contain the given marker. */
+  abstract static class CommentMarkerChecker extends BugChecker
+      implements CompilationUnitTokensMatcher {
+    private final String marker;
+
+    CommentMarkerChecker(String marker) {
+      this.marker = marker;
+    }
+
+    @Override
+    public Description matchCompilationUnitTokens(
+        CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
+      for (ErrorProneToken token : tokens.tokens()) {
+        for (ErrorProneComment comment : token.comments()) {
+          if (comment.getText().contains(marker)) {
+            state.reportMatch(describeMatch(new FixedPosition(tree, comment.getSourcePos(0))));
+          }
+        }
+      }
+      return NO_MATCH;
+    }
+  }
+
+  @BugPattern(summary = "FIXME comment", severity = WARNING)
+  public static final class FixmeComment extends CommentMarkerChecker {
+    public FixmeComment() {
+      super("FIXME");
+    }
+  }
+
+  @BugPattern(summary = "TODO comment", severity = WARNING)
+  public static final class TodoComment extends CommentMarkerChecker {
+    public TodoComment() {
+      super("TODO");
+    }
+  }
+
+  @BugPattern(summary = "Crashes", severity = ERROR)
+  public static final class CrashingTokens extends BugChecker
+      implements CompilationUnitTokensMatcher {
+    @Override
+    public Description matchCompilationUnitTokens(
+        CompilationUnitTree tree, CompilationUnitTokens tokens, VisitorState state) {
+      throw new IllegalStateException("crashed on purpose");
+    }
+  }
+
   @OkToUseFoo // Foo can use itself. But this shouldn't suppress errors on *usages* of Foo.
   public static final class Foo<T> {}
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BugPattern.SeverityLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+
+/**
+ * The metadata of a checker, as written to the checker index.
+ *
+ * <p>Each line of the index is a tab-separated entry for one checker: its binary class name,
+ * canonical name, alternate names, summary, default severity, link URL (empty if there is none),
+ * whether it can be suppressed with {@code @SuppressWarnings}, the binary names of its other
+ * suppression annotations, its tags, and whether it can be disabled. Lists are comma-separated.
+ * This must be kept in sync with {@code com.google.errorprone.BugCheckerIndex}, which reads it.
+ */
+record BugCheckerIndexEntry(
+    String className,
+    String canonicalName,
+    List<String> altNames,
+    String summary,
+    SeverityLevel severity,
+    String linkUrl,
+    boolean supportsSuppressWarnings,
+    List<String> customSuppressionAnnotations,
+    List<String> tags,
+    boolean disableable) {
+
+  /** The class path resource that the index is written to. */
+  static final String RESOURCE = "META-INF/errorprone/bugcheckers.index";
+
+  private static final Joiner LIST_JOINER = Joiner.on(',');
+
+  /**
+   * Returns the entry for a checker class, or empty if the class can't be instantiated or its
+   * {@code @BugPattern} is invalid, in which case the checker is left to be validated at runtime.
+   */
+  static Optional<BugCheckerIndexEntry> fromElement(Element element, ProcessingEnvironment env) {
+    if (!(element instanceof TypeElement type)
+        || type.getModifiers().contains(Modifier.ABSTRACT)
+        || type.getKind().isInterface()) {
+      return Optional.empty();
+    }
+    BugPattern pattern = type.getAnnotation(BugPattern.class);
+    try {
+      BugPatternValidator.validate(pattern);
+    } catch (ValidationException e) {
+      return Optional.empty();
+    }
+    String canonicalName =
+        pattern.name().isEmpty() ? type.getSimpleName().toString() : pattern.name();
+    String linkUrl =
+        switch (pattern.linkType()) {
+          case AUTOGENERATED -> "https://errorprone.info/bugpattern/" + canonicalName;
+          case CUSTOM -> pattern.link();
+          case NONE -> "";
+        };
+    boolean supportsSuppressWarnings = false;
+    List<String> customSuppressionAnnotations = new ArrayList<>();
+    for (TypeElement annotation : suppressionAnnotations(type, env)) {
+      if (annotation.getSimpleName().contentEquals("SuppressWarnings")) {
+        supportsSuppressWarnings = true;
+      } else {
+        customSuppressionAnnotations.add(
+            env.getElementUtils().getBinaryName(annotation).toString());
+      }
+    }
+    return Optional.of(
+        new BugCheckerIndexEntry(
+            env.getElementUtils().getBinaryName(type).toString(),
+            canonicalName,
+            ImmutableList.copyOf(pattern.altNames()),
+            pattern.summary(),
+            pattern.severity(),
+            linkUrl,
+            supportsSuppressWarnings,
+            customSuppressionAnnotations,
+            ImmutableList.copyOf(pattern.tags()),
+            pattern.disableable()));
+  }
+
+  /** Returns the {@code suppressionAnnotations} of the checker's {@code @BugPattern}. */
+  private static ImmutableList<TypeElement> suppressionAnnotations(
+      TypeElement type, ProcessingEnvironment env) {
+    for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+      if (!((TypeElement) mirror.getAnnotationType().asElement())
+          .getQualifiedName()
+          .contentEquals(BugPattern.class.getName())) {
+        continue;
+      }
+      for (ExecutableElement key : mirror.getElementValues().keySet()) {
+        if (key.getSimpleName().contentEquals("suppressionAnnotations")) {
+          @SuppressWarnings("unchecked") // Always a List<? extends AnnotationValue> for arrays.
+          List<? extends AnnotationValue> values =
+              (List<? extends AnnotationValue>) mirror.getElementValues().get(key).getValue();
+          return values.stream()
+              .map(v -> (TypeElement) ((DeclaredType) v.getValue()).asElement())
+              .collect(ImmutableList.toImmutableList());
+        }
+      }
+    }
+    // The default is {SuppressWarnings.class}.
+    return ImmutableList.of(
+        env.getElementUtils().getTypeElement(SuppressWarnings.class.getCanonicalName()));
+  }
+
+  String toLine() {
+    return Joiner.on('\t')
+        .join(
+            className,
+            canonicalName,
+            LIST_JOINER.join(altNames),
+            escape(summary),
+            severity.name(),
+            linkUrl,
+            supportsSuppressWarnings,
+            LIST_JOINER.join(customSuppressionAnnotations),
+            LIST_JOINER.join(tags),
+            disableable);
+  }
+
+  private static String escape(String s) {
+    return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+  }
+}
@@ -29,6 +29,7 @@ import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
@@ -44,6 +45,10 @@ import javax.tools.StandardLocation;
  * Annotation processor which visits all classes that have a {@code BugPattern} annotation, and
  * writes a tab-delimited text file dumping the data found.
  *
+ * <p>It also writes {@value BugCheckerIndexEntry#RESOURCE} to the class output, an index of the
+ * metadata of every concrete checker that {@code BugCheckerInfo} reads instead of reflecting over
+ * the checker's annotation at runtime.
+ *
  * @author eaftan@google.com (Eddie Aftandilian)
  * @author alexeagle@google.com (Alex Eagle)
  */
@@ -58,6 +63,8 @@ public class DocGenProcessor extends AbstractProcessor {
 
   private final Map<String, BugPatternInstance> bugPatterns = new HashMap<>();
 
+  private final Map<String, String> indexEntries = new TreeMap<>();
+
   /** {@inheritDoc} */
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -70,6 +77,8 @@ public class DocGenProcessor extends AbstractProcessor {
     for (Element element : roundEnv.getElementsAnnotatedWith(BugPattern.class)) {
       BugPatternInstance bugPattern = BugPatternInstance.fromElement(element);
       bugPatterns.put(bugPattern.name, bugPattern);
+      BugCheckerIndexEntry.fromElement((TypeElement) element, processingEnv)
+          .ifPresent(entry -> indexEntries.put(entry.className(), entry.toLine()));
     }
 
     if (roundEnv.processingOver()) {
@@ -90,6 +99,15 @@ public class DocGenProcessor extends AbstractProcessor {
                     pw.println();
                   });
         }
+        FileObject index =
+            processingEnv
+                .getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", BugCheckerIndexEntry.RESOURCE);
+        try (OutputStream os = index.openOutputStream();
+            PrintWriter pw =
+                new PrintWriter(new BufferedWriter(new OutputStreamWriter(os, UTF_8)))) {
+          indexEntries.values().forEach(pw::println);
+        }
       } catch (IOException e) {
         throw new UncheckedIOException(e);
       }
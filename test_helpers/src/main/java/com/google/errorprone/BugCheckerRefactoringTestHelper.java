@@ -19,6 +19,7 @@ package com.google.errorprone;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Streams.stream;
 import static com.google.common.truth.Truth.assertAbout;
 import static com.google.common.truth.Truth.assertThat;
@@ -31,23 +32,28 @@ import static org.junit.Assert.fail;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.CheckReturnValue;
+import com.google.errorprone.annotations.Immutable;
 import com.google.errorprone.apply.DescriptionBasedDiff;
 import com.google.errorprone.apply.ImportOrganizer;
 import com.google.errorprone.apply.SourceFile;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.fixes.Fix;
+import com.google.errorprone.matchers.Matcher;
 import com.google.errorprone.scanner.ErrorProneScanner;
 import com.google.errorprone.scanner.ErrorProneScannerTransformer;
 import com.google.errorprone.scanner.Scanner;
 import com.google.errorprone.scanner.ScannerSupplier;
+import com.google.errorprone.suppliers.Supplier;
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.ImportOrderer;
@@ -67,15 +73,25 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
 
 /**
  * Compare a file transformed as suggested by {@link BugChecker} to an expected source.
@@ -285,6 +301,13 @@ public final class BugCheckerRefactoringTestHelper {
     return this;
   }
 
+  /**
+   * Returns a new {@link Batch} of test cases that share this helper's checker and configuration.
+   */
+  public Batch batch() {
+    return new Batch(this);
+  }
+
   /**
    * Runs the test.
    *
@@ -308,12 +331,7 @@ public final class BugCheckerRefactoringTestHelper {
   public void doTest(TestMode testMode) {
     checkState(!run, "doTest should only be called once");
 
-    String depsForTestInputs = System.getProperty("com.google.errorprone.deps_for_test_inputs");
-    if (depsForTestInputs != null) {
-      options =
-          ImmutableList.<String>builder().addAll(options).add("-cp").add(depsForTestInputs).build();
-    }
-
+    addDepsForTestInputs();
     this.run = true;
     for (Map.Entry<JavaFileObject, JavaFileObject> entry : sources.entrySet()) {
       try {
@@ -324,6 +342,14 @@ public final class BugCheckerRefactoringTestHelper {
     }
   }
 
+  private void addDepsForTestInputs() {
+    String depsForTestInputs = System.getProperty("com.google.errorprone.deps_for_test_inputs");
+    if (depsForTestInputs != null) {
+      options =
+          ImmutableList.<String>builder().addAll(options).add("-cp").add(depsForTestInputs).build();
+    }
+  }
+
   @CanIgnoreReturnValue
   private BugCheckerRefactoringTestHelper addInputAndOutput(
       JavaFileObject input, JavaFileObject output) {
@@ -365,6 +391,32 @@ public final class BugCheckerRefactoringTestHelper {
       Context context,
       DiagnosticCollector<JavaFileObject> diagnosticsCollector)
       throws IOException {
+    StringWriter out = new StringWriter();
+    ImmutableMap<URI, JCCompilationUnit> byUri =
+        compileAll(files, context, diagnosticsCollector, out);
+    URI inputUri = input.toUri();
+    assertWithMessage("%s%s", out, Joiner.on('\n').join(diagnosticsCollector.getDiagnostics()))
+        .that(byUri)
+        .containsKey(inputUri);
+    JCCompilationUnit tree = byUri.get(inputUri);
+    return tree;
+  }
+
+  private ImmutableMap<URI, JCCompilationUnit> compileAll(
+      Iterable<JavaFileObject> files,
+      Context context,
+      DiagnosticCollector<JavaFileObject> diagnosticsCollector)
+      throws IOException {
+    return compileAll(files, context, diagnosticsCollector, new StringWriter());
+  }
+
+  /** Parses and attributes {@code files}, and returns their trees by source file URI. */
+  private ImmutableMap<URI, JCCompilationUnit> compileAll(
+      Iterable<JavaFileObject> files,
+      Context context,
+      DiagnosticCollector<JavaFileObject> diagnosticsCollector,
+      StringWriter out)
+      throws IOException {
     JavacTool tool = JavacTool.create();
     ErrorProneOptions errorProneOptions;
     try {
@@ -373,7 +425,6 @@ public final class BugCheckerRefactoringTestHelper {
       throw new IllegalArgumentException("Exception during argument processing: " + e);
     }
     context.put(ErrorProneOptions.class, errorProneOptions);
-    StringWriter out = new StringWriter();
     JavacTaskImpl task =
         (JavacTaskImpl)
             tool.getTask(
@@ -386,14 +437,8 @@ public final class BugCheckerRefactoringTestHelper {
                 context);
     Iterable<? extends CompilationUnitTree> trees = task.parse();
     task.analyze();
-    ImmutableMap<URI, ? extends CompilationUnitTree> byUri =
-        stream(trees).collect(toImmutableMap(t -> t.getSourceFile().toUri(), t -> t));
-    URI inputUri = input.toUri();
-    assertWithMessage("%s%s", out, Joiner.on('\n').join(diagnosticsCollector.getDiagnostics()))
-        .that(byUri)
-        .containsKey(inputUri);
-    JCCompilationUnit tree = (JCCompilationUnit) byUri.get(inputUri);
-    return tree;
+    return stream(trees)
+        .collect(toImmutableMap(t -> t.getSourceFile().toUri(), t -> (JCCompilationUnit) t));
   }
 
   private static void handleDiagnostics(DiagnosticCollector<JavaFileObject> diagnosticsCollector) {
@@ -416,8 +461,8 @@ public final class BugCheckerRefactoringTestHelper {
               new TreePath(tree),
               context,
               description -> {
-                if (!description.fixes.isEmpty()) {
-                  diff.handleFix(description, fixChooser.choose(description.fixes));
+                if (!description.fixes().isEmpty()) {
+                  diff.handleFix(description, fixChooser.choose(description.fixes()));
                 }
               });
     } catch (ErrorProneError e) {
@@ -481,6 +526,342 @@ public final class BugCheckerRefactoringTestHelper {
     }
   }
 
+  /**
+   * A set of independent test cases for the same checker, which are compiled together in a single
+   * javac task instead of one task per case.
+   *
+   * <p>Each case's sources are moved into a package of their own for the batched compilation, so
+   * cases can declare classes with the same names. The refactored sources are moved back before
+   * they are compared with the expected output. Cases that declare a package, or that were
+   * reconfigured after {@link #addCase}, are run on their own.
+   *
+   * <p>If the batched compilation of a case fails for any reason, the case is re-run on its own
+   * before the failure is reported, so a failing case reports the same error it would outside of a
+   * batch. Cases that pass in the batch aren't re-run, so batching assumes that a case's result
+   * doesn't depend on its package or on the other cases:
+   *
+   * <ul>
+   *   <li>All cases share one instance of each checker, so cases are only batched if the
+   *       checkers' instance fields are final and of immutable types. Checkers with other instance
+   *       fields, and checkers that are passed as instances, run each case on its own.
+   *   <li>Checkers whose findings or fixes depend on the name of the package, or on the default
+   *       package, can pass in the batch and fail on their own, and shouldn't use a batch.
+   * </ul>
+   *
+   * <pre>{@code
+   * BugCheckerRefactoringTestHelper.Batch batch =
+   *     BugCheckerRefactoringTestHelper.newInstance(MyChecker.class, getClass()).batch();
+   * batch.addCase("positive").addInputLines("Test.java", ...).addOutputLines("Test.java", ...);
+   * batch.addCase("negative").addInputLines("Test.java", ...).expectUnchanged();
+   * batch.doTest();
+   * }</pre>
+   */
+  public static final class Batch {
+    private static final Pattern PACKAGE_DECLARATION =
+        Pattern.compile("^\\s*package\\s", Pattern.MULTILINE);
+
+    private final BugCheckerRefactoringTestHelper template;
+    private final Map<String, BugCheckerRefactoringTestHelper> cases = new LinkedHashMap<>();
+    private boolean run = false;
+
+    private Batch(BugCheckerRefactoringTestHelper template) {
+      this.template = template;
+    }
+
+    /**
+     * Adds a test case with the given name, which is used to report its failures. Add the inputs
+     * and expected outputs of the case to the returned helper, but run it with {@link #doTest}.
+     */
+    public BugCheckerRefactoringTestHelper addCase(String name) {
+      checkState(!cases.containsKey(name), "Duplicate test case: %s", name);
+      BugCheckerRefactoringTestHelper testCase = copyTemplate();
+      cases.put(name, testCase);
+      return testCase;
+    }
+
+    private BugCheckerRefactoringTestHelper copyTemplate() {
+      BugCheckerRefactoringTestHelper copy =
+          new BugCheckerRefactoringTestHelper(template.clazz, template.scannerSupplier);
+      copy.fixChooser = template.fixChooser;
+      copy.options = template.options;
+      copy.allowBreakingChanges = template.allowBreakingChanges;
+      copy.allowFormattingErrors = template.allowFormattingErrors;
+      copy.importOrder = template.importOrder;
+      return copy;
+    }
+
+    /** Runs all test cases, comparing outputs with {@link TestMode#TEXT_MATCH}. */
+    public void doTest() {
+      checkState(!run, "doTest should only be called once");
+      checkState(!cases.isEmpty(), "No test cases to run");
+      run = true;
+
+      Map<String, BugCheckerRefactoringTestHelper> batched = new LinkedHashMap<>();
+      List<String> individual = new ArrayList<>();
+      cases.forEach(
+          (name, testCase) -> {
+            if (isBatchable(testCase)) {
+              batched.put(name, testCase);
+            } else {
+              individual.add(name);
+            }
+          });
+      if (batched.size() > 1 && hasStatelessCheckers()) {
+        individual.addAll(runBatched(batched));
+      } else {
+        individual.addAll(batched.keySet());
+      }
+
+      Map<String, Throwable> failures = new LinkedHashMap<>();
+      for (String name : individual) {
+        try {
+          cases.get(name).doTest();
+        } catch (RuntimeException | AssertionError e) {
+          failures.put(name, e);
+        }
+      }
+      if (failures.size() == 1) {
+        Map.Entry<String, Throwable> failure = getOnlyElement(failures.entrySet());
+        throw new AssertionError("Test case " + failure.getKey() + " failed", failure.getValue());
+      }
+      if (!failures.isEmpty()) {
+        AssertionError error =
+            new AssertionError(
+                String.format(
+                    "%d of %d test cases failed: %s",
+                    failures.size(), cases.size(), failures.keySet()));
+        failures.forEach(
+            (name, failure) ->
+                error.addSuppressed(new AssertionError("Test case " + name + " failed", failure)));
+        throw error;
+      }
+    }
+
+    private boolean isBatchable(BugCheckerRefactoringTestHelper testCase) {
+      if (testCase.run
+          || testCase.sources.isEmpty()
+          || testCase.fixChooser != template.fixChooser
+          || !testCase.options.equals(template.options)
+          || testCase.allowBreakingChanges != template.allowBreakingChanges
+          || testCase.allowFormattingErrors != template.allowFormattingErrors
+          || !testCase.importOrder.equals(template.importOrder)) {
+        return false;
+      }
+      for (Map.Entry<JavaFileObject, JavaFileObject> entry : testCase.sources.entrySet()) {
+        if (!isRelocatable(entry.getKey()) || !isRelocatable(entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Returns true if the checkers can be shared between cases: their instance fields can't carry
+     * state from one compilation unit to the next.
+     */
+    private boolean hasStatelessCheckers() {
+      ImmutableBiMap<String, BugCheckerInfo> checkers;
+      try {
+        checkers = template.scannerSupplier.getAllChecks();
+      } catch (UnsupportedOperationException e) {
+        // The checkers of a scanner instance can't be inspected.
+        return false;
+      }
+      return checkers.values().stream().allMatch(c -> isStateless(c.checkerClass()));
+    }
+
+    private static boolean isStateless(Class<?> checker) {
+      for (Class<?> c = checker; c != null && c != BugChecker.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (!Modifier.isStatic(modifiers)
+              && (!Modifier.isFinal(modifiers) || !isImmutable(field.getType()))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    private static final ImmutableSet<Class<?>> IMMUTABLE_TYPES =
+        ImmutableSet.of(
+            String.class,
+            Pattern.class,
+            Optional.class,
+            ImmutableCollection.class,
+            ImmutableMap.class,
+            ImmutableMultimap.class,
+            Matcher.class,
+            Supplier.class);
+
+    private static boolean isImmutable(Class<?> type) {
+      return type.isPrimitive()
+          || type.isEnum()
+          || type.isAnnotationPresent(Immutable.class)
+          || IMMUTABLE_TYPES.stream().anyMatch(t -> t.isAssignableFrom(type));
+    }
+
+    private static boolean isRelocatable(JavaFileObject source) {
+      if (!source.isNameCompatible("package-info", Kind.SOURCE)
+          && !source.isNameCompatible("module-info", Kind.SOURCE)) {
+        return !PACKAGE_DECLARATION.matcher(content(source)).find();
+      }
+      return false;
+    }
+
+    /**
+     * Compiles and refactors the given cases in a single task, and returns the names of the cases
+     * that didn't pass and need to be re-run on their own.
+     */
+    private ImmutableSet<String> runBatched(Map<String, BugCheckerRefactoringTestHelper> batched) {
+      BugCheckerRefactoringTestHelper compiler = copyTemplate();
+      compiler.addDepsForTestInputs();
+      Set<String> rerun = new LinkedHashSet<>();
+      Map<URI, String> caseByUri = new HashMap<>();
+      Map<String, List<RelocatedPair>> pairsByCase = new LinkedHashMap<>();
+      int index = 0;
+      for (Map.Entry<String, BugCheckerRefactoringTestHelper> entry : batched.entrySet()) {
+        String packageName = "batch_case" + index++;
+        List<RelocatedPair> pairs = new ArrayList<>();
+        for (Map.Entry<JavaFileObject, JavaFileObject> pair :
+            entry.getValue().sources.entrySet()) {
+          RelocatedPair relocated =
+              new RelocatedPair(
+                  relocate(pair.getKey(), packageName),
+                  relocate(pair.getValue(), packageName),
+                  pair.getValue(),
+                  packageName);
+          caseByUri.put(relocated.input().toUri(), entry.getKey());
+          caseByUri.put(relocated.output().toUri(), entry.getKey());
+          pairs.add(relocated);
+        }
+        pairsByCase.put(entry.getKey(), pairs);
+      }
+
+      try {
+        Context context = new Context();
+        setupMessageBundle(context);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        ImmutableMap<URI, JCCompilationUnit> trees =
+            compiler.compileAll(
+                pairsByCase.values().stream()
+                    .flatMap(List::stream)
+                    .map(RelocatedPair::input)
+                    .collect(toImmutableList()),
+                context,
+                diagnostics);
+        if (!errorCases(diagnostics, caseByUri).isEmpty()) {
+          // An error in one compilation unit can stop the analysis of the others.
+          return ImmutableSet.copyOf(batched.keySet());
+        }
+        pairsByCase.forEach(
+            (name, pairs) -> {
+              for (RelocatedPair pair : pairs) {
+                if (!refactorsAsExpected(
+                    compiler, pair, trees.get(pair.input().toUri()), context)) {
+                  rerun.add(name);
+                }
+              }
+            });
+        closeCompiler(context);
+
+        if (!template.allowBreakingChanges) {
+          Context outputContext = new Context();
+          DiagnosticCollector<JavaFileObject> outputDiagnostics = new DiagnosticCollector<>();
+          compiler.compileAll(
+              pairsByCase.entrySet().stream()
+                  .filter(e -> !rerun.contains(e.getKey()))
+                  .flatMap(e -> e.getValue().stream())
+                  .map(RelocatedPair::output)
+                  .collect(toImmutableList()),
+              outputContext,
+              outputDiagnostics);
+          closeCompiler(outputContext);
+          rerun.addAll(errorCases(outputDiagnostics, caseByUri));
+        }
+      } catch (RuntimeException | AssertionError | IOException e) {
+        return ImmutableSet.copyOf(batched.keySet());
+      }
+      return ImmutableSet.copyOf(rerun);
+    }
+
+    private boolean refactorsAsExpected(
+        BugCheckerRefactoringTestHelper compiler,
+        RelocatedPair pair,
+        JCCompilationUnit tree,
+        Context context) {
+      try {
+        String packagePrefix = pair.packageName() + ".";
+        String prefix = packageDeclaration(pair.packageName());
+        String transformed =
+            compiler.applyDiff(pair.input(), context, tree).getCharContent(false).toString();
+        String name = getFullyQualifiedName(tree);
+        if (!transformed.startsWith(prefix) || !name.startsWith(packagePrefix)) {
+          return false;
+        }
+        TestMode.TEXT_MATCH.verifyMatch(
+            JavaFileObjects.forSourceString(
+                name.substring(packagePrefix.length()), transformed.substring(prefix.length())),
+            pair.expected(),
+            template.allowFormattingErrors);
+        return true;
+      } catch (RuntimeException | AssertionError | IOException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Returns the cases with error diagnostics, or all cases if an error can't be attributed to a
+     * single case.
+     */
+    private static ImmutableSet<String> errorCases(
+        DiagnosticCollector<JavaFileObject> diagnostics, Map<URI, String> caseByUri) {
+      ImmutableSet.Builder<String> result = ImmutableSet.builder();
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+          continue;
+        }
+        String name =
+            diagnostic.getSource() == null ? null : caseByUri.get(diagnostic.getSource().toUri());
+        if (name == null) {
+          return ImmutableSet.copyOf(caseByUri.values());
+        }
+        result.add(name);
+      }
+      return result.build();
+    }
+
+    private static String packageDeclaration(String packageName) {
+      return "package " + packageName + ";\n";
+    }
+
+    /**
+     * Moves a source file without a package declaration into the given package. The declaration
+     * is added on a line of its own, so it can be removed again from the refactored source.
+     */
+    private static JavaFileObject relocate(JavaFileObject source, String packageName) {
+      String content = packageDeclaration(packageName) + content(source);
+      URI uri = URI.create("file:///" + packageName + source.toUri().getPath());
+      return new SimpleJavaFileObject(uri, Kind.SOURCE) {
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+          return content;
+        }
+      };
+    }
+
+    private static String content(JavaFileObject source) {
+      try {
+        return source.getCharContent(false).toString();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private record RelocatedPair(
+        JavaFileObject input, JavaFileObject output, JavaFileObject expected, String packageName) {}
+  }
+
   private static void closeCompiler(Context context) {
     JavaCompiler compiler = context.get(JavaCompiler.compilerKey);
     if (compiler != null) {
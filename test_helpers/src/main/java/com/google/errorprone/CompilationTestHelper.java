@@ -35,6 +35,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.CheckReturnValue;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.tools.javac.api.JavacTaskPool;
 import com.sun.tools.javac.api.JavacTool;
 import com.sun.tools.javac.main.Main.Result;
 import java.io.BufferedWriter;
@@ -75,6 +76,22 @@ public final class CompilationTestHelper {
           "-Xmaxwarns",
           "500");
 
+  /**
+   * If this system property is set to {@code true}, test compilations run in compiler contexts that
+   * are reused across tests, instead of in a fresh context for every test. Platform and classpath
+   * symbols are then only completed once per context, which speeds up large test suites.
+   *
+   * <p>Symbols for the test sources are discarded after each compilation, and Error Prone's own
+   * state is never shared between compilations. Compilations with different arguments use
+   * different contexts. Each context is used by one compilation at a time, so tests may run in
+   * parallel.
+   */
+  static final String REUSE_COMPILER_CONTEXTS_PROPERTY =
+      "com.google.errorprone.reuse_compiler_contexts";
+
+  private static final JavacTaskPool COMPILER_CONTEXTS =
+      new JavacTaskPool(Runtime.getRuntime().availableProcessors());
+
   private final DiagnosticTestHelper diagnosticHelper;
   private final BaseErrorProneJavaCompiler compiler;
   private final ByteArrayOutputStream outputStream;
@@ -372,11 +389,24 @@ public final class CompilationTestHelper {
 
   private Result compile() {
     List<String> processedArgs = buildArguments(overrideClasspath, extraArgs);
+    PrintWriter out =
+        new PrintWriter(
+            new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)),
+            /* autoFlush= */ true);
+    if (Boolean.getBoolean(REUSE_COMPILER_CONTEXTS_PROPERTY)) {
+      return compiler.runPooledTask(
+          COMPILER_CONTEXTS,
+          out,
+          FileManagers.testFileManager(),
+          diagnosticHelper.collector,
+          /* options= */ ImmutableList.copyOf(processedArgs),
+          /* classes= */ ImmutableList.of(),
+          sources,
+          task -> task.call() ? Result.OK : Result.ERROR);
+    }
     return compiler
             .getTask(
-                new PrintWriter(
-                    new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)),
-                    /* autoFlush= */ true),
+                out,
                 FileManagers.testFileManager(),
                 diagnosticHelper.collector,
                 /* options= */ ImmutableList.copyOf(processedArgs),
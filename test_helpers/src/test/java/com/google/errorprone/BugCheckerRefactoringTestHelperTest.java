@@ -35,6 +35,9 @@ import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.ReturnTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -232,6 +235,222 @@ public class BugCheckerRefactoringTestHelperTest {
         .doTest();
   }
 
+  @Test
+  public void batch() {
+    BugCheckerRefactoringTestHelper.Batch batch = helper.batch();
+    batch
+        .addCase("replace")
+        .addInputLines(
+            "in/Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return 1;
+              }
+            }
+            """)
+        .addOutputLines(
+            "out/Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return null;
+              }
+            }
+            """);
+    batch
+        .addCase("noMatch")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public void foo() {}
+            }
+            """)
+        .expectUnchanged();
+    batch
+        .addCase("withPackage")
+        .addInputLines(
+            "foo/Test.java",
+            """
+            package foo;
+
+            public class Test {
+              public Object foo() {
+                return 1;
+              }
+            }
+            """)
+        .addOutputLines(
+            "foo/Test.java",
+            """
+            package foo;
+
+            public class Test {
+              public Object foo() {
+                return null;
+              }
+            }
+            """);
+    batch.doTest();
+  }
+
+  @Test
+  public void batchReportsFailingCase() {
+    BugCheckerRefactoringTestHelper.Batch batch = helper.batch();
+    batch
+        .addCase("passing")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public void foo() {}
+            }
+            """)
+        .expectUnchanged();
+    batch
+        .addCase("failing")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return 1;
+              }
+            }
+            """)
+        .expectUnchanged();
+    AssertionError e = assertThrows(AssertionError.class, batch::doTest);
+    assertThat(e).hasMessageThat().contains("failing");
+    assertThat(e).hasMessageThat().doesNotContain("passing");
+  }
+
+  @Test
+  public void batchRunsCasesTogether_andRerunsFailingCase() {
+    BugCheckerRefactoringTestHelper.Batch batch =
+        BugCheckerRefactoringTestHelper.newInstance(PackageRecordingRefactoring.class, getClass())
+            .batch();
+    batch
+        .addCase("passing")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return 1;
+              }
+            }
+            """)
+        .addOutputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return null;
+              }
+            }
+            """);
+    batch
+        .addCase("failing")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object bar() {
+                return 2;
+              }
+            }
+            """)
+        .expectUnchanged();
+    AssertionError e = assertThrows(AssertionError.class, batch::doTest);
+    assertThat(e).hasMessageThat().contains("Test case failing failed");
+    // Both cases were refactored in one compilation, each in a package of its own, and only the
+    // failing case was run again on its own to report its failure.
+    assertThat(PackageRecordingRefactoring.packages)
+        .containsExactly("batch_case0", "batch_case1", "")
+        .inOrder();
+  }
+
+  @Test
+  public void batchRunsCasesOnTheirOwn_forStatefulChecker() {
+    BugCheckerRefactoringTestHelper.Batch batch =
+        BugCheckerRefactoringTestHelper.newInstance(StatefulRefactoring.class, getClass())
+            .batch();
+    batch
+        .addCase("first")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return 1;
+              }
+            }
+            """)
+        .addOutputLines(
+            "Test.java",
+            """
+            public class Test {
+              public Object foo() {
+                return null;
+              }
+            }
+            """);
+    batch
+        .addCase("second")
+        .addInputLines(
+            "Test.java",
+            """
+            public class Test {
+              public void bar() {}
+            }
+            """)
+        .expectUnchanged();
+    batch.doTest();
+    assertThat(StatefulRefactoring.packages).containsExactly("", "");
+  }
+
+  /** Like {@link PackageRecordingRefactoring}, but with an instance field. */
+  @BugPattern(summary = "Counts returns", severity = SUGGESTION)
+  public static class StatefulRefactoring extends BugChecker
+      implements CompilationUnitTreeMatcher, ReturnTreeMatcher {
+    static final List<String> packages = Collections.synchronizedList(new ArrayList<>());
+
+    private int returns = 0;
+
+    @Override
+    public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+      packages.add(tree.getPackageName() == null ? "" : tree.getPackageName().toString());
+      return Description.NO_MATCH;
+    }
+
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      return buildDescription(tree)
+          .setMessage("Return #" + ++returns)
+          .addFix(SuggestedFix.replace(tree, "return null;"))
+          .build();
+    }
+  }
+
+  /** Like {@link ReturnNullRefactoring}, but records the package of every compilation unit. */
+  @BugPattern(summary = "Records packages", severity = SUGGESTION)
+  public static class PackageRecordingRefactoring extends BugChecker
+      implements CompilationUnitTreeMatcher, ReturnTreeMatcher {
+    static final List<String> packages = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+      packages.add(tree.getPackageName() == null ? "" : tree.getPackageName().toString());
+      return Description.NO_MATCH;
+    }
+
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      return describeMatch(tree, SuggestedFix.replace(tree, "return null;"));
+    }
+  }
+
   /** Mock {@link BugChecker} for testing only. */
   @BugPattern(
       summary = "Mock refactoring that replaces all returns with 'return null;' statement.",
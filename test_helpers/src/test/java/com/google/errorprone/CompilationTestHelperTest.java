@@ -30,12 +30,22 @@ import com.google.errorprone.bugpatterns.BugChecker.ReturnTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.scanner.ScannerSupplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.tree.ReturnTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.api.JavacTaskPool;
 import com.sun.tools.javac.main.Main.Result;
+import com.sun.tools.javac.util.Context;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -502,6 +512,76 @@ public class CompilationTestHelperTest {
     assertThat(expected).hasMessageThat().contains("doTest");
   }
 
+  @Test
+  public void reuseCompilerContexts() {
+    System.setProperty(CompilationTestHelper.REUSE_COMPILER_CONTEXTS_PROPERTY, "true");
+    try {
+      for (int i = 0; i < 3; i++) {
+        // The same class is redefined differently each time, which only works if the source
+        // symbols from the previous compilation were discarded.
+        CompilationTestHelper.newInstance(ReturnTreeChecker.class, getClass())
+            .addSourceLines(
+                "Test.java",
+                "public class Test {",
+                "  public int doIt" + i + "() {",
+                "    // BUG: Diagnostic contains: Method may return normally",
+                "    return " + i + ";",
+                "  }",
+                "}")
+            .doTest();
+        CompilationTestHelper.newInstance(ReturnTreeChecker.class, getClass())
+            .addSourceLines("Test.java", "public class Test extends java.util.ArrayList<String> {}")
+            .doTest();
+      }
+    } finally {
+      System.clearProperty(CompilationTestHelper.REUSE_COMPILER_CONTEXTS_PROPERTY);
+    }
+  }
+
+  @Test
+  public void pooledContext_runsDifferentCheckersInSequence() {
+    JavacTaskPool pool = new JavacTaskPool(1);
+    List<Context> contexts = new ArrayList<>();
+    for (Class<? extends BugChecker> checker :
+        ImmutableList.of(ReturnTreeChecker.class, PackageTreeChecker.class)) {
+      DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+      Set<String> timedChecks =
+          new BaseErrorProneJavaCompiler(ScannerSupplier.fromBugCheckerClasses(checker))
+              .runPooledTask(
+                  pool,
+                  /* out= */ null,
+                  FileManagers.testFileManager(),
+                  diagnostics,
+                  /* options= */ ImmutableList.of(),
+                  /* classes= */ ImmutableList.of(),
+                  ImmutableList.of(
+                      FileObjects.forSourceLines(
+                          "test/Test.java",
+                          "package test;",
+                          "class Test {",
+                          "  int f() {",
+                          "    return 0;",
+                          "  }",
+                          "}")),
+                  task -> {
+                    assertThat(task.call()).isFalse();
+                    Context context = ((BasicJavacTask) task).getContext();
+                    contexts.add(context);
+                    return ErrorProneTimings.instance(context).timings().keySet();
+                  });
+      // Only the current checker ran, its diagnostic is rendered by Error Prone's message bundle,
+      // and the timings of the previous compilation were discarded.
+      assertThat(diagnostics.getDiagnostics()).hasSize(1);
+      assertThat(diagnostics.getDiagnostics().get(0).getMessage(Locale.ENGLISH))
+          .startsWith(
+              String.format(
+                  "[%s] %s",
+                  checker.getSimpleName(), checker.getAnnotation(BugPattern.class).summary()));
+      assertThat(timedChecks).containsExactly(checker.getSimpleName());
+    }
+    assertThat(contexts.get(1)).isSameInstanceAs(contexts.get(0));
+  }
+
   @Test
   public void assertionErrors_causeTestFailures() {
     var compilationTestHelper =
@@ -571,4 +651,66 @@ public class CompilationTestHelperTest {
             """);
     assertThat(e).hasMessageThat().contains("BugPattern: ReplaceVarTypes");
   }
+
+  /** A checker with an eager fix, and a lazy fix that fails if it is ever computed. */
+  @BugPattern(summary = "Return with lazy fix", severity = ERROR)
+  public static class LazyFixReturnChecker extends BugChecker implements ReturnTreeMatcher {
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      return buildDescription(tree)
+          .addFix(SuggestedFix.replace(tree, "return 1;"))
+          .addLazyFix(
+              () -> {
+                throw new AssertionError("lazy fix computed");
+              })
+          .build();
+    }
+  }
+
+  @Test
+  public void lazyFixes_notComputedForDiagnostics() {
+    CompilationTestHelper.newInstance(LazyFixReturnChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            public class Test {
+              public int f() {
+                // BUG: Diagnostic contains: Did you mean 'return 1;'?
+                return 0;
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  /** A checker whose fixes are all lazy, and whose second fix fails if it is ever computed. */
+  @BugPattern(summary = "Return with only lazy fixes", severity = ERROR)
+  public static class OnlyLazyFixesReturnChecker extends BugChecker implements ReturnTreeMatcher {
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      return buildDescription(tree)
+          .addLazyFix(() -> SuggestedFix.replace(tree, "return 2;"))
+          .addLazyFix(
+              () -> {
+                throw new AssertionError("second lazy fix computed");
+              })
+          .build();
+    }
+  }
+
+  @Test
+  public void lazyFixes_firstComputedForDiagnosticsWithoutEagerFixes() {
+    CompilationTestHelper.newInstance(OnlyLazyFixesReturnChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            public class Test {
+              public int f() {
+                // BUG: Diagnostic contains: Did you mean 'return 2;'?
+                return 0;
+              }
+            }
+            """)
+        .doTest();
+  }
 }
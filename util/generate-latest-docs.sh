@@ -35,7 +35,7 @@ rsync -a target/reports/apidocs/ ${GH_PAGES_DIR}/api/latest
 # does not need to be recompiled, the wiki docs will not be generated either.
 mvn clean
 
-mvn -P run-annotation-processor compile site
+mvn compile site
 rsync -a docgen/target/generated-wiki/ ${GH_PAGES_DIR}
 # remove docs from deleted checkers
 rsync --delete -a docgen/target/generated-wiki/bugpattern/ ${GH_PAGES_DIR}/bugpattern/